@@ -64,6 +64,17 @@ public @interface LayoutSpec {
    */
   boolean isPureRender() default false;
 
+  /**
+   * @return Boolean indicating whether the layout of the component is static: its {@link
+   * OnCreateLayout} method only takes a ComponentContext and builds the same layout every time,
+   * no matter which instance of the component it is called for. The layout is then only created
+   * once per Android Context and every instance of the component lays out a copy of it, instead of
+   * running the builders of its layout again.
+   *
+   * A static spec can't declare props, state, tree props, injected props, events or triggers.
+   */
+  boolean isStatic() default false;
+
   /**
    * @return List of event POJOs this component can dispatch. Used to generate event dispatch
    * methods.
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2017-present, Facebook, Inc.
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree. An additional grant
+ * of patent rights can be found in the PATENTS file in the same directory.
+ */
+
+package com.facebook.litho.annotations;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+/**
+ * Annotates a method of a {@link MountSpec} that applies some of its props to content that is
+ * already mounted. When a component is updated and the only props that changed are the ones this
+ * method takes, it's called with their new values instead of unmounting and mounting the content
+ * again. Its first two parameters are the ComponentContext and the mounted content, as for {@link
+ * OnMount}.
+ *
+ * <p>The content must end up as it would if it had been mounted again, so only the props this
+ * method fully applies, and which don't change the values the other lifecycle methods compute,
+ * should be declared.
+ */
+@Retention(RetentionPolicy.CLASS)
+public @interface OnUpdateProps {
+
+}
@@ -57,4 +57,14 @@ public @interface Prop {
    * should be a parameterized list with a resource type of {@code resType = ResType.NONE}.
    */
   String varArg() default "";
+
+  /**
+   * Leaves this prop out of the fingerprint of the component's props, so that it is only compared
+   * by isEquivalentTo.
+   *
+   * Props are fingerprinted through their {@link Object#hashCode()}, which should be avoided for
+   * props that are expensive to hash, such as large collections, or whose hashCode isn't consistent
+   * with their equals.
+   */
+  boolean excludeFromFingerprint() default false;
 }
@@ -45,7 +45,11 @@ public final class Column extends Component {
   private static final Pools.SynchronizedPool<Builder> sBuilderPool =
       new Pools.SynchronizedPool<>(2);
 
-  private Column() {}
+  private static final int TYPE_ID = newTypeId();
+
+  private Column() {
+    super(TYPE_ID);
+  }
 
   @Override
   public String getSimpleName() {
@@ -108,6 +112,19 @@ public final class Column extends Component {
     return node;
   }
 
+  @Override
+  public Column makeTemplateCopy() {
+    final Column column = (Column) super.makeTemplateCopy();
+    if (children != null) {
+      column.children = new ArrayList<>(children.size());
+      for (Component child : children) {
+        column.children.add(child.makeTemplateCopy());
+      }
+    }
+
+    return column;
+  }
+
   @Override
   public boolean isEquivalentTo(Component other) {
     if (this == other) {
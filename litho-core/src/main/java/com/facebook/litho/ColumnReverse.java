@@ -45,7 +45,11 @@ public final class ColumnReverse extends Component {
   private static final Pools.SynchronizedPool<Builder> sBuilderPool =
       new Pools.SynchronizedPool<>(2);
 
-  private ColumnReverse() {}
+  private static final int TYPE_ID = newTypeId();
+
+  private ColumnReverse() {
+    super(TYPE_ID);
+  }
 
   @Override
   public String getSimpleName() {
@@ -108,6 +112,19 @@ public final class ColumnReverse extends Component {
     return node;
   }
 
+  @Override
+  public ColumnReverse makeTemplateCopy() {
+    final ColumnReverse columnReverse = (ColumnReverse) super.makeTemplateCopy();
+    if (children != null) {
+      columnReverse.children = new ArrayList<>(children.size());
+      for (Component child : children) {
+        columnReverse.children.add(child.makeTemplateCopy());
+      }
+    }
+
+    return columnReverse;
+  }
+
   @Override
   public boolean isEquivalentTo(Component other) {
     if (this == other) {
@@ -22,8 +22,6 @@ import com.facebook.yoga.YogaAlign;
 import com.facebook.yoga.YogaDirection;
 import com.facebook.yoga.YogaEdge;
 import com.facebook.yoga.YogaPositionType;
-import java.util.ArrayList;
-import java.util.List;
 
 /** Internal class that holds props that are common to all {@link Component}s. */
 @ThreadConfined(ThreadConfined.ANY)
@@ -31,7 +29,6 @@ class CommonProps {
 
   // Flags used to indicate that a certain attribute was explicitly set on the node.
   private static final byte PFLAG_POSITION_TYPE_IS_SET = 1 << 1;
-  private static final byte PFLAG_POSITION_IS_SET = 1 << 2;
   private static final byte PFLAG_WIDTH_IS_SET = 1 << 3;
   private static final byte PFLAG_HEIGHT_IS_SET = 1 << 4;
   private static final byte PFLAG_BACKGROUND_IS_SET = 1 << 5;
@@ -43,7 +40,6 @@ class CommonProps {
   @Nullable private NodeInfo mNodeInfo;
 
   private YogaPositionType mPositionType;
-  @Nullable private YogaEdgesWithInts mPositions;
   private int mWidthPx;
   private int mHeightPx;
   private Reference<? extends Drawable> mBackground;
@@ -52,6 +48,26 @@ class CommonProps {
   @AttrRes private int mDefStyleAttr;
   @StyleRes private int mDefStyleRes;
 
+  // Props set per YogaEdge are kept in two flat tables, instead of an object per prop, as most
+  // components set a margin or a padding. Each prop has a slot for every edge, at
+  // prop * EDGE_COUNT + edge, and each slot that was set is flagged in mEdgeValuesSetFlags.
+  private static final int EDGE_COUNT = YogaEdge.values().length;
+  private static final int EDGE_PROP_POSITION_PX = 0;
+  private static final int EDGE_PROP_MARGIN_PX = 1;
+  private static final int EDGE_PROP_PADDING_PX = 2;
+  private static final int EDGE_PROP_TOUCH_EXPANSION_PX = 3;
+  private static final int EDGE_PX_PROP_COUNT = 4;
+  private static final int EDGE_PROP_POSITION_PERCENT = 4;
+  private static final int EDGE_PROP_MARGIN_PERCENT = 5;
+  private static final int EDGE_PROP_PADDING_PERCENT = 6;
+  private static final int EDGE_PERCENT_PROP_COUNT = 3;
+
+  private long mEdgeValuesSetFlags;
+  @Nullable private int[] mEdgePxValues;
+  @Nullable private float[] mEdgePercentValues;
+  // Edges with an auto margin, flagged by their int value.
+  private int mMarginAutoEdges;
+
   private OtherProps getOrCreateOtherProps() {
     if (mOtherProps == null) {
       mOtherProps = new OtherProps();
@@ -81,12 +97,7 @@ class CommonProps {
   }
 
   void positionPx(YogaEdge edge, @Px int position) {
-    mPrivateFlags |= PFLAG_POSITION_IS_SET;
-    if (mPositions == null) {
-      mPositions = new YogaEdgesWithInts();
-    }
-
-    mPositions.add(edge, position);
+    setEdgePx(EDGE_PROP_POSITION_PX, edge, position);
   }
 
   void widthPx(@Px int width) {
@@ -150,23 +161,23 @@ class CommonProps {
   }
 
   void marginPx(YogaEdge edge, @Px int margin) {
-    getOrCreateOtherProps().marginPx(edge, margin);
+    setEdgePx(EDGE_PROP_MARGIN_PX, edge, margin);
   }
 
   void marginPercent(YogaEdge edge, float percent) {
-    getOrCreateOtherProps().marginPercent(edge, percent);
+    setEdgePercent(EDGE_PROP_MARGIN_PERCENT, edge, percent);
   }
 
   void marginAuto(YogaEdge edge) {
-    getOrCreateOtherProps().marginAuto(edge);
+    mMarginAutoEdges |= 1 << edge.intValue();
   }
 
   void paddingPx(YogaEdge edge, @Px int padding) {
-    getOrCreateOtherProps().paddingPx(edge, padding);
+    setEdgePx(EDGE_PROP_PADDING_PX, edge, padding);
   }
 
   void paddingPercent(YogaEdge edge, float percent) {
-    getOrCreateOtherProps().paddingPercent(edge, percent);
+    setEdgePercent(EDGE_PROP_PADDING_PERCENT, edge, percent);
   }
 
   void border(Border border) {
@@ -174,7 +185,7 @@ class CommonProps {
   }
 
   void positionPercent(YogaEdge edge, float percent) {
-    getOrCreateOtherProps().positionPercent(edge, percent);
+    setEdgePercent(EDGE_PROP_POSITION_PERCENT, edge, percent);
   }
 
   void widthPercent(float percent) {
@@ -222,7 +233,7 @@ class CommonProps {
   }
 
   void touchExpansionPx(YogaEdge edge, @Px int touchExpansion) {
-    getOrCreateOtherProps().touchExpansionPx(edge, touchExpansion);
+    setEdgePx(EDGE_PROP_TOUCH_EXPANSION_PX, edge, touchExpansion);
   }
 
   void foreground(Drawable foreground) {
@@ -369,6 +380,77 @@ class CommonProps {
     getOrCreateOtherProps().transitionKey(key);
   }
 
+  private void setEdgePx(int prop, YogaEdge edge, @Px int value) {
+    if (mEdgePxValues == null) {
+      mEdgePxValues = new int[EDGE_PX_PROP_COUNT * EDGE_COUNT];
+    }
+
+    final int slot = prop * EDGE_COUNT + edge.intValue();
+    mEdgeValuesSetFlags |= 1L << slot;
+    mEdgePxValues[slot] = value;
+  }
+
+  private void setEdgePercent(int prop, YogaEdge edge, float value) {
+    if (mEdgePercentValues == null) {
+      mEdgePercentValues = new float[EDGE_PERCENT_PROP_COUNT * EDGE_COUNT];
+    }
+
+    final int slot = prop * EDGE_COUNT + edge.intValue();
+    mEdgeValuesSetFlags |= 1L << slot;
+    mEdgePercentValues[slot - EDGE_PX_PROP_COUNT * EDGE_COUNT] = value;
+  }
+
+  private boolean isEdgeValueSet(int prop, int edge) {
+    return (mEdgeValuesSetFlags & (1L << (prop * EDGE_COUNT + edge))) != 0L;
+  }
+
+  private int getEdgePx(int prop, int edge) {
+    return mEdgePxValues[prop * EDGE_COUNT + edge];
+  }
+
+  private float getEdgePercent(int prop, int edge) {
+    return mEdgePercentValues[(prop - EDGE_PX_PROP_COUNT) * EDGE_COUNT + edge];
+  }
+
+  /**
+   * Pixel values of an edge are copied before percentages, and margins before auto margins, so
+   * that the last one wins if both were set on the same edge.
+   */
+  private void copyEdgeValuesInto(InternalNode node) {
+    if (mEdgeValuesSetFlags == 0L && mMarginAutoEdges == 0) {
+      return;
+    }
+
+    for (int i = 0; i < EDGE_COUNT; i++) {
+      final YogaEdge edge = YogaEdge.fromInt(i);
+
+      if (isEdgeValueSet(EDGE_PROP_POSITION_PX, i)) {
+        node.positionPx(edge, getEdgePx(EDGE_PROP_POSITION_PX, i));
+      }
+      if (isEdgeValueSet(EDGE_PROP_POSITION_PERCENT, i)) {
+        node.positionPercent(edge, getEdgePercent(EDGE_PROP_POSITION_PERCENT, i));
+      }
+      if (isEdgeValueSet(EDGE_PROP_MARGIN_PX, i)) {
+        node.marginPx(edge, getEdgePx(EDGE_PROP_MARGIN_PX, i));
+      }
+      if (isEdgeValueSet(EDGE_PROP_MARGIN_PERCENT, i)) {
+        node.marginPercent(edge, getEdgePercent(EDGE_PROP_MARGIN_PERCENT, i));
+      }
+      if ((mMarginAutoEdges & (1 << i)) != 0) {
+        node.marginAuto(edge);
+      }
+      if (isEdgeValueSet(EDGE_PROP_PADDING_PX, i)) {
+        node.paddingPx(edge, getEdgePx(EDGE_PROP_PADDING_PX, i));
+      }
+      if (isEdgeValueSet(EDGE_PROP_PADDING_PERCENT, i)) {
+        node.paddingPercent(edge, getEdgePercent(EDGE_PROP_PADDING_PERCENT, i));
+      }
+      if (isEdgeValueSet(EDGE_PROP_TOUCH_EXPANSION_PX, i)) {
+        node.touchExpansionPx(edge, getEdgePx(EDGE_PROP_TOUCH_EXPANSION_PX, i));
+      }
+    }
+  }
+
   private NodeInfo getOrCreateNodeInfo() {
     if (mNodeInfo == null) {
       mNodeInfo = NodeInfo.acquire();
@@ -393,11 +475,6 @@ class CommonProps {
     if ((mPrivateFlags & PFLAG_POSITION_TYPE_IS_SET) != 0L) {
       node.positionType(mPositionType);
     }
-    if ((mPrivateFlags & PFLAG_POSITION_IS_SET) != 0L) {
-      for (int i = 0; i < mPositions.mNumEntries; i++) {
-        node.positionPx(mPositions.mEdges[i], mPositions.mValues[i]);
-      }
-    }
     if ((mPrivateFlags & PFLAG_WIDTH_IS_SET) != 0L) {
       node.widthPx(mWidthPx);
     }
@@ -412,6 +489,8 @@ class CommonProps {
     if (mOtherProps != null) {
       mOtherProps.copyInto(node);
     }
+
+    copyEdgeValuesInto(node);
   }
 
   private static class OtherProps {
@@ -424,9 +503,6 @@ class CommonProps {
     private static final long PFLAG_FLEX_BASIS_IS_SET = 1L << 5;
     private static final long PFLAG_IMPORTANT_FOR_ACCESSIBILITY_IS_SET = 1L << 6;
     private static final long PFLAG_DUPLICATE_PARENT_STATE_IS_SET = 1L << 7;
-    private static final long PFLAG_MARGIN_IS_SET = 1L << 8;
-    private static final long PFLAG_PADDING_IS_SET = 1L << 9;
-    private static final long PFLAG_POSITION_PERCENT_IS_SET = 1L << 10;
     private static final long PFLAG_MIN_WIDTH_IS_SET = 1L << 11;
     private static final long PFLAG_MAX_WIDTH_IS_SET = 1L << 12;
     private static final long PFLAG_MIN_HEIGHT_IS_SET = 1L << 13;
@@ -437,16 +513,12 @@ class CommonProps {
     private static final long PFLAG_FULL_IMPRESSION_HANDLER_IS_SET = 1L << 18;
     private static final long PFLAG_INVISIBLE_HANDLER_IS_SET = 1L << 19;
     private static final long PFLAG_UNFOCUSED_HANDLER_IS_SET = 1L << 20;
-    private static final long PFLAG_TOUCH_EXPANSION_IS_SET = 1L << 21;
     private static final long PFLAG_ASPECT_RATIO_IS_SET = 1L << 22;
     private static final long PFLAG_TRANSITION_KEY_IS_SET = 1L << 23;
     private static final long PFLAG_WRAP_IN_VIEW_IS_SET = 1L << 24;
     private static final long PFLAG_VISIBLE_HEIGHT_RATIO_IS_SET = 1L << 25;
     private static final long PFLAG_VISIBLE_WIDTH_RATIO_IS_SET = 1L << 26;
     private static final long PFLAG_FLEX_BASIS_PERCENT_IS_SET = 1L << 27;
-    private static final long PFLAG_MARGIN_PERCENT_IS_SET = 1L << 28;
-    private static final long PFLAG_MARGIN_AUTO_IS_SET = 1L << 29;
-    private static final long PFLAG_PADDING_PERCENT_IS_SET = 1L << 30;
     private static final long PFLAG_WIDTH_PERCENT_IS_SET = 1L << 31;
     private static final long PFLAG_MIN_WIDTH_PERCENT_IS_SET = 1L << 32;
     private static final long PFLAG_MAX_WIDTH_PERCENT_IS_SET = 1L << 33;
@@ -473,13 +545,6 @@ class CommonProps {
     private float mFlexBasisPercent;
     private int mImportantForAccessibility;
     private boolean mDuplicateParentState;
-    @Nullable private YogaEdgesWithInts mMargins;
-    @Nullable private YogaEdgesWithFloats mMarginPercents;
-    @Nullable private List<YogaEdge> mMarginAutos;
-    @Nullable private YogaEdgesWithInts mPaddings;
-    @Nullable private YogaEdgesWithFloats mPaddingPercents;
-    @Nullable private YogaEdgesWithFloats mPositionPercents;
-    @Nullable private YogaEdgesWithInts mTouchExpansions;
     @Nullable private float mWidthPercent;
     @Px private int mMinWidthPx;
     private float mMinWidthPercent;
@@ -540,60 +605,11 @@ class CommonProps {
       mDuplicateParentState = duplicateParentState;
     }
 
-    private void marginPx(YogaEdge edge, @Px int margin) {
-      mPrivateFlags |= PFLAG_MARGIN_IS_SET;
-
-      if (mMargins == null) {
-        mMargins = new YogaEdgesWithInts();
-      }
-      mMargins.add(edge, margin);
-    }
-
-    private void marginPercent(YogaEdge edge, float percent) {
-      mPrivateFlags |= PFLAG_MARGIN_PERCENT_IS_SET;
-      if (mMarginPercents == null) {
-        mMarginPercents = new YogaEdgesWithFloats();
-      }
-      mMarginPercents.add(edge, percent);
-    }
-
-    private void marginAuto(YogaEdge edge) {
-      mPrivateFlags |= PFLAG_MARGIN_AUTO_IS_SET;
-      if (mMarginAutos == null) {
-        mMarginAutos = new ArrayList<>(2);
-      }
-      mMarginAutos.add(edge);
-    }
-
-    private void paddingPx(YogaEdge edge, @Px int padding) {
-      mPrivateFlags |= PFLAG_PADDING_IS_SET;
-      if (mPaddings == null) {
-        mPaddings = new YogaEdgesWithInts();
-      }
-      mPaddings.add(edge, padding);
-    }
-
-    private void paddingPercent(YogaEdge edge, float percent) {
-      mPrivateFlags |= PFLAG_PADDING_PERCENT_IS_SET;
-      if (mPaddingPercents == null) {
-        mPaddingPercents = new YogaEdgesWithFloats();
-      }
-      mPaddingPercents.add(edge, percent);
-    }
-
     private void border(Border border) {
       mPrivateFlags |= PFLAG_BORDER_IS_SET;
       mBorder = border;
     }
 
-    private void positionPercent(YogaEdge edge, float percent) {
-      mPrivateFlags |= PFLAG_POSITION_PERCENT_IS_SET;
-      if (mPositionPercents == null) {
-        mPositionPercents = new YogaEdgesWithFloats();
-      }
-      mPositionPercents.add(edge, percent);
-    }
-
     private void widthPercent(float percent) {
       mPrivateFlags |= PFLAG_WIDTH_PERCENT_IS_SET;
       mWidthPercent = percent;
@@ -649,14 +665,6 @@ class CommonProps {
       mAspectRatio = aspectRatio;
     }
 
-    private void touchExpansionPx(YogaEdge edge, @Px int touchExpansion) {
-      mPrivateFlags |= PFLAG_TOUCH_EXPANSION_IS_SET;
-      if (mTouchExpansions == null) {
-        mTouchExpansions = new YogaEdgesWithInts();
-      }
-      mTouchExpansions.add(edge, touchExpansion);
-    }
-
     private void foreground(Drawable foreground) {
       mPrivateFlags |= PFLAG_FOREGROUND_IS_SET;
       mForeground = foreground;
@@ -746,11 +754,6 @@ class CommonProps {
       if ((mPrivateFlags & PFLAG_ALIGN_SELF_IS_SET) != 0L) {
         node.alignSelf(mAlignSelf);
       }
-      if ((mPrivateFlags & PFLAG_POSITION_PERCENT_IS_SET) != 0L) {
-        for (int i = 0; i < mPositionPercents.mNumEntries; i++) {
-          node.positionPercent(mPositionPercents.mEdges[i], mPositionPercents.mValues[i]);
-        }
-      }
       if ((mPrivateFlags & PFLAG_FLEX_IS_SET) != 0L) {
         node.flex(mFlex);
       }
@@ -799,97 +802,9 @@ class CommonProps {
       if ((mPrivateFlags & PFLAG_ASPECT_RATIO_IS_SET) != 0L) {
         node.aspectRatio(mAspectRatio);
       }
-      if ((mPrivateFlags & PFLAG_MARGIN_IS_SET) != 0L) {
-        for (int i = 0; i < mMargins.mNumEntries; i++) {
-          node.marginPx(mMargins.mEdges[i], mMargins.mValues[i]);
-        }
-      }
-      if ((mPrivateFlags & PFLAG_MARGIN_PERCENT_IS_SET) != 0L) {
-        for (int i = 0; i < mMarginPercents.mNumEntries; i++) {
-          node.marginPercent(mMarginPercents.mEdges[i], mMarginPercents.mValues[i]);
-        }
-      }
-      if ((mPrivateFlags & PFLAG_MARGIN_AUTO_IS_SET) != 0L) {
-        for (YogaEdge edge : mMarginAutos) {
-          node.marginAuto(edge);
-        }
-      }
-      if ((mPrivateFlags & PFLAG_PADDING_IS_SET) != 0L) {
-        for (int i = 0; i < mPaddings.mNumEntries; i++) {
-          node.paddingPx(mPaddings.mEdges[i], mPaddings.mValues[i]);
-        }
-      }
-      if ((mPrivateFlags & PFLAG_PADDING_PERCENT_IS_SET) != 0L) {
-        for (int i = 0; i < mPaddingPercents.mNumEntries; i++) {
-          node.paddingPercent(mPaddingPercents.mEdges[i], mPaddingPercents.mValues[i]);
-        }
-      }
-      if ((mPrivateFlags & PFLAG_TOUCH_EXPANSION_IS_SET) != 0L) {
-        for (int i = 0; i < mTouchExpansions.mNumEntries; i++) {
-          node.touchExpansionPx(mTouchExpansions.mEdges[i], mTouchExpansions.mValues[i]);
-        }
-      }
       if ((mPrivateFlags & PFLAG_BORDER_IS_SET) != 0L) {
         node.border(mBorder);
       }
     }
   }
-
-  static class YogaEdgesWithInts {
-    YogaEdge[] mEdges = new YogaEdge[2];
-    int[] mValues = new int[2];
-    int mNumEntries;
-    int mSize = 2;
-
-    void add(YogaEdge yogaEdge, int value) {
-      if (mNumEntries == mSize) {
-        increaseSize();
-      }
-
-      mEdges[mNumEntries] = yogaEdge;
-      mValues[mNumEntries] = value;
-      mNumEntries++;
-    }
-
-    private void increaseSize() {
-      YogaEdge[] oldEdges = mEdges;
-      int[] oldValues = mValues;
-
-      mSize *= 2;
-      mEdges = new YogaEdge[mSize];
-      mValues = new int[mSize];
-
-      System.arraycopy(oldEdges, 0, mEdges, 0, mNumEntries);
-      System.arraycopy(oldValues, 0, mValues, 0, mNumEntries);
-    }
-  }
-
-  private static class YogaEdgesWithFloats {
-    private YogaEdge[] mEdges = new YogaEdge[2];
-    private float[] mValues = new float[2];
-    private int mNumEntries;
-    private int mSize = 2;
-
-    private void add(YogaEdge yogaEdge, float value) {
-      if (mNumEntries == mSize) {
-        increaseSize();
-      }
-
-      mEdges[mNumEntries] = yogaEdge;
-      mValues[mNumEntries] = value;
-      mNumEntries++;
-    }
-
-    private void increaseSize() {
-      YogaEdge[] oldEdges = mEdges;
-      float[] oldValues = mValues;
-
-      mSize *= 2;
-      mEdges = new YogaEdge[mSize];
-      mValues = new float[mSize];
-
-      System.arraycopy(oldEdges, 0, mEdges, 0, mNumEntries);
-      System.arraycopy(oldValues, 0, mValues, 0, mNumEntries);
-    }
-  }
 }
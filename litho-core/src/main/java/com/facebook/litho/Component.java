@@ -25,6 +25,7 @@ import android.support.annotation.StringRes;
 import android.support.annotation.StyleRes;
 import android.support.annotation.VisibleForTesting;
 import android.util.SparseArray;
+import android.util.SparseIntArray;
 import android.view.ViewOutlineProvider;
 import com.facebook.infer.annotation.ReturnsOwnership;
 import com.facebook.infer.annotation.ThreadConfined;
@@ -41,9 +42,7 @@ import com.facebook.yoga.YogaWrap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.BitSet;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.Nullable;
 
@@ -56,7 +55,8 @@ public abstract class Component extends ComponentLifecycle
     implements Cloneable, HasEventDispatcher, HasEventTrigger, ComponentLayout {
 
   private static final AtomicInteger sIdGenerator = new AtomicInteger(0);
-  private int mId = sIdGenerator.getAndIncrement();
+  // Not assigned by a field initializer, so that copies don't consume an id they won't use.
+  private int mId;
   private String mGlobalKey;
   @Nullable private String mKey;
   private boolean mHasManualKey;
@@ -73,15 +73,25 @@ public abstract class Component extends ComponentLifecycle
   @Nullable private CommonProps mCommonProps;
 
   /**
-   * Holds onto how many direct component children of each type this Component has. Used for
-   * automatically generating unique global keys for all sibling components of the same type.
+   * Holds onto how many direct component children of each type this Component has, by type id.
+   * Used for automatically generating unique global keys for all sibling components of the same
+   * type. Only allocated once two children end up with the same key.
    */
-  @Nullable private Map<String, Integer> mChildCounters;
+  @Nullable private SparseIntArray mChildCounters;
 
   // Keep hold of the layout that we resolved during will render in order to use it again in
   // createLayout.
   @Nullable ActualComponentLayout mLayoutCreatedInWillRender;
 
+  // The layout returned by onCreateLayout the last time this component was laid out, and the tree
+  // props it was created with. See MemoizedLayouts.
+  @Nullable private Component mMemoizedLayout;
+  @Nullable private TreeProps mMemoizedLayoutTreeProps;
+
+  // Written before mHasPropsFingerprint, so that a thread that sees the flag also sees the value.
+  private long mPropsFingerprint;
+  private volatile boolean mHasPropsFingerprint;
+
   protected Component() {
     this(null);
   }
@@ -92,12 +102,41 @@ public abstract class Component extends ComponentLifecycle
    */
   protected Component(Class classType) {
     super(classType);
+    mId = sIdGenerator.getAndIncrement();
     if (!ComponentsConfiguration.lazyInitializeComponent) {
-    mChildCounters = new HashMap<>();
       mKey = Integer.toString(getTypeId());
     }
   }
 
+  /** Used by generated components, see {@link ComponentLifecycle#ComponentLifecycle(int)}. */
+  protected Component(int typeId) {
+    super(typeId);
+    mId = sIdGenerator.getAndIncrement();
+    if (!ComponentsConfiguration.lazyInitializeComponent) {
+      mKey = Integer.toString(getTypeId());
+    }
+  }
+
+  /**
+   * Copy constructor, creates a shallow copy of source as {@link #makeShallowCopy()} describes.
+   * Generated components call it from their own copy constructor, which copies their props, state
+   * and inter-stage fields, see {@link #createShallowCopy()}.
+   */
+  protected Component(Component source) {
+    super(source);
+    mId = source.mId;
+    mGlobalKey = source.mGlobalKey;
+    mKey = source.mKey;
+    mScopedContext = source.mScopedContext;
+    mLastMeasuredLayout = source.mLastMeasuredLayout;
+    mCommonProps = source.mCommonProps;
+    mLayoutCreatedInWillRender = source.mLayoutCreatedInWillRender;
+    mMemoizedLayout = source.mMemoizedLayout;
+    mMemoizedLayoutTreeProps = source.mMemoizedLayoutTreeProps;
+    mPropsFingerprint = source.mPropsFingerprint;
+    mHasPropsFingerprint = source.mHasPropsFingerprint;
+  }
+
   /**
    * Mostly used by logging to provide more readable messages.
    */
@@ -117,6 +156,34 @@ public abstract class Component extends ComponentLifecycle
     return this == other;
   }
 
+  /**
+   * A fingerprint of the props of this component, computed the first time it is needed and cached
+   * for the lifetime of the instance. Two components of the same type with different fingerprints
+   * are never equivalent, which lets {@link #isEquivalentTo(Component)} bail out without comparing
+   * every prop, and lets layout or measure caches use it as part of their key. Components with the
+   * same fingerprint still need to be compared with {@link #isEquivalentTo(Component)}.
+   *
+   * <p>Must only be called once the component is built, as the props it was computed from are
+   * expected not to change afterwards.
+   */
+  public final long getPropsFingerprint() {
+    if (!mHasPropsFingerprint) {
+      mPropsFingerprint = computePropsFingerprint();
+      mHasPropsFingerprint = true;
+    }
+
+    return mPropsFingerprint;
+  }
+
+  /**
+   * Generated components fold the props they compare by value in {@link
+   * #isEquivalentTo(Component)} into a single value here. It must be consistent with
+   * isEquivalentTo: equivalent components must have the same fingerprint.
+   */
+  protected long computePropsFingerprint() {
+    return 0;
+  }
+
   protected StateContainer getStateContainer() {
     return null;
   }
@@ -221,17 +288,17 @@ public abstract class Component extends ComponentLifecycle
       }
     }
 
-    final String childType = component.getSimpleName();
+    final int childType = component.getTypeId();
 
     if (mChildCounters == null) {
-      mChildCounters = new HashMap<>();
+      mChildCounters = new SparseIntArray();
     }
 
     /**
      * If the key is a duplicate, we start appending an index based on the child component's type
      * that would uniquely identify it.
      */
-    int childIndex = mChildCounters.containsKey(childType) ? mChildCounters.get(childType) : 0;
+    int childIndex = mChildCounters.get(childType, 0);
 
     /**
      * Specs that implement {@link com.facebook.litho.annotations.OnCreateLayoutWithSizeSpec} will
@@ -259,13 +326,26 @@ public abstract class Component extends ComponentLifecycle
     }
   }
 
+  /**
+   * @return a shallow copy of this component created through its copy constructor, see {@link
+   *     #Component(Component)}, or null if it can only be copied with {@link Object#clone()}.
+   *     Generated components override it.
+   */
+  @Nullable
+  protected Component createShallowCopy() {
+    return null;
+  }
+
   public Component makeShallowCopy() {
+    final Component copy = createShallowCopy();
+    if (copy != null) {
+      return copy;
+    }
+
     try {
       final Component component = (Component) super.clone();
       component.mIsLayoutStarted = false;
-      if (!ComponentsConfiguration.lazyInitializeComponent) {
-        component.mChildCounters = new HashMap<>();
-      }
+      component.mChildCounters = null;
       component.mHasManualKey = false;
 
       return component;
@@ -275,6 +355,16 @@ public abstract class Component extends ComponentLifecycle
     }
   }
 
+  /**
+   * @return a copy of this component and of the components it holds, which can be laid out
+   *     independently of this one. Used to lay out the shared layout of components whose layout is
+   *     static, see {@link ComponentLifecycle#hasStaticLayout()}. Components holding other
+   *     components override it to copy them too.
+   */
+  public Component makeTemplateCopy() {
+    return makeShallowCopy();
+  }
+
   Component makeShallowCopyWithNewId() {
     final Component component = makeShallowCopy();
     component.mId = sIdGenerator.incrementAndGet();
@@ -302,6 +392,26 @@ public abstract class Component extends ComponentLifecycle
     mLastMeasuredLayout = null;
   }
 
+  @Nullable
+  Component getMemoizedLayout() {
+    return mMemoizedLayout;
+  }
+
+  @Nullable
+  TreeProps getMemoizedLayoutTreeProps() {
+    return mMemoizedLayoutTreeProps;
+  }
+
+  void setMemoizedLayout(Component layout, @Nullable TreeProps treeProps) {
+    mMemoizedLayout = layout;
+    mMemoizedLayoutTreeProps = treeProps;
+  }
+
+  void clearMemoizedLayout() {
+    mMemoizedLayout = null;
+    mMemoizedLayoutTreeProps = null;
+  }
+
   void release() {
     mIsLayoutStarted = false;
   }
@@ -48,6 +48,9 @@ public class ComponentContext extends ContextWrapper {
   @ThreadConfined(ThreadConfined.ANY)
   private ComponentTree mComponentTree;
 
+  @ThreadConfined(ThreadConfined.ANY)
+  private MemoizedLayouts mMemoizedLayouts;
+
   // Used to hold styling information applied to components
   @StyleRes
   @ThreadConfined(ThreadConfined.ANY)
@@ -108,6 +111,7 @@ public class ComponentContext extends ContextWrapper {
       mHeightSpec = componentContext.mHeightSpec;
       mComponentScope = componentContext.mComponentScope;
       mComponentTree = componentContext.mComponentTree;
+      mMemoizedLayouts = componentContext.mMemoizedLayouts;
     } else {
       mResourceCache = ResourceCache.getLatest(context.getResources().getConfiguration());
     }
@@ -128,6 +132,15 @@ public class ComponentContext extends ContextWrapper {
     return componentContext;
   }
 
+  static ComponentContext withMemoizedLayouts(
+      ComponentContext context,
+      MemoizedLayouts memoizedLayouts) {
+    final ComponentContext componentContext = context.makeNewCopy();
+    componentContext.mMemoizedLayouts = memoizedLayouts;
+
+    return componentContext;
+  }
+
   /**
    * Creates a new ComponentContext instance scoped to the given component and sets it on the
    *  component.
@@ -313,6 +326,11 @@ public class ComponentContext extends ContextWrapper {
     return mKeyHandler;
   }
 
+  @Nullable
+  MemoizedLayouts getMemoizedLayouts() {
+    return mMemoizedLayouts;
+  }
+
   void applyStyle(InternalNode node, @AttrRes int defStyleAttr, @StyleRes int defStyleRes) {
     if (defStyleAttr != 0 || defStyleRes != 0) {
       setDefStyle(defStyleAttr, defStyleRes);
@@ -42,6 +42,9 @@ public abstract class ComponentLifecycle implements EventDispatcher, EventTrigge
   private static final AtomicInteger sComponentTypeId = new AtomicInteger();
   private static final int DEFAULT_MAX_PREALLOCATION = 3;
 
+  /** Returned by {@link #getChangedProps(Component)} when the change isn't limited to props. */
+  protected static final long ALL_PROPS_CHANGED = ~0L;
+
   public enum MountType {
     NONE,
     DRAWABLE,
@@ -189,6 +192,27 @@ public abstract class ComponentLifecycle implements EventDispatcher, EventTrigge
     }
   }
 
+  /**
+   * Used by generated components, which look up their type id once for their class through {@link
+   * #newTypeId()} so that creating an instance takes no lock.
+   */
+  protected ComponentLifecycle(int typeId) {
+    mTypeId = typeId;
+  }
+
+  /** @return a type id no other component type uses. */
+  protected static int newTypeId() {
+    return sComponentTypeId.incrementAndGet();
+  }
+
+  /**
+   * Copy constructor, used by {@link Component#Component(Component)} to create a copy of source
+   * without looking up the type id of its class again.
+   */
+  protected ComponentLifecycle(ComponentLifecycle source) {
+    mTypeId = source.mTypeId;
+  }
+
   int getTypeId() {
     return mTypeId;
   }
@@ -218,6 +242,31 @@ public abstract class ComponentLifecycle implements EventDispatcher, EventTrigge
     onUnmount(c, mountedContent);
   }
 
+  /**
+   * Updates the content previously mounted with the props of this component, if the only props that
+   * changed can be updated through {@link #onUpdateProps(ComponentContext, Object)}.
+   *
+   * @return false if the content needs to be unmounted and mounted again instead.
+   */
+  boolean updateProps(ComponentContext c, Object mountedContent, Component previous) {
+    final long updatableProps = getUpdatableProps();
+    if (updatableProps == 0) {
+      return false;
+    }
+
+    // When no prop changed the update was requested for another reason, e.g. a new layout, that
+    // only a remount handles.
+    final long changedProps = getChangedProps(previous);
+    if (changedProps == 0 || (changedProps & ~updatableProps) != 0) {
+      return false;
+    }
+
+    c.enterNoStateUpdatesMethod("updateProps");
+    onUpdateProps(c, mountedContent);
+    c.exitNoStateUpdatesMethod();
+    return true;
+  }
+
   /**
    * Create a layout from the given component.
    *
@@ -257,6 +306,11 @@ public abstract class ComponentLifecycle implements EventDispatcher, EventTrigge
         componentLayout =
             onCreateLayoutWithSizeSpec(
                 context, context.getWidthSpec(), context.getHeightSpec());
+      } else if (hasStaticLayout()) {
+        componentLayout = StaticLayoutTemplates.instantiate(context, (Component) this);
+      } else if (context.getMemoizedLayouts() != null
+          && MemoizedLayouts.canMemoizeLayout((Component) this)) {
+        componentLayout = context.getMemoizedLayouts().createLayout(context, (Component) this);
       } else {
         componentLayout = onCreateLayout(context);
       }
@@ -527,6 +581,31 @@ public abstract class ComponentLifecycle implements EventDispatcher, EventTrigge
     // Do nothing by default.
   }
 
+  /**
+   * Applies the props returned by {@link #getUpdatableProps()} to content that was mounted by a
+   * previous instance of this component.
+   */
+  protected void onUpdateProps(ComponentContext c, Object mountedContent) {
+    // Do nothing by default.
+  }
+
+  /**
+   * @return a mask of the props of this component that aren't equivalent to the ones of previous,
+   *     each prop having its own bit, or {@link #ALL_PROPS_CHANGED} if anything else the mounted
+   *     content depends on changed.
+   */
+  protected long getChangedProps(Component previous) {
+    return ALL_PROPS_CHANGED;
+  }
+
+  /**
+   * @return a mask of the props {@link #onUpdateProps(ComponentContext, Object)} can apply, in
+   *     the format of {@link #getChangedProps(Component)}.
+   */
+  protected long getUpdatableProps() {
+    return 0;
+  }
+
   protected void onBind(ComponentContext c, Object mountedContent) {
     // Do nothing by default.
   }
@@ -637,6 +716,15 @@ public abstract class ComponentLifecycle implements EventDispatcher, EventTrigge
     return false;
   }
 
+  /**
+   * @return true if the layout of this component only depends on its Android Context, so that it
+   *     can be created once and shared by every instance of the component. See {@link
+   *     com.facebook.litho.annotations.LayoutSpec#isStatic()}.
+   */
+  protected boolean hasStaticLayout() {
+    return false;
+  }
+
   protected boolean callsShouldUpdateOnMount() {
     return false;
   }
@@ -73,12 +73,18 @@ public class ComponentTree {
   private static final int MESSAGE_WHAT_BACKGROUND_LAYOUT_STATE_UPDATED = 1;
   private static final String DEFAULT_LAYOUT_THREAD_NAME = "ComponentLayoutThread";
   private static final String DEFAULT_PMC_THREAD_NAME = "PreallocateMountContentThread";
+  // Rough memory cost of a LayoutOutput, including its entries in the top/bottom sorted outputs.
+  private static final int ESTIMATED_LAYOUT_OUTPUT_SIZE_BYTES = 256;
+  private static final int ESTIMATED_VISIBILITY_OUTPUT_SIZE_BYTES = 96;
   private static final int DEFAULT_LAYOUT_THREAD_PRIORITY = Process.THREAD_PRIORITY_BACKGROUND;
 
   private static final int SCHEDULE_NONE = 0;
   private static final int SCHEDULE_LAYOUT_ASYNC = 1;
   private static final int SCHEDULE_LAYOUT_SYNC = 2;
   private final MeasureListener mMeasureListener;
+
+  private volatile @Nullable NewLayoutStateReadyListener mNewLayoutStateReadyListener;
+  private volatile @Nullable LayoutCalculatedListener mLayoutCalculatedListener;
   private boolean mReleased;
   private String mReleasedComponent;
 
@@ -90,6 +96,22 @@ public class ComponentTree {
     void onSetRootAndSizeSpec(int width, int height);
   }
 
+  /**
+   * Listener notified on the main thread when a layout calculated in the background becomes
+   * available, whether or not the ComponentTree is attached to a {@link LithoView}.
+   */
+  public interface NewLayoutStateReadyListener {
+    void onNewLayoutStateReady(ComponentTree componentTree);
+  }
+
+  /**
+   * Listener notified, on the thread that calculated it, of how long each layout of a
+   * ComponentTree took, whether it was calculated in the background or on the main thread.
+   */
+  public interface LayoutCalculatedListener {
+    void onLayoutCalculated(long durationNanos);
+  }
+
   private static final AtomicInteger sIdGenerator = new AtomicInteger(0);
   private static final Handler sMainThreadHandler = new ComponentMainThreadHandler();
   // Do not access sDefaultLayoutThreadLooper directly, use getDefaultLayoutThreadLooper().
@@ -194,7 +216,13 @@ public class ComponentTree {
 
   private final Object mLayoutLock;
 
-  protected final int mId;
+  // Only changed by reuse(), volatile since layouts read it outside of the lock.
+  protected volatile int mId;
+
+  // Incremented every time this ComponentTree is reused, so that layouts started for a previous
+  // root are not committed.
+  @GuardedBy("this")
+  private int mGeneration;
 
   @GuardedBy("this")
   private boolean mIsMeasuring;
@@ -329,6 +357,11 @@ public class ComponentTree {
   private void backgroundLayoutStateUpdated() {
     assertMainThread();
 
+    final NewLayoutStateReadyListener newLayoutStateReadyListener = mNewLayoutStateReadyListener;
+    if (newLayoutStateReadyListener != null) {
+      newLayoutStateReadyListener.onNewLayoutStateReady(this);
+    }
+
     // If we aren't attached, then we have nothing to do. We'll handle
     // everything in onAttach.
     if (!mIsAttached) {
@@ -1103,6 +1136,83 @@ public class ComponentTree {
     return StateHandler.acquireNewInstance(mStateHandler);
   }
 
+  /**
+   * @return a rough estimate, in bytes, of the memory retained by the layout this ComponentTree
+   *     currently holds, based on the number of outputs it produced. 0 if there is no layout yet.
+   */
+  public synchronized int getEstimatedLayoutSizeBytes() {
+    final LayoutState layoutState =
+        mMainThreadLayoutState != null ? mMainThreadLayoutState : mBackgroundLayoutState;
+    if (layoutState == null) {
+      return 0;
+    }
+
+    return layoutState.getMountableOutputCount() * ESTIMATED_LAYOUT_OUTPUT_SIZE_BYTES
+        + layoutState.getVisibilityOutputCount() * ESTIMATED_VISIBILITY_OUTPUT_SIZE_BYTES;
+  }
+
+  /**
+   * Adds to outComponents the components that will be mounted for the most recent layout this
+   * ComponentTree calculated. Nothing is added if there is no layout yet.
+   */
+  public synchronized void collectMountableComponents(List<Component> outComponents) {
+    final LayoutState layoutState =
+        mBackgroundLayoutState != null ? mBackgroundLayoutState : mMainThreadLayoutState;
+    if (layoutState == null) {
+      return;
+    }
+
+    for (int i = 0, size = layoutState.getMountableOutputCount(); i < size; i++) {
+      final Component component = layoutState.getMountableOutputAt(i).getComponent();
+      if (component != null) {
+        outComponents.add(component);
+      }
+    }
+  }
+
+  /**
+   * Sets a listener to be notified when a layout calculated in the background is ready. It is
+   * cleared when this ComponentTree is released.
+   */
+  public void setNewLayoutStateReadyListener(@Nullable NewLayoutStateReadyListener listener) {
+    mNewLayoutStateReadyListener = listener;
+  }
+
+  /**
+   * Sets a listener to be notified of the time spent calculating each layout. It is cleared when
+   * this ComponentTree is released.
+   */
+  public void setLayoutCalculatedListener(@Nullable LayoutCalculatedListener listener) {
+    mLayoutCalculatedListener = listener;
+  }
+
+  /**
+   * Sets in outSize the size of the layout this ComponentTree holds for its current root and the
+   * given size specs.
+   *
+   * @return whether such a layout was calculated already.
+   */
+  public synchronized boolean getCompatibleLayoutSize(int widthSpec, int heightSpec, Size outSize) {
+    if (mRoot == null) {
+      return false;
+    }
+
+    final int rootId = mRoot.getId();
+    final LayoutState layoutState;
+    if (isCompatibleComponentAndSpec(mMainThreadLayoutState, rootId, widthSpec, heightSpec)) {
+      layoutState = mMainThreadLayoutState;
+    } else if (isCompatibleComponentAndSpec(
+        mBackgroundLayoutState, rootId, widthSpec, heightSpec)) {
+      layoutState = mBackgroundLayoutState;
+    } else {
+      return false;
+    }
+
+    outSize.width = layoutState.getWidth();
+    outSize.height = layoutState.getHeight();
+    return true;
+  }
+
   /**
    * Takes ownership of the {@link RenderState} object from this ComponentTree - this allows the
    * RenderState to be persisted somewhere and then set back on another ComponentTree using the
@@ -1264,6 +1374,7 @@ public class ComponentTree {
   private void calculateLayout(Size output) {
     int widthSpec;
     int heightSpec;
+    int generation;
     Component root;
     LayoutState previousLayoutState = null;
 
@@ -1290,6 +1401,7 @@ public class ComponentTree {
 
       widthSpec = mWidthSpec;
       heightSpec = mHeightSpec;
+      generation = mGeneration;
       root = mRoot.makeShallowCopy();
 
       if (mMainThreadLayoutState != null) {
@@ -1330,7 +1442,8 @@ public class ComponentTree {
     boolean layoutStateUpdated = false;
     synchronized (this) {
       // Make sure some other thread hasn't computed a compatible layout in the meantime.
-      if (!hasCompatibleComponentAndSpec()
+      if (generation == mGeneration
+          && !hasCompatibleComponentAndSpec()
           && isCompatibleSpec(localLayoutState, mWidthSpec, mHeightSpec)) {
 
         if (localLayoutState != null) {
@@ -1413,7 +1526,8 @@ public class ComponentTree {
    * The contract is that in order to release a ComponentTree, you must do so from the main
    * thread, or guarantee that it will never be accessed from the main thread again. Usually
    * HostView will handle releasing, but if you never attach to a host view, then you should call
-   * release yourself.
+   * release yourself. A released ComponentTree can't be used anymore, unless it's given a new root
+   * with {@link #reuse(Component, StateHandler)}.
    */
   public void release() {
     if (mIsMounting) {
@@ -1434,6 +1548,8 @@ public class ComponentTree {
 
       mReleased = true;
       mReleasedComponent = mRoot.getSimpleName();
+      mNewLayoutStateReadyListener = null;
+      mLayoutCalculatedListener = null;
       if (mLithoView != null) {
         mLithoView.setComponentTree(null);
       }
@@ -1470,6 +1586,45 @@ public class ComponentTree {
     }
   }
 
+  /**
+   * Makes a ComponentTree that has been {@link #release()}d ready to render root again. The tree
+   * keeps the configuration it was built with and reuses the containers it already allocated, but
+   * gets a new id. This is meant for recycling ComponentTrees that are released and recreated often
+   * with the same configuration, e.g. the items of a list.
+   *
+   * @param stateHandler the state to initialize the tree with, or null to start with empty state.
+   */
+  public void reuse(Component root, @Nullable StateHandler stateHandler) {
+    synchronized (this) {
+      if (!mReleased) {
+        throw new IllegalStateException("Reusing a ComponentTree that has not been released");
+      }
+
+      mGeneration++;
+      mReleased = false;
+      mReleasedComponent = null;
+      mRoot = root;
+      mWidthSpec = SIZE_UNINITIALIZED;
+      mHeightSpec = SIZE_UNINITIALIZED;
+      mHasViewMeasureSpec = false;
+      mIsMeasuring = false;
+      mScheduleLayoutAfterMeasure = SCHEDULE_NONE;
+      mStateHandler =
+          stateHandler == null ? StateHandler.acquireNewInstance(null) : stateHandler;
+      mId = generateComponentTreeId();
+    }
+
+    mHasMounted = false;
+
+    synchronized (mEventHandlers) {
+      mEventHandlers.clear();
+    }
+
+    synchronized (mEventTriggersContainer) {
+      mEventTriggersContainer.clear();
+    }
+  }
+
   private boolean isCompatibleComponentAndSpec(LayoutState layoutState) {
     assertHoldsLock(this);
 
@@ -1584,33 +1739,46 @@ public class ComponentTree {
               new KeyHandler(mContext.getLogger()));
     }
 
+    final LayoutState layoutState;
+    final long startTimeNs;
     if (lock != null) {
       synchronized (lock) {
-        return LayoutState.calculate(
-            contextWithStateHandler,
-            root,
-            mId,
-            widthSpec,
-            heightSpec,
-            diffingEnabled,
-            diffNode,
-            mCanPrefetchDisplayLists,
-            mCanCacheDrawingDisplayLists,
-            mShouldClipChildren);
+        startTimeNs = System.nanoTime();
+        layoutState =
+            LayoutState.calculate(
+                contextWithStateHandler,
+                root,
+                mId,
+                widthSpec,
+                heightSpec,
+                diffingEnabled,
+                diffNode,
+                mCanPrefetchDisplayLists,
+                mCanCacheDrawingDisplayLists,
+                mShouldClipChildren);
       }
     } else {
-      return LayoutState.calculate(
-          contextWithStateHandler,
-          root,
-          mId,
-          widthSpec,
-          heightSpec,
-          diffingEnabled,
-          diffNode,
-          mCanPrefetchDisplayLists,
-          mCanCacheDrawingDisplayLists,
-          mShouldClipChildren);
-    }
+      startTimeNs = System.nanoTime();
+      layoutState =
+          LayoutState.calculate(
+              contextWithStateHandler,
+              root,
+              mId,
+              widthSpec,
+              heightSpec,
+              diffingEnabled,
+              diffNode,
+              mCanPrefetchDisplayLists,
+              mCanCacheDrawingDisplayLists,
+              mShouldClipChildren);
+    }
+
+    final LayoutCalculatedListener layoutCalculatedListener = mLayoutCalculatedListener;
+    if (layoutCalculatedListener != null) {
+      layoutCalculatedListener.onLayoutCalculated(System.nanoTime() - startTimeNs);
+    }
+
+    return layoutState;
   }
 
   /**
@@ -82,6 +82,10 @@ public class ComponentsPools {
   private static final Map<Context, SparseArray<MountContentPool>> sMountContentPoolsByContext =
       new HashMap<>(4);
 
+  @GuardedBy("sMountContentLock")
+  private static final Map<Context, RecyclePool<LithoView>> sLithoViewPoolsByContext =
+      new HashMap<>(4);
+
   static final RecyclePool<LayoutOutput> sLayoutOutputPool =
       new RecyclePool<>("LayoutOutput", 256, true);
 
@@ -674,6 +678,65 @@ public class ComponentsPools {
     }
   }
 
+  /**
+   * @return an unused {@link LithoView} for the given context from the pool shared by all the
+   *     lists, or null if there is none. See {@link ComponentsConfiguration#lithoViewPoolSize}.
+   */
+  public static @Nullable LithoView acquireLithoView(ComponentContext context) {
+    final RecyclePool<LithoView> pool = getLithoViewPool(context);
+    return pool != null ? pool.acquire() : null;
+  }
+
+  /**
+   * Releases lithoView to the pool shared by all the lists. It must not be attached to a parent or
+   * hold a {@link ComponentTree} anymore.
+   */
+  public static void release(ComponentContext context, LithoView lithoView) {
+    final RecyclePool<LithoView> pool = getLithoViewPool(context);
+    if (pool != null) {
+      pool.release(lithoView);
+    }
+  }
+
+  /**
+   * Creates a {@link LithoView} in the shared pool for the given context, unless the pool is full.
+   *
+   * @return whether the pool can take more LithoViews.
+   */
+  public static boolean maybePreallocateLithoView(ComponentContext context) {
+    final RecyclePool<LithoView> pool = getLithoViewPool(context);
+    if (pool == null || pool.isFull()) {
+      return false;
+    }
+
+    pool.release(new LithoView(context));
+    return !pool.isFull();
+  }
+
+  private static @Nullable RecyclePool<LithoView> getLithoViewPool(
+      ComponentContext wrappedContext) {
+    if (ComponentsConfiguration.lithoViewPoolSize <= 0) {
+      return null;
+    }
+
+    final Context context = getContextForMountPool(wrappedContext);
+
+    synchronized (sMountContentLock) {
+      RecyclePool<LithoView> pool = sLithoViewPoolsByContext.get(context);
+      if (pool == null) {
+        if (sDestroyedRootContexts.containsKey(ContextUtils.getRootContext(context))) {
+          return null;
+        }
+
+        ensureActivityCallbacks(context);
+        pool = new RecyclePool<>("LithoView", ComponentsConfiguration.lithoViewPoolSize, true);
+        sLithoViewPoolsByContext.put(context, pool);
+      }
+
+      return pool;
+    }
+  }
+
   private static Context getContextForMountPool(ComponentContext wrappedContext) {
     final Context innerContext = wrappedContext.getBaseContext();
     if (innerContext instanceof ComponentContext) {
@@ -823,6 +886,7 @@ public class ComponentsPools {
   static void onContextDestroyed(Context context) {
     synchronized (sMountContentLock) {
       sMountContentPoolsByContext.remove(context);
+      sLithoViewPoolsByContext.remove(context);
 
       // Clear any context wrappers holding a reference to this activity.
       final Iterator<Map.Entry<Context, SparseArray<MountContentPool>>> it =
@@ -835,8 +899,17 @@ public class ComponentsPools {
         }
       }
 
+      final Iterator<Context> lithoViewPoolsIt = sLithoViewPoolsByContext.keySet().iterator();
+      while (lithoViewPoolsIt.hasNext()) {
+        if (isContextWrapper(lithoViewPoolsIt.next(), context)) {
+          lithoViewPoolsIt.remove();
+        }
+      }
+
       sDestroyedRootContexts.put(ContextUtils.getRootContext(context), true);
     }
+
+    StaticLayoutTemplates.onContextDestroyed(context);
   }
 
   /**
@@ -845,6 +918,7 @@ public class ComponentsPools {
   public static void clearMountContentPools() {
     synchronized (sMountContentLock) {
       sMountContentPoolsByContext.clear();
+      sLithoViewPoolsByContext.clear();
     }
   }
 
@@ -892,7 +966,7 @@ public class ComponentsPools {
   /**
    * Check whether contextWrapper is a wrapper of baseContext
    */
-  private static boolean isContextWrapper(Context contextWrapper, Context baseContext) {
+  static boolean isContextWrapper(Context contextWrapper, Context baseContext) {
     Context currentContext = contextWrapper;
     while (currentContext instanceof ContextWrapper) {
       currentContext = ((ContextWrapper) currentContext).getBaseContext();
@@ -11,6 +11,7 @@ package com.facebook.litho;
 
 import java.util.ArrayList;
 import java.util.List;
+import javax.annotation.Nullable;
 
 /**
  * A lightweight representation of a layout node, used to cache measurements between two Layout tree
@@ -32,6 +33,8 @@ class DiffNode implements Cloneable {
   private int mLastWidthSpec;
   private int mLastHeightSpec;
   private final List<DiffNode> mChildren;
+  // The components of this node holding a memoized layout, see MemoizedLayouts.
+  @Nullable private List<Component> mMemoizedLayoutComponents;
 
   DiffNode() {
     mChildren = new ArrayList<>(4);
@@ -85,6 +88,18 @@ class DiffNode implements Cloneable {
     mLastHeightSpec = heightSpec;
   }
 
+  @Nullable
+  List<Component> getMemoizedLayoutComponents() {
+    return mMemoizedLayoutComponents;
+  }
+
+  void addMemoizedLayoutComponent(Component component) {
+    if (mMemoizedLayoutComponents == null) {
+      mMemoizedLayoutComponents = new ArrayList<>(1);
+    }
+    mMemoizedLayoutComponents.add(component);
+  }
+
   List<DiffNode> getChildren() {
     return mChildren;
   }
@@ -150,6 +165,9 @@ class DiffNode implements Cloneable {
     mBorder = null;
     mHost = null;
     mVisibilityOutput = null;
+    if (mMemoizedLayoutComponents != null) {
+      mMemoizedLayoutComponents.clear();
+    }
 
     mLastMeasuredWidth = UNSPECIFIED;
     mLastMeasuredHeight = UNSPECIFIED;
@@ -25,6 +25,7 @@ public interface FrameworkLogEvents {
   int EVENT_PRE_ALLOCATE_MOUNT_CONTENT = 8;
   int EVENT_ERROR = 9;
   int EVENT_WARNING = 10;
+  int EVENT_MEMOIZED_LAYOUTS = 11;
 
   String PARAM_COMPONENT = "component";
   String PARAM_LOG_TAG = "log_tag";
@@ -40,4 +41,6 @@ public interface FrameworkLogEvents {
   String PARAM_NO_OP_COUNT = "no_op_count";
   String PARAM_IS_DIRTY = "is_dirty";
   String PARAM_MESSAGE = "message";
+  String PARAM_HIT_COUNT = "hit_count";
+  String PARAM_MISS_COUNT = "miss_count";
 }
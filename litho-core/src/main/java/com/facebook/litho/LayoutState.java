@@ -25,8 +25,11 @@ import static com.facebook.litho.ContextUtils.getValidActivityForContext;
 import static com.facebook.litho.FrameworkLogEvents.EVENT_COLLECT_RESULTS;
 import static com.facebook.litho.FrameworkLogEvents.EVENT_CREATE_LAYOUT;
 import static com.facebook.litho.FrameworkLogEvents.EVENT_CSS_LAYOUT;
+import static com.facebook.litho.FrameworkLogEvents.EVENT_MEMOIZED_LAYOUTS;
 import static com.facebook.litho.FrameworkLogEvents.PARAM_COMPONENT;
+import static com.facebook.litho.FrameworkLogEvents.PARAM_HIT_COUNT;
 import static com.facebook.litho.FrameworkLogEvents.PARAM_LOG_TAG;
+import static com.facebook.litho.FrameworkLogEvents.PARAM_MISS_COUNT;
 import static com.facebook.litho.FrameworkLogEvents.PARAM_TREE_DIFF_ENABLED;
 import static com.facebook.litho.MountItem.FLAG_DISABLE_TOUCHABLE;
 import static com.facebook.litho.MountItem.FLAG_DUPLICATE_PARENT_STATE;
@@ -1075,8 +1078,13 @@ class LayoutState {
     layoutState.mCanCacheDrawingDisplayLists = canCacheDrawingDisplayLists;
     layoutState.mClipChildren = clipChildren;
 
+    final MemoizedLayouts memoizedLayouts =
+        ComponentsConfiguration.memoizePureRenderLayouts
+            ? new MemoizedLayouts(previousDiffTreeRoot)
+            : null;
+
     final InternalNode root = createAndMeasureTreeForComponent(
-        c,
+        memoizedLayouts != null ? ComponentContext.withMemoizedLayouts(c, memoizedLayouts) : c,
         component,
         null, // nestedTreeHolder is null because this is measuring the root component tree.
         widthSpec,
@@ -1114,7 +1122,20 @@ class LayoutState {
 
     final ComponentsLogger logger = c.getLogger();
 
+    if (memoizedLayouts != null && logger != null) {
+      final LogEvent memoizedLayoutsEvent = logger.newEvent(EVENT_MEMOIZED_LAYOUTS);
+      memoizedLayoutsEvent.addParam(PARAM_LOG_TAG, c.getLogTag());
+      memoizedLayoutsEvent.addParam(
+          PARAM_HIT_COUNT, String.valueOf(memoizedLayouts.getHitCount()));
+      memoizedLayoutsEvent.addParam(
+          PARAM_MISS_COUNT, String.valueOf(memoizedLayouts.getMissCount()));
+      logger.log(memoizedLayoutsEvent);
+    }
+
     if (root == NULL_LAYOUT) {
+      if (memoizedLayouts != null) {
+        memoizedLayouts.release();
+      }
       return layoutState;
     }
 
@@ -1133,6 +1154,11 @@ class LayoutState {
 
     collectResults(root, layoutState, null);
 
+    // Nested trees may be resolved while collecting results, after that nothing is laid out.
+    if (memoizedLayouts != null) {
+      memoizedLayouts.release();
+    }
+
     Collections.sort(layoutState.mMountableOutputTops, sTopsComparator);
     Collections.sort(layoutState.mMountableOutputBottoms, sBottomsComparator);
 
@@ -1626,6 +1652,14 @@ class LayoutState {
     diffNode.setLastMeasuredWidth(node.getLastMeasuredWidth());
     diffNode.setLastMeasuredHeight(node.getLastMeasuredHeight());
     diffNode.setComponent(node.getRootComponent());
+    if (ComponentsConfiguration.memoizePureRenderLayouts) {
+      final List<Component> components = node.getComponents();
+      for (int i = 0, size = components.size(); i < size; i++) {
+        if (components.get(i).getMemoizedLayout() != null) {
+          diffNode.addMemoizedLayoutComponent(components.get(i));
+        }
+      }
+    }
     if (parent != null) {
       parent.addChild(diffNode);
     }
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2017-present, Facebook, Inc.
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree. An additional grant
+ * of patent rights can be found in the PATENTS file in the same directory.
+ */
+
+package com.facebook.litho;
+
+import com.facebook.infer.annotation.ThreadConfined;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+/**
+ * Memoizes the layout pure render layout specs create during a layout calculation. When a
+ * component is laid out again with the same global key and is equivalent to its instance of the
+ * previous layout, found through the previous {@link DiffNode} tree, the layout that instance
+ * created is copied instead of calling onCreateLayout. The copy then gets its measurements from
+ * the previous diff tree as an unchanged subtree would.
+ *
+ * <p>Each previous instance only keeps its layout until this layout consumes it, so that at most
+ * the layouts of the components of the last layout are retained.
+ */
+@ThreadConfined(ThreadConfined.ANY)
+class MemoizedLayouts {
+
+  private final Map<String, Component> mPreviousComponents = new HashMap<>();
+  private int mHitCount;
+  private int mMissCount;
+
+  MemoizedLayouts(@Nullable DiffNode previousDiffTreeRoot) {
+    if (previousDiffTreeRoot != null) {
+      collectPreviousComponents(previousDiffTreeRoot);
+    }
+  }
+
+  private void collectPreviousComponents(DiffNode diffNode) {
+    final List<Component> components = diffNode.getMemoizedLayoutComponents();
+    if (components != null) {
+      for (int i = 0, size = components.size(); i < size; i++) {
+        final Component component = components.get(i);
+        if (component.getGlobalKey() != null) {
+          mPreviousComponents.put(component.getGlobalKey(), component);
+        }
+      }
+    }
+
+    for (int i = 0, count = diffNode.getChildCount(); i < count; i++) {
+      collectPreviousComponents(diffNode.getChildAt(i));
+    }
+  }
+
+  /**
+   * @return true if the layout of component only depends on its props and tree props, so that it
+   *     can be memoized.
+   */
+  static boolean canMemoizeLayout(Component component) {
+    return component.isPureRender() && !component.hasState();
+  }
+
+  /**
+   * Creates the layout of component, or copies the one its previous instance created if it's
+   * equivalent to it. Must only be called for components that {@link #canMemoizeLayout(Component)}.
+   */
+  @Nullable
+  ComponentLayout createLayout(ComponentContext c, Component component) {
+    final String globalKey = component.getGlobalKey();
+    final Component previous = globalKey == null ? null : mPreviousComponents.remove(globalKey);
+    // Read once, another layout calculated from the same diff tree may drop them concurrently.
+    final Component previousLayout = previous == null ? null : previous.getMemoizedLayout();
+    final TreeProps previousTreeProps =
+        previous == null ? null : previous.getMemoizedLayoutTreeProps();
+
+    if (previous != null && previous != component) {
+      previous.clearMemoizedLayout();
+    }
+
+    if (previousLayout != null
+        && previous.getClass() == component.getClass()
+        && areTreePropsEqual(previousTreeProps, c.getTreeProps())
+        && !component.shouldComponentUpdate(previous, component)) {
+      mHitCount++;
+      component.setMemoizedLayout(previousLayout, previousTreeProps);
+    } else {
+      mMissCount++;
+      final ComponentLayout layout = component.onCreateLayout(c);
+      if (!(layout instanceof Component)) {
+        return layout;
+      }
+      component.setMemoizedLayout((Component) layout, c.getTreeProps());
+    }
+
+    // The memoized layout is kept untouched, as it may still be copied by the next layout.
+    return component.getMemoizedLayout().makeTemplateCopy();
+  }
+
+  /**
+   * Drops the layouts of the previous components this layout didn't create again, as they won't be
+   * laid out anymore. Components created after this don't reuse a previous layout.
+   */
+  void release() {
+    for (Component previous : mPreviousComponents.values()) {
+      previous.clearMemoizedLayout();
+    }
+    mPreviousComponents.clear();
+  }
+
+  int getHitCount() {
+    return mHitCount;
+  }
+
+  int getMissCount() {
+    return mMissCount;
+  }
+
+  private static boolean areTreePropsEqual(@Nullable TreeProps first, @Nullable TreeProps second) {
+    if (first == second) {
+      return true;
+    }
+
+    if (first == null || second == null) {
+      return false;
+    }
+
+    return first.hasSameValuesAs(second);
+  }
+}
@@ -980,6 +980,16 @@ class MountState implements TransitionManager.OnAnimationCompleteListener {
 
     final Object previousContent = item.getContent();
 
+    // If only props the component can update on its content changed, there's no need to remount
+    // it. Content that depends on the mount size is still remounted when the size changes.
+    if (previousContent != null
+        && previousComponent.getClass() == newComponent.getClass()
+        && (!newComponent.isMountSizeDependent() || sameSize(layoutOutput, item))
+        && newComponent.updateProps(
+            getContextForComponent(newComponent), previousContent, previousComponent)) {
+      return;
+    }
+
     // Call unmount and mount in sequence to make sure all the the resources are correctly
     // de-allocated. It's possible for previousContent to equal null - when the root is
     // interactive we create a LayoutOutput without content in order to set up click handling.
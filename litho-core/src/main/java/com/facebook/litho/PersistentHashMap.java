@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2017-present, Facebook, Inc.
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree. An additional grant
+ * of patent rights can be found in the PATENTS file in the same directory.
+ */
+
+package com.facebook.litho;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * An immutable hash map which shares its structure with the map it was derived from: a hash array
+ * mapped trie, indexed by 5 bits of the key's hash at each level. Taking a snapshot of it is free
+ * and {@link #plus(Object, Object)} only copies the nodes on the path to the key, so it can be
+ * shared between threads without copying it.
+ */
+@Immutable
+final class PersistentHashMap<K, V> {
+
+  private static final int BITS_PER_LEVEL = 5;
+  private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+
+  private static final PersistentHashMap EMPTY = new PersistentHashMap(null, 0);
+
+  private final @Nullable Node mRoot;
+  private final int mSize;
+
+  private PersistentHashMap(@Nullable Node root, int size) {
+    mRoot = root;
+    mSize = size;
+  }
+
+  static <K, V> PersistentHashMap<K, V> empty() {
+    return (PersistentHashMap<K, V>) EMPTY;
+  }
+
+  int size() {
+    return mSize;
+  }
+
+  boolean isEmpty() {
+    return mSize == 0;
+  }
+
+  @Nullable
+  V get(K key) {
+    return mRoot == null ? null : (V) mRoot.get(key, key.hashCode(), 0);
+  }
+
+  /** @return a map holding the entries of this one, with key mapped to value. */
+  PersistentHashMap<K, V> plus(K key, V value) {
+    final boolean[] added = new boolean[1];
+    final Node root = mRoot == null ? BitmapNode.EMPTY : mRoot;
+    final Node newRoot = root.plus(key, key.hashCode(), value, 0, added);
+
+    if (newRoot == mRoot) {
+      return this;
+    }
+
+    return new PersistentHashMap<>(newRoot, added[0] ? mSize + 1 : mSize);
+  }
+
+  private interface Node {
+
+    @Nullable
+    Object get(Object key, int hash, int shift);
+
+    /** Sets added[0] if key wasn't in this node yet, returns this node if nothing changed. */
+    Node plus(Object key, int hash, Object value, int shift, boolean[] added);
+  }
+
+  /**
+   * Holds a slot pair in mArray for each bit set in mBitmap: a key and its value, or null and the
+   * node holding the keys whose hashes share the bits of this slot.
+   */
+  private static final class BitmapNode implements Node {
+
+    private static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+    private final int mBitmap;
+    private final Object[] mArray;
+
+    private BitmapNode(int bitmap, Object[] array) {
+      mBitmap = bitmap;
+      mArray = array;
+    }
+
+    @Override
+    public @Nullable Object get(Object key, int hash, int shift) {
+      final int bit = 1 << ((hash >>> shift) & LEVEL_MASK);
+      if ((mBitmap & bit) == 0) {
+        return null;
+      }
+
+      final int index = 2 * Integer.bitCount(mBitmap & (bit - 1));
+      final Object keyOrNull = mArray[index];
+      if (keyOrNull == null) {
+        return ((Node) mArray[index + 1]).get(key, hash, shift + BITS_PER_LEVEL);
+      }
+
+      return key.equals(keyOrNull) ? mArray[index + 1] : null;
+    }
+
+    @Override
+    public Node plus(Object key, int hash, Object value, int shift, boolean[] added) {
+      final int bit = 1 << ((hash >>> shift) & LEVEL_MASK);
+      final int index = 2 * Integer.bitCount(mBitmap & (bit - 1));
+
+      if ((mBitmap & bit) == 0) {
+        added[0] = true;
+        final Object[] array = new Object[mArray.length + 2];
+        System.arraycopy(mArray, 0, array, 0, index);
+        array[index] = key;
+        array[index + 1] = value;
+        System.arraycopy(mArray, index, array, index + 2, mArray.length - index);
+        return new BitmapNode(mBitmap | bit, array);
+      }
+
+      final Object keyOrNull = mArray[index];
+      final Object valueOrNode = mArray[index + 1];
+
+      if (keyOrNull == null) {
+        final Node node = (Node) valueOrNode;
+        final Node newNode = node.plus(key, hash, value, shift + BITS_PER_LEVEL, added);
+        return newNode == node ? this : copyAndSet(index, null, newNode);
+      }
+
+      if (key.equals(keyOrNull)) {
+        return valueOrNode == value ? this : copyAndSet(index, key, value);
+      }
+
+      added[0] = true;
+      return copyAndSet(
+          index,
+          null,
+          createNode(
+              shift + BITS_PER_LEVEL,
+              keyOrNull,
+              keyOrNull.hashCode(),
+              valueOrNode,
+              key,
+              hash,
+              value));
+    }
+
+    private BitmapNode copyAndSet(int index, @Nullable Object key, Object value) {
+      final Object[] array = mArray.clone();
+      array[index] = key;
+      array[index + 1] = value;
+      return new BitmapNode(mBitmap, array);
+    }
+
+    private static Node createNode(
+        int shift,
+        Object key1,
+        int hash1,
+        Object value1,
+        Object key2,
+        int hash2,
+        Object value2) {
+      // All the bits of the hashes were used by the levels above, so they're the same.
+      if (shift >= Integer.SIZE) {
+        return new CollisionNode(new Object[] {key1, value1, key2, value2});
+      }
+
+      final boolean[] added = new boolean[1];
+      return EMPTY
+          .plus(key1, hash1, value1, shift, added)
+          .plus(key2, hash2, value2, shift, added);
+    }
+  }
+
+  /** Holds the keys whose hashes are the same, as key and value pairs. */
+  private static final class CollisionNode implements Node {
+
+    private final Object[] mArray;
+
+    private CollisionNode(Object[] array) {
+      mArray = array;
+    }
+
+    @Override
+    public @Nullable Object get(Object key, int hash, int shift) {
+      for (int i = 0; i < mArray.length; i += 2) {
+        if (key.equals(mArray[i])) {
+          return mArray[i + 1];
+        }
+      }
+
+      return null;
+    }
+
+    @Override
+    public Node plus(Object key, int hash, Object value, int shift, boolean[] added) {
+      for (int i = 0; i < mArray.length; i += 2) {
+        if (key.equals(mArray[i])) {
+          if (mArray[i + 1] == value) {
+            return this;
+          }
+
+          final Object[] array = mArray.clone();
+          array[i + 1] = value;
+          return new CollisionNode(array);
+        }
+      }
+
+      added[0] = true;
+      final Object[] array = new Object[mArray.length + 2];
+      System.arraycopy(mArray, 0, array, 0, mArray.length);
+      array[mArray.length] = key;
+      array[mArray.length + 1] = value;
+      return new CollisionNode(array);
+    }
+  }
+}
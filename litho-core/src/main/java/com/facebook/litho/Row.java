@@ -45,7 +45,11 @@ public final class Row extends Component {
   private static final Pools.SynchronizedPool<Builder> sBuilderPool =
       new Pools.SynchronizedPool<>(2);
 
-  private Row() {}
+  private static final int TYPE_ID = newTypeId();
+
+  private Row() {
+    super(TYPE_ID);
+  }
 
   @Override
   public String getSimpleName() {
@@ -108,6 +112,19 @@ public final class Row extends Component {
     return node;
   }
 
+  @Override
+  public Row makeTemplateCopy() {
+    final Row row = (Row) super.makeTemplateCopy();
+    if (children != null) {
+      row.children = new ArrayList<>(children.size());
+      for (Component child : children) {
+        row.children.add(child.makeTemplateCopy());
+      }
+    }
+
+    return row;
+  }
+
   @Override
   public boolean isEquivalentTo(Component other) {
     if (this == other) {
@@ -45,7 +45,11 @@ public final class RowReverse extends Component {
   private static final Pools.SynchronizedPool<Builder> sBuilderPool =
       new Pools.SynchronizedPool<>(2);
 
-  private RowReverse() {}
+  private static final int TYPE_ID = newTypeId();
+
+  private RowReverse() {
+    super(TYPE_ID);
+  }
 
   @Override
   public String getSimpleName() {
@@ -108,6 +112,19 @@ public final class RowReverse extends Component {
     return node;
   }
 
+  @Override
+  public RowReverse makeTemplateCopy() {
+    final RowReverse rowReverse = (RowReverse) super.makeTemplateCopy();
+    if (children != null) {
+      rowReverse.children = new ArrayList<>(children.size());
+      for (Component child : children) {
+        rowReverse.children.add(child.makeTemplateCopy());
+      }
+    }
+
+    return rowReverse;
+  }
+
   @Override
   public boolean isEquivalentTo(Component other) {
     if (this == other) {
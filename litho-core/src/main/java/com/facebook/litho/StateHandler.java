@@ -18,6 +18,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.GuardedBy;
 
 /**
@@ -34,9 +35,6 @@ public class StateHandler {
   private static final
   Pools.SynchronizedPool<Map<String, List<StateUpdate>>> sPendingStateUpdatesMapPool =
       new Pools.SynchronizedPool<>(POOL_CAPACITY);
-  private static final
-  Pools.SynchronizedPool<Map<String, StateContainer>> sStateContainersMapPool =
-      new Pools.SynchronizedPool<>(POOL_CAPACITY);
 
   /**
    * List of state updates that will be applied during the next layout pass.
@@ -46,9 +44,18 @@ public class StateHandler {
 
   /**
    * Maps a component key to a component object that retains the current state values for that key.
+   * State containers are never modified once they are in this map, so it's shared with the state
+   * handlers of the layouts calculated from it instead of being copied.
+   */
+  @GuardedBy("this")
+  private PersistentHashMap<String, StateContainer> mStateContainers = PersistentHashMap.empty();
+
+  /**
+   * The state containers this handler added to {@link #mStateContainers} during a layout pass,
+   * which are the only ones that need to be committed.
    */
   @GuardedBy("this")
-  public Map<String, StateContainer> mStateContainers;
+  private @Nullable Map<String, StateContainer> mUpdatedStateContainers;
 
   void init(StateHandler stateHandler) {
     if (stateHandler == null) {
@@ -57,7 +64,7 @@ public class StateHandler {
 
     synchronized (this) {
       copyPendingStateUpdatesMap(stateHandler.getPendingStateUpdates());
-      copyCurrentStateContainers(stateHandler.getStateContainers());
+      mStateContainers = stateHandler.getStateContainers();
     }
   }
 
@@ -66,7 +73,7 @@ public class StateHandler {
   }
 
   public synchronized boolean isEmpty() {
-    return mStateContainers == null || mStateContainers.isEmpty();
+    return mStateContainers.isEmpty();
   }
 
   /**
@@ -96,8 +103,6 @@ public class StateHandler {
    */
   @ThreadSafe(enableChecks = false)
   void applyStateUpdatesForComponent(Component component) {
-    maybeInitStateContainers();
-
     if (!component.hasState()) {
       return;
     }
@@ -135,8 +140,19 @@ public class StateHandler {
       }
     }
 
+    // The previous state container still holds the current values if no update was applied.
+    if (currentStateContainer != null && stateUpdatesForKey == null) {
+      return;
+    }
+
     synchronized (this) {
-      mStateContainers.put(key, component.getStateContainer());
+      final StateContainer stateContainer = component.getStateContainer();
+      mStateContainers = mStateContainers.plus(key, stateContainer);
+
+      if (mUpdatedStateContainers == null) {
+        mUpdatedStateContainers = new HashMap<>(INITIAL_MAP_CAPACITY);
+      }
+      mUpdatedStateContainers.put(key, stateContainer);
     }
   }
 
@@ -147,7 +163,7 @@ public class StateHandler {
    */
   void commit(StateHandler stateHandler) {
     clearStateUpdates(stateHandler.getPendingStateUpdates());
-    updateCurrentComponentsWithState(stateHandler.getStateContainers());
+    updateCurrentComponentsWithState(stateHandler.getUpdatedStateContainers());
   }
 
   private void clearStateUpdates(Map<String, List<StateUpdate>> appliedStateUpdates) {
@@ -182,14 +198,15 @@ public class StateHandler {
   }
 
   private void updateCurrentComponentsWithState(
-      Map<String, StateContainer> updatedStateContainers) {
+      @Nullable Map<String, StateContainer> updatedStateContainers) {
     if (updatedStateContainers == null || updatedStateContainers.isEmpty()) {
       return;
     }
 
     synchronized (this) {
-      maybeInitStateContainers();
-      mStateContainers.putAll(updatedStateContainers);
+      for (Map.Entry<String, StateContainer> entry : updatedStateContainers.entrySet()) {
+        mStateContainers = mStateContainers.plus(entry.getKey(), entry.getValue());
+      }
     }
   }
 
@@ -200,11 +217,8 @@ public class StateHandler {
       mPendingStateUpdates = null;
     }
 
-    if (mStateContainers != null) {
-      mStateContainers.clear();
-      sStateContainersMapPool.release(mStateContainers);
-      mStateContainers = null;
-    }
+    mStateContainers = PersistentHashMap.empty();
+    mUpdatedStateContainers = null;
   }
 
   private static List<StateUpdate> acquireStateUpdatesList() {
@@ -229,10 +243,14 @@ public class StateHandler {
     sStateUpdatesListPool.release(list);
   }
 
-  synchronized Map<String, StateContainer> getStateContainers() {
+  synchronized PersistentHashMap<String, StateContainer> getStateContainers() {
     return mStateContainers;
   }
 
+  synchronized @Nullable Map<String, StateContainer> getUpdatedStateContainers() {
+    return mUpdatedStateContainers;
+  }
+
   synchronized Map<String, List<StateUpdate>> getPendingStateUpdates() {
     return mPendingStateUpdates;
   }
@@ -255,32 +273,6 @@ public class StateHandler {
     }
   }
 
-  /**
-   * @return copy the list of given state containers into the map that holds the current
-   * state containers of components.
-   */
-  private void copyCurrentStateContainers(Map<String, StateContainer> stateContainers) {
-    if (stateContainers == null || stateContainers.isEmpty()) {
-      return;
-    }
-
-    maybeInitStateContainers();
-    for (String key : stateContainers.keySet()) {
-      synchronized (this) {
-        mStateContainers.put(key, stateContainers.get(key));
-      }
-    }
-  }
-
-  private synchronized void maybeInitStateContainers() {
-    if (mStateContainers == null) {
-      mStateContainers = sStateContainersMapPool.acquire();
-      if (mStateContainers == null) {
-        mStateContainers = new HashMap<>(INITIAL_MAP_CAPACITY);
-      }
-    }
-  }
-
   private synchronized void maybeInitPendingUpdates() {
     if (mPendingStateUpdates == null) {
       mPendingStateUpdates = sPendingStateUpdatesMapPool.acquire();
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2017-present, Facebook, Inc.
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree. An additional grant
+ * of patent rights can be found in the PATENTS file in the same directory.
+ */
+
+package com.facebook.litho;
+
+import android.content.Context;
+import android.support.annotation.VisibleForTesting;
+import android.util.SparseArray;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.WeakHashMap;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+
+/**
+ * Holds the layouts of the components whose layout is static, see {@link
+ * com.facebook.litho.annotations.LayoutSpec#isStatic()}. The layout of such a component is only
+ * created once for every Android Context, as it depends on its resources and theme, and every
+ * instance of the component lays out a copy of it instead of running its builders again.
+ */
+final class StaticLayoutTemplates {
+
+  // A null template is kept for components whose layout is null.
+  @GuardedBy("sTemplates")
+  private static final Map<Context, SparseArray<Component>> sTemplates = new WeakHashMap<>();
+
+  private StaticLayoutTemplates() {}
+
+  /**
+   * @return a copy of the layout of component, which component can lay out as its own. The layout
+   *     is created from component if it is the first instance of its type laid out in the Android
+   *     Context of c.
+   */
+  @Nullable
+  static ComponentLayout instantiate(ComponentContext c, Component component) {
+    final Context androidContext = c.getBaseContext();
+    final int typeId = component.getTypeId();
+
+    Component template = null;
+    boolean hasTemplate = false;
+    synchronized (sTemplates) {
+      final SparseArray<Component> templates = sTemplates.get(androidContext);
+      if (templates != null && templates.indexOfKey(typeId) >= 0) {
+        template = templates.get(typeId);
+        hasTemplate = true;
+      }
+    }
+
+    if (!hasTemplate) {
+      // Two threads may both create the template, only the first one to finish keeps it.
+      final ComponentLayout layout = component.onCreateLayout(c);
+      final Component newTemplate = layout instanceof Component ? (Component) layout : null;
+
+      synchronized (sTemplates) {
+        SparseArray<Component> templates = sTemplates.get(androidContext);
+        if (templates == null) {
+          templates = new SparseArray<>();
+          sTemplates.put(androidContext, templates);
+        }
+
+        if (templates.indexOfKey(typeId) >= 0) {
+          template = templates.get(typeId);
+        } else {
+          template = newTemplate;
+          templates.put(typeId, template);
+        }
+      }
+    }
+
+    return template == null ? null : template.makeTemplateCopy();
+  }
+
+  /**
+   * Drops the templates created for context and for the Contexts wrapping it, since templates
+   * that refer back to their Context would keep a destroyed Activity alive.
+   */
+  static void onContextDestroyed(Context context) {
+    synchronized (sTemplates) {
+      final Iterator<Context> it = sTemplates.keySet().iterator();
+      while (it.hasNext()) {
+        final Context contextKey = it.next();
+        if (contextKey == context || ComponentsPools.isContextWrapper(contextKey, context)) {
+          it.remove();
+        }
+      }
+    }
+  }
+
+  @VisibleForTesting
+  static void clear() {
+    synchronized (sTemplates) {
+      sTemplates.clear();
+    }
+  }
+}
@@ -36,6 +36,29 @@ public class TreeProps {
     return Collections.unmodifiableMap(mMap);
   }
 
+  /** @return whether other holds equal values for the same keys, compared without copying. */
+  boolean hasSameValuesAs(TreeProps other) {
+    final int size = mMap.size();
+    if (size != other.mMap.size()) {
+      return false;
+    }
+
+    for (int i = 0; i < size; i++) {
+      final int otherIndex = other.mMap.indexOfKey(mMap.keyAt(i));
+      if (otherIndex < 0) {
+        return false;
+      }
+
+      final Object value = mMap.valueAt(i);
+      final Object otherValue = other.mMap.valueAt(otherIndex);
+      if (value == null ? otherValue != null : !value.equals(otherValue)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
   /**
    * Whenever a Spec sets tree props, the TreeProps map from the parent is copied.
    *
@@ -25,7 +25,11 @@ public final class Wrapper extends Component {
   private static final Pools.SynchronizedPool<Builder> sBuilderPool =
       new Pools.SynchronizedPool<Builder>(2);
 
-  private Wrapper() {}
+  private static final int TYPE_ID = newTypeId();
+
+  private Wrapper() {
+    super(TYPE_ID);
+  }
 
   @Override
   public String getSimpleName() {
@@ -69,6 +73,13 @@ public final class Wrapper extends Component {
     return node;
   }
 
+  @Override
+  public Wrapper makeTemplateCopy() {
+    final Wrapper wrapper = (Wrapper) super.makeTemplateCopy();
+    wrapper.delegate = delegate != null ? delegate.makeTemplateCopy() : null;
+    return wrapper;
+  }
+
   @Override
   public boolean isEquivalentTo(Component other) {
     if (this == other) {
@@ -119,7 +119,7 @@ public class ComponentsConfiguration {
   public static boolean insertPostAsyncLayout = false;
 
   /**
-   * If true, the components mKey and mChildCounters will not be initialized at construction time.
+   * If true, the components mKey will not be initialized at construction time.
    */
   public static boolean lazyInitializeComponent = false;
 
@@ -147,4 +147,54 @@ public class ComponentsConfiguration {
 
   /** If scrapHostRecyclingForComponentHosts is false, determines the ComponentHost pool size. */
   public static int componentHostPoolSize = 30;
+
+  /**
+   * Default number of layouts a {@link com.facebook.litho.widget.RecyclerBinder} keeps for items
+   * that just left its layout range, instead of releasing them right away. 0 disables retention.
+   */
+  public static int recyclerBinderRetainedLayoutsCount = 0;
+
+  /** Default memory budget, in estimated bytes, of the layouts retained by a RecyclerBinder. */
+  public static int recyclerBinderRetainedLayoutsMaxSizeBytes = 512 * 1024;
+
+  /**
+   * Default number of released ComponentTrees a {@link com.facebook.litho.widget.RecyclerBinder}
+   * keeps to reuse for its items. 0 disables ComponentTree reuse.
+   */
+  public static int recyclerBinderComponentTreePoolSize = 0;
+
+  /**
+   * Default for whether a {@link com.facebook.litho.widget.RecyclerBinder} binds a placeholder
+   * and lays items out in the background when they are bound before their layout is ready, instead
+   * of laying them out synchronously on the main thread.
+   */
+  public static boolean recyclerBinderAsyncBindFallback = false;
+
+  /**
+   * Whether {@link com.facebook.litho.widget.RecyclerBinder}s that don't set a range policy use an
+   * {@link com.facebook.litho.widget.AdaptiveRangePolicy}, that follows the scroll velocity, rather
+   * than a fixed range around the viewport.
+   */
+  public static boolean recyclerBinderUseAdaptiveRange = false;
+
+  /**
+   * Default number of glyphs a {@link com.facebook.litho.widget.RecyclerBinder} warms in the
+   * background, each time its range changes, from the Text layouts of the items in range. 0
+   * disables range glyph warming.
+   */
+  public static int recyclerBinderGlyphWarmingBudget = 0;
+
+  /**
+   * How many unused LithoViews are kept, for each Activity, in the pool shared by all the {@link
+   * com.facebook.litho.widget.RecyclerBinder}s. 0 disables the shared pool, each RecyclerView then
+   * only recycles its own LithoViews.
+   */
+  public static int lithoViewPoolSize = 0;
+
+  /**
+   * Whether pure render layout specs reuse the layout they created in the previous layout
+   * calculation, when their props, state and tree props didn't change, instead of calling
+   * onCreateLayout again.
+   */
+  public static boolean memoizePureRenderLayouts = false;
 }
@@ -10,7 +10,9 @@
 package com.facebook.litho;
 
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -29,6 +31,7 @@ import com.facebook.yoga.YogaPositionType;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.robolectric.RuntimeEnvironment;
 
 @RunWith(ComponentsTestRunner.class)
@@ -287,4 +290,20 @@ public class CommonPropsTest {
     verify(mNode).sendAccessibilityEventHandler(sendAccessibilityEventHandler);
     verify(mNode).sendAccessibilityEventUncheckedHandler(sendAccessibilityEventUncheckedHandler);
   }
+
+  @Test
+  public void testEdgeValuesAreCopiedOncePerEdge() {
+    mCommonProps.marginPx(YogaEdge.LEFT, 1);
+    mCommonProps.marginPercent(YogaEdge.LEFT, 2);
+    mCommonProps.marginPx(YogaEdge.LEFT, 3);
+    mCommonProps.paddingPx(YogaEdge.ALL, 4);
+
+    mCommonProps.copyInto(mComponentContext, mNode);
+
+    final InOrder inOrder = inOrder(mNode);
+    inOrder.verify(mNode).marginPx(YogaEdge.LEFT, 3);
+    inOrder.verify(mNode).marginPercent(YogaEdge.LEFT, 2);
+    verify(mNode, never()).marginPx(YogaEdge.LEFT, 1);
+    verify(mNode).paddingPx(YogaEdge.ALL, 4);
+  }
 }
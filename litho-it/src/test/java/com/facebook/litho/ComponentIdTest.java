@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2017-present, Facebook, Inc.
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree. An additional grant
+ * of patent rights can be found in the PATENTS file in the same directory.
+ */
+
+package com.facebook.litho;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+import com.facebook.litho.annotations.OnCreateLayout;
+import com.facebook.litho.testing.TestDrawableComponent;
+import com.facebook.litho.testing.testrunner.ComponentsTestRunner;
+import com.facebook.litho.testing.util.InlineLayoutSpec;
+import com.facebook.litho.widget.Text;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RuntimeEnvironment;
+
+/** Tests how {@link Component} ids are assigned to new instances and copies. */
+@RunWith(ComponentsTestRunner.class)
+public class ComponentIdTest {
+
+  private ComponentContext mContext;
+
+  @Before
+  public void setup() {
+    mContext = new ComponentContext(RuntimeEnvironment.application);
+  }
+
+  @Test
+  public void testNewInstancesGetFreshIds() {
+    final Component first = Text.create(mContext).text("first").build();
+    final Component second = Text.create(mContext).text("second").build();
+    final Component drawable = TestDrawableComponent.create(mContext).build();
+
+    assertThat(second.getId()).isNotEqualTo(first.getId());
+    assertThat(drawable.getId()).isNotEqualTo(first.getId());
+    assertThat(drawable.getId()).isNotEqualTo(second.getId());
+  }
+
+  @Test
+  public void testGeneratedCopyKeepsId() {
+    final Component text = Text.create(mContext).text("text").build();
+
+    assertThat(text.makeShallowCopy().getId()).isEqualTo(text.getId());
+    assertThat(text.makeTemplateCopy().getId()).isEqualTo(text.getId());
+  }
+
+  @Test
+  public void testClonedCopyKeepsId() {
+    final Component component =
+        new InlineLayoutSpec() {
+          @Override
+          @OnCreateLayout
+          protected ComponentLayout onCreateLayout(ComponentContext c) {
+            return null;
+          }
+        };
+
+    assertThat(component.makeShallowCopy().getId()).isEqualTo(component.getId());
+  }
+
+  @Test
+  public void testCopiesDoNotUseIds() {
+    final Component before = Text.create(mContext).text("before").build();
+    for (int i = 0; i < 10; i++) {
+      before.makeShallowCopy();
+    }
+    final Component after = Text.create(mContext).text("after").build();
+
+    // Only new instances take an id, so the copies in between didn't allocate any.
+    assertThat(after.getId()).isEqualTo(before.getId() + 1);
+  }
+
+  @Test
+  public void testCopyWithNewIdGetsFreshId() {
+    final Component text = Text.create(mContext).text("text").build();
+    final Component copy = text.makeShallowCopyWithNewId();
+
+    assertThat(copy.getId()).isNotEqualTo(text.getId());
+  }
+}
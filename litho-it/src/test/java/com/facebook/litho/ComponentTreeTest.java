@@ -389,6 +389,61 @@ public class ComponentTreeTest {
     assertThat(lithoView.getComponentTree()).isNull();
   }
 
+  @Test
+  public void testReuseReleasedComponentTree() {
+    ComponentTree componentTree =
+        create(mContext, mComponent)
+            .incrementalMount(false)
+            .layoutDiffing(false)
+            .build();
+    componentTree.setSizeSpec(mWidthSpec, mHeightSpec);
+    final int releasedId = componentTree.mId;
+
+    componentTree.release();
+    assertThat(componentTree.isReleased()).isTrue();
+
+    Component component = TestLayoutComponent.create(mContext).build();
+    componentTree.reuse(component, null);
+
+    assertThat(componentTree.isReleased()).isFalse();
+    assertThat(componentTree.mId).isNotEqualTo(releasedId);
+    assertThat((Component) getInternalState(componentTree, "mRoot")).isSameAs(component);
+    assertThat(componentTreeHasSizeSpec(componentTree)).isFalse();
+
+    componentTree.setSizeSpec(mWidthSpec2, mHeightSpec2);
+    postSizeSpecChecks(componentTree, "mBackgroundLayoutState", mWidthSpec2, mHeightSpec2);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testReuseComponentTreeThatWasNotReleased() {
+    ComponentTree componentTree = create(mContext, mComponent).build();
+
+    componentTree.reuse(TestLayoutComponent.create(mContext).build(), null);
+  }
+
+  @Test
+  public void testGetCompatibleLayoutSize() {
+    ComponentTree componentTree =
+        create(mContext, mComponent)
+            .incrementalMount(false)
+            .layoutDiffing(false)
+            .build();
+
+    Size size = new Size();
+    assertThat(componentTree.getCompatibleLayoutSize(mWidthSpec, mHeightSpec, size)).isFalse();
+
+    componentTree.setSizeSpec(mWidthSpec, mHeightSpec);
+
+    assertThat(componentTree.getCompatibleLayoutSize(mWidthSpec, mHeightSpec, size)).isTrue();
+    assertThat(size.width).isEqualTo(SizeSpec.getSize(mWidthSpec));
+    assertThat(size.height).isEqualTo(SizeSpec.getSize(mHeightSpec));
+
+    assertThat(
+            componentTree.getCompatibleLayoutSize(
+                makeSizeSpec(SizeSpec.getSize(mWidthSpec) + 10, EXACTLY), mHeightSpec, size))
+        .isFalse();
+  }
+
   @Test
   public void testsetTreeToTwoViewsBothAttached() {
     Component component = TestDrawableComponent.create(mContext)
@@ -9,8 +9,10 @@
 
 package com.facebook.litho;
 
+import static com.facebook.litho.ComponentsPools.acquireLithoView;
 import static com.facebook.litho.ComponentsPools.acquireMountContent;
 import static com.facebook.litho.ComponentsPools.maybePreallocateContent;
+import static com.facebook.litho.ComponentsPools.maybePreallocateLithoView;
 import static com.facebook.litho.ComponentsPools.release;
 import static org.assertj.core.api.Java6Assertions.assertThat;
 
@@ -19,6 +21,7 @@ import android.content.ContextWrapper;
 import android.graphics.Color;
 import android.graphics.drawable.ColorDrawable;
 import android.view.View;
+import com.facebook.litho.config.ComponentsConfiguration;
 import com.facebook.litho.testing.testrunner.ComponentsTestRunner;
 import org.junit.After;
 import org.junit.Before;
@@ -92,6 +95,8 @@ public class ComponentsPoolsTest {
   @After
   public void tearDown() {
     ComponentsPools.clearActivityCallbacks();
+    ComponentsPools.clearMountContentPools();
+    ComponentsConfiguration.lithoViewPoolSize = 0;
   }
 
   @Test
@@ -204,4 +209,36 @@ public class ComponentsPoolsTest {
     assertThat(acquireMountContent(mContext1, mLifecycleWithEmptyPoolSize))
         .isSameAs(mNewMountContent);
   }
+
+  @Test
+  public void testLithoViewPoolIsSharedByWrappedContexts() {
+    ComponentsConfiguration.lithoViewPoolSize = POOL_SIZE;
+    final LithoView lithoView = new LithoView(mContext1);
+
+    release(mContext1, lithoView);
+
+    assertThat(acquireLithoView(mContext3)).isNull();
+    assertThat(acquireLithoView(mContext2)).isSameAs(lithoView);
+    assertThat(acquireLithoView(mContext1)).isNull();
+  }
+
+  @Test
+  public void testLithoViewPoolIsDisabledByDefault() {
+    release(mContext1, new LithoView(mContext1));
+
+    assertThat(acquireLithoView(mContext1)).isNull();
+    assertThat(maybePreallocateLithoView(mContext1)).isFalse();
+  }
+
+  @Test
+  public void testPreallocateLithoViewsUpToPoolSize() {
+    ComponentsConfiguration.lithoViewPoolSize = POOL_SIZE;
+
+    assertThat(maybePreallocateLithoView(mContext1)).isTrue();
+    assertThat(maybePreallocateLithoView(mContext1)).isFalse();
+
+    assertThat(acquireLithoView(mContext1)).isNotNull();
+    assertThat(acquireLithoView(mContext1)).isNotNull();
+    assertThat(acquireLithoView(mContext1)).isNull();
+  }
 }
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2017-present, Facebook, Inc.
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree. An additional grant
+ * of patent rights can be found in the PATENTS file in the same directory.
+ */
+
+package com.facebook.litho;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+import static org.robolectric.RuntimeEnvironment.application;
+
+import com.facebook.litho.testing.testrunner.ComponentsTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/** Tests {@link MemoizedLayouts}. */
+@RunWith(ComponentsTestRunner.class)
+public class MemoizedLayoutsTest {
+
+  private ComponentContext mContext;
+
+  @Before
+  public void setup() {
+    mContext = new ComponentContext(application);
+  }
+
+  @Test
+  public void testEquivalentComponentReusesPreviousLayout() {
+    final PureComponent previous = layOut(new MemoizedLayouts(null), new PureComponent(1));
+    final Component previousLayout = previous.getMemoizedLayout();
+    final MemoizedLayouts memoizedLayouts = new MemoizedLayouts(createDiffNode(previous));
+    final PureComponent next = new PureComponent(1);
+
+    final ComponentLayout layout = createLayout(memoizedLayouts, next);
+
+    assertThat(next.mCreateLayoutCount).isEqualTo(0);
+    assertThat(layout).isInstanceOf(Column.class);
+    assertThat(layout).isNotSameAs(previousLayout);
+    assertThat(next.getMemoizedLayout()).isSameAs(previousLayout);
+    assertThat(previous.getMemoizedLayout()).isNull();
+    assertThat(memoizedLayouts.getHitCount()).isEqualTo(1);
+    assertThat(memoizedLayouts.getMissCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void testChangedComponentCreatesLayout() {
+    final PureComponent previous = layOut(new MemoizedLayouts(null), new PureComponent(1));
+    final Component previousLayout = previous.getMemoizedLayout();
+    final MemoizedLayouts memoizedLayouts = new MemoizedLayouts(createDiffNode(previous));
+    final PureComponent next = new PureComponent(2);
+
+    createLayout(memoizedLayouts, next);
+
+    assertThat(next.mCreateLayoutCount).isEqualTo(1);
+    assertThat(next.getMemoizedLayout()).isNotSameAs(previousLayout);
+    assertThat(previous.getMemoizedLayout()).isNull();
+    assertThat(memoizedLayouts.getHitCount()).isEqualTo(0);
+    assertThat(memoizedLayouts.getMissCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void testChangedTreePropsCreateLayout() {
+    final PureComponent previous = layOut(new MemoizedLayouts(null), new PureComponent(1));
+    final MemoizedLayouts memoizedLayouts = new MemoizedLayouts(createDiffNode(previous));
+    final PureComponent next = new PureComponent(1);
+    final TreeProps treeProps = new TreeProps();
+    treeProps.put(String.class, "tree prop");
+    mContext.setTreeProps(treeProps);
+
+    createLayout(memoizedLayouts, next);
+
+    assertThat(next.mCreateLayoutCount).isEqualTo(1);
+    assertThat(memoizedLayouts.getMissCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void testEqualTreePropsReusePreviousLayout() {
+    final TreeProps previousTreeProps = new TreeProps();
+    previousTreeProps.put(String.class, "tree prop");
+    mContext.setTreeProps(previousTreeProps);
+    final PureComponent previous = layOut(new MemoizedLayouts(null), new PureComponent(1));
+    final MemoizedLayouts memoizedLayouts = new MemoizedLayouts(createDiffNode(previous));
+    final PureComponent next = new PureComponent(1);
+    final TreeProps treeProps = new TreeProps();
+    treeProps.put(String.class, "tree prop");
+    mContext.setTreeProps(treeProps);
+
+    createLayout(memoizedLayouts, next);
+
+    assertThat(next.mCreateLayoutCount).isEqualTo(0);
+    assertThat(memoizedLayouts.getHitCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void testReleaseDropsLayoutsNotLaidOutAgain() {
+    final PureComponent previous = layOut(new MemoizedLayouts(null), new PureComponent(1));
+    final MemoizedLayouts memoizedLayouts = new MemoizedLayouts(createDiffNode(previous));
+
+    memoizedLayouts.release();
+
+    assertThat(previous.getMemoizedLayout()).isNull();
+    assertThat(previous.getMemoizedLayoutTreeProps()).isNull();
+  }
+
+  @Test
+  public void testSameInstanceKeepsItsLayout() {
+    final PureComponent component = layOut(new MemoizedLayouts(null), new PureComponent(1));
+    final Component layout = component.getMemoizedLayout();
+    final MemoizedLayouts memoizedLayouts = new MemoizedLayouts(createDiffNode(component));
+
+    createLayout(memoizedLayouts, component);
+    memoizedLayouts.release();
+
+    assertThat(component.getMemoizedLayout()).isSameAs(layout);
+  }
+
+  private PureComponent layOut(MemoizedLayouts memoizedLayouts, PureComponent component) {
+    createLayout(memoizedLayouts, component);
+    return component;
+  }
+
+  private ComponentLayout createLayout(MemoizedLayouts memoizedLayouts, Component component) {
+    component.generateKey(mContext);
+    return memoizedLayouts.createLayout(mContext, component);
+  }
+
+  private static DiffNode createDiffNode(Component component) {
+    final DiffNode root = new DiffNode();
+    final DiffNode child = new DiffNode();
+    child.addMemoizedLayoutComponent(component);
+    root.addChild(child);
+    return root;
+  }
+
+  private static class PureComponent extends Component {
+
+    private final int mProp;
+    private int mCreateLayoutCount;
+
+    private PureComponent(int prop) {
+      mProp = prop;
+    }
+
+    @Override
+    public String getSimpleName() {
+      return "PureComponent";
+    }
+
+    @Override
+    protected boolean isPureRender() {
+      return true;
+    }
+
+    @Override
+    public boolean isEquivalentTo(Component other) {
+      return other instanceof PureComponent && ((PureComponent) other).mProp == mProp;
+    }
+
+    @Override
+    protected ComponentLayout onCreateLayout(ComponentContext c) {
+      mCreateLayoutCount++;
+      return Column.create(c).child(Row.create(c)).build();
+    }
+  }
+}
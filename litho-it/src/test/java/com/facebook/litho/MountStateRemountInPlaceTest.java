@@ -26,6 +26,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import android.graphics.Color;
+import android.graphics.drawable.ColorDrawable;
 import com.facebook.litho.testing.TestComponent;
 import com.facebook.litho.testing.TestDrawableComponent;
 import com.facebook.litho.testing.helper.ComponentTestHelper;
@@ -670,4 +671,155 @@ public class MountStateRemountInPlaceTest {
     event.addParam(PARAM_MOVED_COUNT, "2");
     verify(mComponentsLogger).log(eq(event));
   }
+
+  @Test
+  public void testUpdatePropsInsteadOfRemount() {
+    final UpdatablePropsComponent firstComponent = new UpdatablePropsComponent(BLACK, true);
+    final LithoView lithoView = mountComponent(mContext, wrap(firstComponent));
+
+    assertThat(firstComponent.mMountCount).isEqualTo(1);
+
+    final UpdatablePropsComponent secondComponent = new UpdatablePropsComponent(WHITE, true);
+    lithoView.getComponentTree().setRoot(wrap(secondComponent));
+
+    assertThat(secondComponent.mMountCount).isEqualTo(0);
+    assertThat(secondComponent.mUpdatePropsCount).isEqualTo(1);
+    assertThat(secondComponent.mDrawable.getColor()).isEqualTo(WHITE);
+    assertThat(firstComponent.mUnmountCount).isEqualTo(0);
+  }
+
+  @Test
+  public void testRemountWhenPropsCannotBeUpdated() {
+    final UpdatablePropsComponent firstComponent = new UpdatablePropsComponent(BLACK, false);
+    final LithoView lithoView = mountComponent(mContext, wrap(firstComponent));
+
+    final UpdatablePropsComponent secondComponent = new UpdatablePropsComponent(WHITE, false);
+    lithoView.getComponentTree().setRoot(wrap(secondComponent));
+
+    assertThat(secondComponent.mMountCount).isEqualTo(1);
+    assertThat(secondComponent.mUpdatePropsCount).isEqualTo(0);
+    assertThat(firstComponent.mUnmountCount).isEqualTo(1);
+  }
+
+  @Test
+  public void testRemountWhenUpdatedWithoutPropChanges() {
+    final UpdatablePropsComponent firstComponent = new UpdatablePropsComponent(BLACK, true, false);
+    final LithoView lithoView = mountComponent(mContext, wrap(firstComponent));
+
+    // The content is updated because the component isn't pure, but none of its props changed so
+    // it can't tell whether the content is still valid.
+    final UpdatablePropsComponent secondComponent =
+        new UpdatablePropsComponent(BLACK, true, false);
+    lithoView.getComponentTree().setRoot(wrap(secondComponent));
+
+    assertThat(secondComponent.mMountCount).isEqualTo(1);
+    assertThat(secondComponent.mUpdatePropsCount).isEqualTo(0);
+    assertThat(firstComponent.mUnmountCount).isEqualTo(1);
+  }
+
+  private static InlineLayoutSpec wrap(final Component component) {
+    return new InlineLayoutSpec() {
+      @Override
+      protected ComponentLayout onCreateLayout(ComponentContext c) {
+        return Column.create(c).child(component).build();
+      }
+    };
+  }
+
+  private static class UpdatablePropsComponent extends Component {
+
+    private final int mColor;
+    private final boolean mCanUpdateColor;
+    private final boolean mIsPureRender;
+    private ColorDrawable mDrawable;
+    private int mMountCount;
+    private int mUnmountCount;
+    private int mUpdatePropsCount;
+
+    private UpdatablePropsComponent(int color, boolean canUpdateColor) {
+      this(color, canUpdateColor, true);
+    }
+
+    private UpdatablePropsComponent(int color, boolean canUpdateColor, boolean isPureRender) {
+      mColor = color;
+      mCanUpdateColor = canUpdateColor;
+      mIsPureRender = isPureRender;
+    }
+
+    @Override
+    public String getSimpleName() {
+      return "UpdatablePropsComponent";
+    }
+
+    @Override
+    protected boolean isPureRender() {
+      return mIsPureRender;
+    }
+
+    @Override
+    protected boolean callsShouldUpdateOnMount() {
+      return true;
+    }
+
+    @Override
+    protected boolean shouldUpdate(Component previous, Component next) {
+      return ((UpdatablePropsComponent) previous).mColor
+          != ((UpdatablePropsComponent) next).mColor;
+    }
+
+    @Override
+    protected long getChangedProps(Component previous) {
+      return ((UpdatablePropsComponent) previous).mColor != mColor ? 1 : 0;
+    }
+
+    @Override
+    protected long getUpdatableProps() {
+      return mCanUpdateColor ? 1 : 0;
+    }
+
+    @Override
+    public MountType getMountType() {
+      return MountType.DRAWABLE;
+    }
+
+    @Override
+    protected boolean canMeasure() {
+      return true;
+    }
+
+    @Override
+    protected void onMeasure(
+        ComponentContext c,
+        ActualComponentLayout layout,
+        int widthSpec,
+        int heightSpec,
+        Size size) {
+      size.width = 10;
+      size.height = 10;
+    }
+
+    @Override
+    protected Object onCreateMountContent(ComponentContext c) {
+      return new ColorDrawable();
+    }
+
+    @Override
+    protected void onMount(ComponentContext c, Object convertContent) {
+      mMountCount++;
+      mDrawable = (ColorDrawable) convertContent;
+      mDrawable.setColor(mColor);
+    }
+
+    @Override
+    protected void onUpdateProps(ComponentContext c, Object mountedContent) {
+      mUpdatePropsCount++;
+      mDrawable = (ColorDrawable) mountedContent;
+      mDrawable.setColor(mColor);
+    }
+
+    @Override
+    protected void onUnmount(ComponentContext c, Object mountedContent) {
+      mUnmountCount++;
+    }
+  }
 }
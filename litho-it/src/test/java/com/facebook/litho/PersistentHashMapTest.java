@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2017-present, Facebook, Inc.
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree. An additional grant
+ * of patent rights can be found in the PATENTS file in the same directory.
+ */
+
+package com.facebook.litho;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+import org.junit.Test;
+
+/** Tests {@link PersistentHashMap}. */
+public class PersistentHashMapTest {
+
+  @Test
+  public void testPlusDoesNotModifyMap() {
+    final PersistentHashMap<String, Integer> empty = PersistentHashMap.empty();
+    final PersistentHashMap<String, Integer> first = empty.plus("a", 1);
+    final PersistentHashMap<String, Integer> second = first.plus("a", 2).plus("b", 3);
+
+    assertThat(empty.isEmpty()).isTrue();
+    assertThat(empty.get("a")).isNull();
+    assertThat(first.size()).isEqualTo(1);
+    assertThat(first.get("a")).isEqualTo(1);
+    assertThat(first.get("b")).isNull();
+    assertThat(second.size()).isEqualTo(2);
+    assertThat(second.get("a")).isEqualTo(2);
+    assertThat(second.get("b")).isEqualTo(3);
+  }
+
+  @Test
+  public void testPlusSameValueReturnsSameMap() {
+    final Integer value = 1000;
+    final PersistentHashMap<String, Integer> map =
+        PersistentHashMap.<String, Integer>empty().plus("a", value);
+
+    assertThat(map.plus("a", value)).isSameAs(map);
+  }
+
+  @Test
+  public void testManyKeys() {
+    PersistentHashMap<String, Integer> map = PersistentHashMap.empty();
+    for (int i = 0; i < 5000; i++) {
+      map = map.plus("key" + i, i);
+    }
+
+    assertThat(map.size()).isEqualTo(5000);
+    for (int i = 0; i < 5000; i++) {
+      assertThat(map.get("key" + i)).isEqualTo(i);
+    }
+    assertThat(map.get("key5000")).isNull();
+  }
+
+  @Test
+  public void testKeysWithSameHash() {
+    // "Aa" and "BB" have the same hash code.
+    final PersistentHashMap<String, Integer> map =
+        PersistentHashMap.<String, Integer>empty().plus("Aa", 1).plus("BB", 2);
+    final PersistentHashMap<String, Integer> updated = map.plus("BB", 3).plus("AaBB", 4);
+
+    assertThat(map.size()).isEqualTo(2);
+    assertThat(map.get("Aa")).isEqualTo(1);
+    assertThat(map.get("BB")).isEqualTo(2);
+    assertThat(updated.size()).isEqualTo(3);
+    assertThat(updated.get("Aa")).isEqualTo(1);
+    assertThat(updated.get("BB")).isEqualTo(3);
+    assertThat(updated.get("AaBB")).isEqualTo(4);
+  }
+}
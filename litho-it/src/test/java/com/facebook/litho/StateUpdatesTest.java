@@ -284,7 +284,7 @@ public class StateUpdatesTest {
     return Whitebox.getInternalState(mComponentTree, "mStateHandler");
   }
 
-  private Map<String, StateContainer> getStateContainersMap() {
+  private PersistentHashMap<String, StateContainer> getStateContainersMap() {
     return getStateHandler().getStateContainers();
   }
 
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2017-present, Facebook, Inc.
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree. An additional grant
+ * of patent rights can be found in the PATENTS file in the same directory.
+ */
+
+package com.facebook.litho;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+import static org.robolectric.RuntimeEnvironment.application;
+
+import android.app.Activity;
+import android.content.ContextWrapper;
+import com.facebook.litho.testing.testrunner.ComponentsTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+
+/** Tests {@link StaticLayoutTemplates}. */
+@RunWith(ComponentsTestRunner.class)
+public class StaticLayoutTemplatesTest {
+
+  private ComponentContext mContext;
+
+  @Before
+  public void setup() {
+    StaticLayoutTemplates.clear();
+    mContext = new ComponentContext(application);
+  }
+
+  @Test
+  public void testLayoutIsCreatedOncePerContext() {
+    final StaticComponent first = new StaticComponent();
+    final StaticComponent second = new StaticComponent();
+
+    StaticLayoutTemplates.instantiate(mContext, first);
+    StaticLayoutTemplates.instantiate(mContext, second);
+    StaticLayoutTemplates.instantiate(new ComponentContext(new ContextWrapper(application)), first);
+
+    assertThat(first.mCreateLayoutCount).isEqualTo(2);
+    assertThat(second.mCreateLayoutCount).isEqualTo(0);
+  }
+
+  @Test
+  public void testInstancesDoNotShareComponents() {
+    final StaticComponent component = new StaticComponent();
+
+    final Column first = (Column) StaticLayoutTemplates.instantiate(mContext, component);
+    final Column second = (Column) StaticLayoutTemplates.instantiate(mContext, component);
+
+    assertThat(first).isNotSameAs(second);
+    assertThat(first.children).hasSize(1);
+    assertThat(second.children).hasSize(1);
+    assertThat(first.children.get(0)).isNotSameAs(second.children.get(0));
+    assertThat(((Row) first.children.get(0)).children.get(0))
+        .isNotSameAs(((Row) second.children.get(0)).children.get(0));
+  }
+
+  @Test
+  public void testTemplatesAreDroppedWhenContextIsDestroyed() {
+    final Activity activity = Robolectric.buildActivity(Activity.class).create().get();
+    final ComponentContext activityContext = new ComponentContext(activity);
+    final ComponentContext wrapperContext = new ComponentContext(new ContextWrapper(activity));
+    final StaticComponent component = new StaticComponent();
+
+    StaticLayoutTemplates.instantiate(activityContext, component);
+    StaticLayoutTemplates.instantiate(wrapperContext, component);
+    StaticLayoutTemplates.instantiate(mContext, component);
+    assertThat(component.mCreateLayoutCount).isEqualTo(3);
+
+    ComponentsPools.onContextDestroyed(activity);
+
+    StaticLayoutTemplates.instantiate(activityContext, component);
+    StaticLayoutTemplates.instantiate(wrapperContext, component);
+    StaticLayoutTemplates.instantiate(mContext, component);
+    assertThat(component.mCreateLayoutCount).isEqualTo(5);
+  }
+
+  private static class StaticComponent extends Component {
+
+    private int mCreateLayoutCount;
+
+    @Override
+    public String getSimpleName() {
+      return "StaticComponent";
+    }
+
+    @Override
+    protected boolean hasStaticLayout() {
+      return true;
+    }
+
+    @Override
+    protected ComponentLayout onCreateLayout(ComponentContext c) {
+      mCreateLayoutCount++;
+      return Column.create(c).child(Row.create(c).child(Row.create(c))).build();
+    }
+  }
+}
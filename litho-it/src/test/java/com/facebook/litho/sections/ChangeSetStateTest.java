@@ -11,12 +11,24 @@ package com.facebook.litho.sections;
 
 import static com.facebook.litho.sections.Change.MOVE;
 import static org.assertj.core.api.Java6Assertions.assertThat;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Matchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
 
+import com.facebook.litho.sections.config.SectionsConfiguration;
 import com.facebook.litho.sections.logger.SectionsDebugLogger;
+import com.facebook.litho.sections.logger.SectionsDiffTimingCollector;
 import com.facebook.litho.testing.sections.TestSectionCreator;
 import com.facebook.litho.testing.testrunner.ComponentsTestRunner;
 import com.facebook.litho.widget.ComponentRenderInfo;
+import java.util.Collections;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -40,6 +52,84 @@ public class ChangeSetStateTest {
     mNextPrefix = "";
   }
 
+  @After
+  public void tearDown() {
+    SectionsConfiguration.diffTimingCollector = null;
+  }
+
+  @Test
+  public void testDiffTimingsAreCollected() {
+    final Section leaf1 = TestSectionCreator.createChangeSetComponent(
+        "leaf1",
+        Change.insert(0, ComponentRenderInfo.createEmpty()));
+    final Section root = TestSectionCreator.createSectionComponent("node1", leaf1);
+    TestSectionCreator.createTree(root, mSectionContext);
+
+    final SectionsDiffTimingCollector timingCollector = mock(SectionsDiffTimingCollector.class);
+    when(timingCollector.shouldCollect(mSectionTreeTag)).thenReturn(true);
+    SectionsConfiguration.diffTimingCollector = timingCollector;
+
+    ChangeSetState.generateChangeSet(
+        mSectionContext,
+        null,
+        root,
+        mSectionsDebugLogger,
+        mSectionTreeTag,
+        mCurrentPrefix,
+        mNextPrefix);
+
+    verify(timingCollector)
+        .onSectionDiffed(
+            eq(mSectionTreeTag), eq("TestSection"), eq(root.getGlobalKey()), anyLong());
+    verify(timingCollector)
+        .onSectionDiffed(
+            eq(mSectionTreeTag), eq("TestSection"), eq(leaf1.getGlobalKey()), anyLong());
+  }
+
+  @Test
+  public void testShouldUpdateIsLoggedWhenLoggerIsAttached() {
+    final Section leaf1 = TestSectionCreator.createChangeSetComponent(
+        "leaf1",
+        Change.insert(0, ComponentRenderInfo.createEmpty()));
+    final Section root = TestSectionCreator.createSectionComponent("node1", leaf1);
+    TestSectionCreator.createTree(root, mSectionContext);
+
+    final SectionsDebugLogger sectionsDebugLogger = mock(SectionsDebugLogger.class);
+    ChangeSetState.generateChangeSet(
+        mSectionContext,
+        null,
+        root,
+        new Logger(Collections.singletonList(sectionsDebugLogger)),
+        mSectionTreeTag,
+        mCurrentPrefix,
+        mNextPrefix);
+
+    verify(sectionsDebugLogger)
+        .logShouldUpdate(
+            eq(mSectionTreeTag),
+            isNull(),
+            eq(root),
+            anyString(),
+            anyString(),
+            eq(true),
+            anyString());
+  }
+
+  @Test
+  public void testShouldUpdateIsNotLoggedWithoutLoggers() {
+    final Section leaf1 = TestSectionCreator.createChangeSetComponent(
+        "leaf1",
+        Change.insert(0, ComponentRenderInfo.createEmpty()));
+    final Section root = TestSectionCreator.createSectionComponent("node1", leaf1);
+    TestSectionCreator.createTree(root, mSectionContext);
+
+    final Logger logger = spy(new Logger(Collections.<SectionsDebugLogger>emptyList()));
+    ChangeSetState.generateChangeSet(
+        mSectionContext, null, root, logger, mSectionTreeTag, mCurrentPrefix, mNextPrefix);
+
+    verifyZeroInteractions(logger);
+  }
+
   @Test
   public void testNewChangeSetGeneration() {
     final Section leaf1 = TestSectionCreator.createChangeSetComponent(
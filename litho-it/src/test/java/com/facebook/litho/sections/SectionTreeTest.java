@@ -310,6 +310,51 @@ public class SectionTreeTest {
     assertThat(((TestSection) leaf4).lastFullyVisibleIndex).isEqualTo(3);
   }
 
+  @Test
+  public void testViewPortChangedOnlyDispatchesToIntersectingSections() {
+    final Section leaf1 = TestSectionCreator.createChangeSetComponent(
+        "leaf1",
+        Change.insert(0, makeComponentInfo()),
+        Change.insert(1, makeComponentInfo()));
+
+    final Section leaf2 = TestSectionCreator.createChangeSetComponent(
+        "leaf2",
+        Change.insert(0, makeComponentInfo()),
+        Change.insert(1, makeComponentInfo()));
+
+    final Section leaf3 = TestSectionCreator.createChangeSetComponent(
+        "leaf3",
+        Change.insert(0, makeComponentInfo()),
+        Change.insert(1, makeComponentInfo()));
+
+    final Section root = TestSectionCreator.createSectionComponent("root", leaf1, leaf2, leaf3);
+    SectionTree tree = SectionTree.create(mSectionContext, new TestTarget()).build();
+
+    tree.setRoot(root);
+    tree.viewPortChangedFromScrolling(0, 1, 0, 1);
+
+    ((TestSection) leaf3).firstVisibleIndex = 42;
+
+    tree.viewPortChangedFromScrolling(1, 2, 1, 2);
+
+    assertThat(((TestSection) leaf1).firstVisibleIndex).isEqualTo(1);
+    assertThat(((TestSection) leaf1).lastVisibleIndex).isEqualTo(1);
+    assertThat(((TestSection) leaf2).firstVisibleIndex).isEqualTo(0);
+    assertThat(((TestSection) leaf2).lastVisibleIndex).isEqualTo(0);
+    assertThat(((TestSection) leaf3).firstVisibleIndex).isEqualTo(42);
+
+    tree.viewPortChangedFromScrolling(4, 5, 4, 5);
+
+    assertThat(((TestSection) leaf1).firstVisibleIndex).isEqualTo(-1);
+    assertThat(((TestSection) leaf1).lastVisibleIndex).isEqualTo(-1);
+    assertThat(((TestSection) leaf2).firstVisibleIndex).isEqualTo(-1);
+    assertThat(((TestSection) leaf2).lastVisibleIndex).isEqualTo(-1);
+    assertThat(((TestSection) leaf3).firstVisibleIndex).isEqualTo(0);
+    assertThat(((TestSection) leaf3).lastVisibleIndex).isEqualTo(1);
+    assertThat(((TestSection) leaf3).firstFullyVisibleIndex).isEqualTo(0);
+    assertThat(((TestSection) leaf3).lastFullyVisibleIndex).isEqualTo(1);
+  }
+
   @Test
   public void testStateUpdate() {
     final Section section = TestSectionCreator.createChangeSetComponent(
@@ -381,6 +426,68 @@ public class SectionTreeTest {
     assertThat(stateUpdate.mUpdateStateCalled).isFalse();
   }
 
+  @Test
+  public void testStateUpdateOnlyRecreatesDirtySubtree() {
+    final Section leaf1 = TestSectionCreator.createChangeSetComponent(
+        "leaf1",
+        Change.insert(0, makeComponentInfo()));
+    final Section leaf2 = TestSectionCreator.createChangeSetComponent(
+        "leaf2",
+        Change.insert(0, makeComponentInfo()));
+    final Section node1 = TestSectionCreator.createSectionComponent("node1", leaf1);
+    final Section node2 = TestSectionCreator.createSectionComponent("node2", leaf2);
+    final Section root = TestSectionCreator.createSectionComponent("root", node1, node2);
+
+    final TestTarget changeSetHandler = new TestTarget();
+    SectionTree tree = SectionTree.create(mSectionContext, changeSetHandler)
+        .build();
+
+    tree.setRoot(root);
+    assertThat(((TestSection) node1).createChildrenCount).isEqualTo(1);
+    assertThat(((TestSection) node2).createChildrenCount).isEqualTo(1);
+
+    final StateUpdate stateUpdate = new StateUpdate();
+    tree.updateState("rootnode2leaf2", stateUpdate);
+
+    assertThat(stateUpdate.mUpdateStateCalled).isTrue();
+    assertThat(((TestSection) node1).createChildrenCount).isEqualTo(1);
+    assertThat(((TestSection) node2).createChildrenCount).isEqualTo(2);
+    assertThat(node1.getCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void testReusedChildrenBelongToCommittedTree() {
+    final Section leaf1 = TestSectionCreator.createChangeSetComponent(
+        "leaf1",
+        Change.insert(0, makeComponentInfo()));
+    final Section leaf2 = TestSectionCreator.createChangeSetComponent(
+        "leaf2",
+        Change.insert(0, makeComponentInfo()));
+    final Section node1 = TestSectionCreator.createSectionComponent("node1", leaf1);
+    final Section node2 = TestSectionCreator.createSectionComponent("node2", leaf2);
+    final Section root = TestSectionCreator.createSectionComponent("root", node1, node2);
+
+    final TestTarget changeSetHandler = new TestTarget();
+    SectionTree tree = SectionTree.create(mSectionContext, changeSetHandler)
+        .build();
+
+    tree.setRoot(root);
+    final Section previousNode1 = getCurrentSection(tree).getChildren().get(0);
+    final Section reusedLeaf = previousNode1.getChildren().get(0);
+    assertThat(reusedLeaf.getParent()).isSameAs(previousNode1);
+
+    tree.updateState("rootnode2leaf2", new StateUpdate());
+
+    final Section nextNode1 = getCurrentSection(tree).getChildren().get(0);
+    assertThat(nextNode1).isNotSameAs(previousNode1);
+    assertThat(nextNode1.getChildren().get(0)).isSameAs(reusedLeaf);
+    assertThat(reusedLeaf.getParent()).isSameAs(nextNode1);
+  }
+
+  private static Section getCurrentSection(SectionTree tree) {
+    return Whitebox.getInternalState(tree, "mCurrentSection");
+  }
+
   private static class StateUpdate implements SectionLifecycle.StateUpdate {
 
     private boolean mUpdateStateCalled;
@@ -429,6 +536,34 @@ public class SectionTreeTest {
     assertThat(changeSetHandler.wereChangesHandled()).isFalse();
   }
 
+  @Test
+  public void testUpdateStateAsyncCoalescesUpdates() {
+    final Section section = TestSectionCreator.createChangeSetComponent(
+        "leaf1",
+        Change.insert(0, makeComponentInfo()));
+    section.setKey("key");
+
+    final TestTarget changeSetHandler = new TestTarget();
+    SectionTree tree = SectionTree.create(mSectionContext, changeSetHandler)
+        .changeSetCoalescingWindowMs(16)
+        .build();
+
+    tree.setRoot(section);
+    assertThat(tree.getCommittedChangeSetCalculationsCount()).isEqualTo(1);
+
+    final StateUpdate firstStateUpdate = new StateUpdate();
+    final StateUpdate secondStateUpdate = new StateUpdate();
+    tree.updateStateAsync("key", firstStateUpdate);
+    tree.updateStateAsync("key", secondStateUpdate);
+    mChangeSetThreadShadowLooper.runOneTask();
+
+    assertThat(firstStateUpdate.mUpdateStateCalled).isTrue();
+    assertThat(secondStateUpdate.mUpdateStateCalled).isTrue();
+    assertThat(tree.getCommittedChangeSetCalculationsCount()).isEqualTo(2);
+    assertThat(tree.getDiscardedChangeSetCalculationsCount()).isEqualTo(0);
+    assertThat(tree.getCoalescedChangeSetRequestsCount()).isEqualTo(1);
+  }
+
   @Test(expected = IllegalStateException.class)
   public void testRequestFocusBeforeDataBound() {
     final Section section = TestSectionCreator.createChangeSetComponent("test");
@@ -185,6 +185,9 @@ public class ComponentBodyGeneratorTest {
                 + "  if (this.getId() == testRef.getId()) {\n"
                 + "    return true;\n"
                 + "  }\n"
+                + "  if (getPropsFingerprint() != testRef.getPropsFingerprint()) {\n"
+                + "    return false;\n"
+                + "  }\n"
                 + "  if (arg0 != testRef.arg0) {\n"
                 + "    return false;\n"
                 + "  }\n"
@@ -201,6 +204,42 @@ public class ComponentBodyGeneratorTest {
                 + "}\n");
   }
 
+  @Test
+  public void testGeneratePropsFingerprint() {
+    TypeSpecDataHolder dataHolder = ComponentBodyGenerator.generatePropsFingerprint(mSpecModelDI);
+    assertThat(dataHolder.getMethodSpecs()).hasSize(1);
+    assertThat(dataHolder.getMethodSpecs().get(0).toString())
+        .isEqualTo(
+            "@java.lang.Override\n"
+                + "protected long computePropsFingerprint() {\n"
+                + "  long fingerprint = 0;\n"
+                + "  fingerprint = 31 * fingerprint + (arg0 ? 1 : 0);\n"
+                + "  return fingerprint;\n"
+                + "}\n");
+  }
+
+  @Test
+  public void testGenerateShallowCopy() {
+    TypeSpecDataHolder dataHolder =
+        ComponentBodyGenerator.generateShallowCopy(mSpecModelDI, true, false, null);
+    assertThat(dataHolder.getMethodSpecs()).hasSize(2);
+    assertThat(dataHolder.getMethodSpecs().get(0).toString())
+        .isEqualTo(
+            "private Constructor(Test source) {\n"
+                + "  super(source);\n"
+                + "  mStateContainer = source.mStateContainer;\n"
+                + "  arg0 = source.arg0;\n"
+                + "  arg4 = source.arg4;\n"
+                + "  arg3 = source.arg3;\n"
+                + "}\n");
+    assertThat(dataHolder.getMethodSpecs().get(1).toString())
+        .isEqualTo(
+            "@java.lang.Override\n"
+                + "protected Test createShallowCopy() {\n"
+                + "  return new Test(this);\n"
+                + "}\n");
+  }
+
   @Test
   public void testOnUpdateStateMethods() {
     TypeSpecDataHolder dataHolder =
@@ -192,20 +192,34 @@ public class EventGeneratorTest {
   public void testGenerateEventDispatchers() {
     TypeSpecDataHolder dataHolder = EventGenerator.generateEventDispatchers(mMockSpecModel);
 
+    assertThat(dataHolder.getFieldSpecs()).hasSize(2);
+    assertThat(dataHolder.getFieldSpecs().get(1).toString())
+        .isEqualTo("private static java.lang.Object sMainThreadObject;\n");
     assertThat(dataHolder.getMethodSpecs()).hasSize(1);
     assertThat(dataHolder.getMethodSpecs().get(0).toString())
         .isEqualTo(
             "static java.lang.Object dispatchObject(com.facebook.litho.EventHandler _eventHandler, int field1,\n" +
             "    int field2) {\n" +
-            "  java.lang.Object _eventState = sObjectPool.acquire();\n" +
-            "  if (_eventState == null) {\n" +
-            "    _eventState = new java.lang.Object();\n" +
+            "  final boolean _isMainThread = android.os.Looper.myLooper() == android.os.Looper.getMainLooper();\n" +
+            "  java.lang.Object _eventState;\n" +
+            "  if (_isMainThread && sMainThreadObject != null) {\n" +
+            "    _eventState = sMainThreadObject;\n" +
+            "    sMainThreadObject = null;\n" +
+            "  } else {\n" +
+            "    _eventState = sObjectPool.acquire();\n" +
+            "    if (_eventState == null) {\n" +
+            "      _eventState = new java.lang.Object();\n" +
+            "    }\n" +
             "  }\n" +
             "  _eventState.field1 = field1;\n" +
             "  _eventState.field2 = field2;\n" +
             "  com.facebook.litho.EventDispatcher _lifecycle = _eventHandler.mHasEventDispatcher.getEventDispatcher();\n" +
             "  java.lang.Object result = (java.lang.Object) _lifecycle.dispatchOnEvent(_eventHandler, _eventState);\n" +
-            "  sObjectPool.release(_eventState);\n" +
+            "  if (_isMainThread) {\n" +
+            "    sMainThreadObject = _eventState;\n" +
+            "  } else {\n" +
+            "    sObjectPool.release(_eventState);\n" +
+            "  }\n" +
             "  return result;\n" +
             "}\n");
   }
@@ -16,6 +16,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.facebook.litho.specmodels.internal.ImmutableList;
+import com.facebook.litho.specmodels.model.ClassNames;
 import com.facebook.litho.specmodels.model.DelegateMethod;
 import com.facebook.litho.specmodels.model.DependencyInjectionHelper;
 import com.facebook.litho.specmodels.model.SpecMethodModel;
@@ -91,6 +92,28 @@ public class PreambleGeneratorTest {
             "public Constructor() {\n" + "  super();\n  final Object testObject = new TestObject();\n" + "}\n");
   }
 
+  @Test
+  public void testGenerateConstructorForComponent() {
+    final SpecModel specModel =
+        SpecModelImpl.newBuilder()
+            .qualifiedSpecClassName(TEST_QUALIFIED_SPEC_NAME)
+            .componentClass(ClassNames.COMPONENT)
+            .delegateMethods(ImmutableList.<SpecMethodModel<DelegateMethod, Void>>of())
+            .representedObject(new Object())
+            .build();
+
+    TypeSpecDataHolder typeSpecDataHolder = generateConstructor(specModel);
+
+    assertThat(typeSpecDataHolder.getFieldSpecs()).hasSize(1);
+    assertThat(typeSpecDataHolder.getMethodSpecs()).hasSize(1);
+    assertThat(typeSpecDataHolder.getTypeSpecs()).isEmpty();
+
+    assertThat(typeSpecDataHolder.getFieldSpecs().get(0).toString())
+        .isEqualTo("private static final int TYPE_ID = newTypeId();\n");
+    assertThat(typeSpecDataHolder.getMethodSpecs().get(0).toString())
+        .isEqualTo("private Constructor() {\n  super(TYPE_ID);\n" + "}\n");
+  }
+
   @Test
   public void testGenerateSourceDelegateWithoutDependencyInjection() {
     TypeSpecDataHolder typeSpecDataHolder =
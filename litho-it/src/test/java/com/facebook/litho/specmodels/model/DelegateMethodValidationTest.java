@@ -23,6 +23,7 @@ import com.facebook.litho.annotations.OnCreateMountContent;
 import com.facebook.litho.annotations.OnMount;
 import com.facebook.litho.annotations.OnPrepare;
 import com.facebook.litho.annotations.OnUnmount;
+import com.facebook.litho.annotations.ResType;
 import com.facebook.litho.specmodels.internal.ImmutableList;
 import com.facebook.litho.testing.specmodels.MockMethodParamModel;
 import com.squareup.javapoet.ClassName;
@@ -142,6 +143,90 @@ public class DelegateMethodValidationTest {
             "is what you want.");
   }
 
+  @Test
+  public void testStaticLayoutSpecOnCreateLayoutOnlyTakesContext() {
+    when(mLayoutSpecModel.isStatic()).thenReturn(true);
+    when(mLayoutSpecModel.getProps()).thenReturn(ImmutableList.of());
+    when(mLayoutSpecModel.getStateValues()).thenReturn(ImmutableList.of());
+    when(mLayoutSpecModel.getTreeProps()).thenReturn(ImmutableList.of());
+    when(mLayoutSpecModel.getEventMethods()).thenReturn(ImmutableList.of());
+    when(mLayoutSpecModel.getTriggerMethods()).thenReturn(ImmutableList.of());
+    when(mLayoutSpecModel.getUpdateStateMethods()).thenReturn(ImmutableList.of());
+    when(mLayoutSpecModel.getDelegateMethods())
+        .thenReturn(
+            ImmutableList.of(
+                new SpecMethodModel<DelegateMethod, Void>(
+                    ImmutableList.of((Annotation) () -> OnCreateLayout.class),
+                    ImmutableList.of(Modifier.STATIC),
+                    "name",
+                    ClassNames.COMPONENT_LAYOUT,
+                    ImmutableList.of(),
+                    ImmutableList.of(
+                        MockMethodParamModel.newBuilder()
+                            .name("c")
+                            .type(ClassNames.COMPONENT_CONTEXT)
+                            .representedObject(new Object())
+                            .build(),
+                        new PropModel(
+                            MockMethodParamModel.newBuilder()
+                                .name("title")
+                                .type(ClassName.bestGuess("java.lang.String"))
+                                .representedObject(mMethodParamObject1)
+                                .build(),
+                            false,
+                            ResType.NONE,
+                            "")),
+                    mDelegateMethodObject1,
+                    null)));
+
+    final List<SpecModelValidationError> validationErrors =
+        DelegateMethodValidation.validateLayoutSpecModel(mLayoutSpecModel);
+    assertThat(validationErrors).hasSize(1);
+    assertThat(validationErrors.get(0).element).isEqualTo(mDelegateMethodObject1);
+    assertThat(validationErrors.get(0).message)
+        .isEqualTo(
+            "The @OnCreateLayout method of a static LayoutSpec can only take a "
+                + "ComponentContext, as its layout is created once for every instance.");
+  }
+
+  @Test
+  public void testStaticLayoutSpecWithState() {
+    when(mLayoutSpecModel.isStatic()).thenReturn(true);
+    when(mLayoutSpecModel.getProps()).thenReturn(ImmutableList.of());
+    when(mLayoutSpecModel.getStateValues())
+        .thenReturn(ImmutableList.of(mock(StateParamModel.class)));
+    when(mLayoutSpecModel.getTreeProps()).thenReturn(ImmutableList.of());
+    when(mLayoutSpecModel.getEventMethods()).thenReturn(ImmutableList.of());
+    when(mLayoutSpecModel.getTriggerMethods()).thenReturn(ImmutableList.of());
+    when(mLayoutSpecModel.getUpdateStateMethods()).thenReturn(ImmutableList.of());
+    when(mLayoutSpecModel.getDelegateMethods())
+        .thenReturn(
+            ImmutableList.of(
+                new SpecMethodModel<DelegateMethod, Void>(
+                    ImmutableList.of((Annotation) () -> OnCreateLayout.class),
+                    ImmutableList.of(Modifier.STATIC),
+                    "name",
+                    ClassNames.COMPONENT_LAYOUT,
+                    ImmutableList.of(),
+                    ImmutableList.of(
+                        MockMethodParamModel.newBuilder()
+                            .name("c")
+                            .type(ClassNames.COMPONENT_CONTEXT)
+                            .representedObject(new Object())
+                            .build()),
+                    mDelegateMethodObject1,
+                    null)));
+
+    final List<SpecModelValidationError> validationErrors =
+        DelegateMethodValidation.validateLayoutSpecModel(mLayoutSpecModel);
+    assertThat(validationErrors).hasSize(1);
+    assertThat(validationErrors.get(0).element).isEqualTo(mModelRepresentedObject);
+    assertThat(validationErrors.get(0).message)
+        .isEqualTo(
+            "A static LayoutSpec can't declare props, state or tree props, as its layout is "
+                + "created once for every instance.");
+  }
+
   @Test
   public void testDelegateMethodDoesNotDefineEnoughParams() {
     when(mLayoutSpecModel.getDelegateMethods())
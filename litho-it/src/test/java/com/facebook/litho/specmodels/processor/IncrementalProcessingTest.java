@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2017-present, Facebook, Inc.
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree. An additional grant
+ * of patent rights can be found in the PATENTS file in the same directory.
+ */
+
+package com.facebook.litho.specmodels.processor;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+import com.facebook.litho.specmodels.processor.testing.ComponentsTestingProcessor;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+
+/**
+ * Tests that the processors only read what their incremental processing category allows, see
+ * {@link AbstractComponentsProcessor#shouldLoadPropNamesFromClassPath()}.
+ */
+public class IncrementalProcessingTest {
+
+  private static final String PROCESSORS_RESOURCE =
+      "META-INF/gradle/incremental.annotation.processors";
+
+  @Test
+  public void testComponentsProcessorIsIsolating() throws IOException {
+    final AbstractComponentsProcessor processor = new ComponentsProcessor();
+
+    assertThat(processor.shouldLoadPropNamesFromClassPath()).isFalse();
+    assertThat(getDeclaredProcessors().get(ComponentsProcessor.class.getName()))
+        .isEqualTo("isolating");
+  }
+
+  @Test
+  public void testComponentsTestingProcessorIsAggregating() throws IOException {
+    final AbstractComponentsProcessor processor = new ComponentsTestingProcessor();
+
+    assertThat(processor.shouldLoadPropNamesFromClassPath()).isTrue();
+    assertThat(getDeclaredProcessors().get(ComponentsTestingProcessor.class.getName()))
+        .isEqualTo("aggregating");
+  }
+
+  private static Map<String, String> getDeclaredProcessors() throws IOException {
+    final Map<String, String> processors = new HashMap<>();
+    final Enumeration<URL> resources =
+        IncrementalProcessingTest.class.getClassLoader().getResources(PROCESSORS_RESOURCE);
+    while (resources.hasMoreElements()) {
+      try (BufferedReader reader =
+          new BufferedReader(new InputStreamReader(resources.nextElement().openStream()))) {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          final String[] parts = line.split(",");
+          if (parts.length == 2) {
+            processors.put(parts[0].trim(), parts[1].trim());
+          }
+        }
+      }
+    }
+
+    return processors;
+  }
+}
@@ -25,6 +25,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.Optional;
 import javax.annotation.processing.Filer;
+import javax.lang.model.element.TypeElement;
 import javax.tools.FileObject;
 import javax.tools.JavaFileManager;
 import javax.tools.StandardLocation;
@@ -82,6 +83,27 @@ public class PropNameInterStageStoreTest {
     // Not checking the actually written values here because Java IO is a horrible mess.
   }
 
+  @Test
+  public void testSaveRecordsSpecAsOriginatingElement() throws IOException {
+    final PropNameInterStageStore store = new PropNameInterStageStore(mFiler);
+    final TypeElement specElement = mock(TypeElement.class);
+
+    final MockSpecModel specModel =
+        MockSpecModel.newBuilder()
+            .rawProps(ImmutableList.of(makePropModel("param0")))
+            .specTypeName(ClassName.get(MyTestSpec.class))
+            .representedObject(specElement)
+            .build();
+    store.saveNames(specModel);
+
+    verify(mFiler)
+        .createResource(
+            StandardLocation.CLASS_OUTPUT,
+            "",
+            "META-INF/litho/com.facebook.litho.specmodels.processor.PropNameInterStageStoreTest.MyTestSpec.props",
+            specElement);
+  }
+
   public static class MyTestSpec {}
 
   static FileObject makeFileObjectForString(String value) throws IOException {
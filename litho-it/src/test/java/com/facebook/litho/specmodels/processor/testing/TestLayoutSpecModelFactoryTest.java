@@ -128,6 +128,23 @@ public class TestLayoutSpecModelFactoryTest {
         .contains("d", atIndex(3));
   }
 
+  @Test
+  public void testCreatePicksUpChangedDependencyPropNames() {
+    final TestSpecModelFactory factory = new TestSpecModelFactory();
+
+    // Two builds of the test spec, the module of the tested spec was rebuilt with renamed props
+    // in between.
+    final TestSpecModel firstBuildModel =
+        factory.create(mElements, mTypeElement, null, createInterStageStore("a", "b", "c", "d"));
+    final TestSpecModel secondBuildModel =
+        factory.create(mElements, mTypeElement, null, createInterStageStore("e", "f", "g", "h"));
+
+    assertThat(firstBuildModel.getProps().stream().map(PropModel::getName).toArray())
+        .containsExactly("a", "b", "c", "d");
+    assertThat(secondBuildModel.getProps().stream().map(PropModel::getName).toArray())
+        .containsExactly("e", "f", "g", "h");
+  }
+
   @Test
   public void testDelegation() {
     final TestSpecGenerator specGenerator = mock(TestSpecGenerator.class);
@@ -138,4 +155,19 @@ public class TestLayoutSpecModelFactoryTest {
 
     verify(specGenerator).generate(layoutSpecModel);
   }
+
+  private static InterStageStore createInterStageStore(final String... propNames) {
+    final Filer mockFiler = mock(Filer.class, RETURNS_DEEP_STUBS);
+    return new InterStageStore() {
+      @Override
+      public PropNameInterStageStore getPropNameInterStageStore() {
+        return new PropNameInterStageStore(mockFiler) {
+          @Override
+          public Optional<ImmutableList<String>> loadNames(Name qualifiedName) {
+            return Optional.of(ImmutableList.of(propNames));
+          }
+        };
+      }
+    };
+  }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2017-present, Facebook, Inc.
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree. An additional grant
+ * of patent rights can be found in the PATENTS file in the same directory.
+ */
+
+package com.facebook.litho.widget;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+import android.support.v7.widget.RecyclerView;
+import com.facebook.litho.testing.testrunner.ComponentsTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(ComponentsTestRunner.class)
+public class AdaptiveRangePolicyTest {
+
+  private static final int FIRST_VISIBLE = 10;
+  private static final int VIEWPORT_COUNT = 5;
+  private static final int ITEM_SIZE = 100;
+
+  private AdaptiveRangePolicy mRangePolicy;
+  private int[] mRange;
+
+  @Before
+  public void setup() {
+    mRangePolicy = new AdaptiveRangePolicy(2);
+    mRange = new int[2];
+  }
+
+  @Test
+  public void testIdleRangeIsOneViewportOnEachSide() {
+    mRangePolicy.computeRange(FIRST_VISIBLE, VIEWPORT_COUNT, ITEM_SIZE, mRange);
+
+    assertThat(mRange).containsExactly(5, 20);
+  }
+
+  @Test
+  public void testRangeExtendsAheadOfScroll() {
+    // 5 px/ms, so 25 more items come into view within the lookahead.
+    mRangePolicy.onScrolled(100, 0);
+    mRangePolicy.onScrolled(100, 10);
+    mRangePolicy.computeRange(FIRST_VISIBLE, VIEWPORT_COUNT, ITEM_SIZE, mRange);
+
+    assertThat(mRange).containsExactly(5, 50);
+  }
+
+  @Test
+  public void testRangeExtendsAheadOfBackwardScroll() {
+    mRangePolicy.onScrolled(-100, 0);
+    mRangePolicy.onScrolled(-100, 10);
+    mRangePolicy.computeRange(FIRST_VISIBLE, VIEWPORT_COUNT, ITEM_SIZE, mRange);
+
+    assertThat(mRange).containsExactly(-25, 20);
+  }
+
+  @Test
+  public void testRangeAheadIsCappedByLayoutBudget() {
+    mRangePolicy = new AdaptiveRangePolicy(2, 10);
+    mRangePolicy.onItemLayoutCalculated(1000000);
+    mRangePolicy.onScrolled(100, 0);
+    mRangePolicy.onScrolled(100, 10);
+    mRangePolicy.computeRange(FIRST_VISIBLE, VIEWPORT_COUNT, ITEM_SIZE, mRange);
+
+    assertThat(mRange).containsExactly(5, 25);
+  }
+
+  @Test
+  public void testRangeShrinksWhenScrollStops() {
+    mRangePolicy.onScrolled(100, 0);
+    mRangePolicy.onScrolled(100, 10);
+    mRangePolicy.onScrollStateChanged(RecyclerView.SCROLL_STATE_IDLE);
+    mRangePolicy.computeRange(FIRST_VISIBLE, VIEWPORT_COUNT, ITEM_SIZE, mRange);
+
+    assertThat(mRange).containsExactly(5, 20);
+  }
+}
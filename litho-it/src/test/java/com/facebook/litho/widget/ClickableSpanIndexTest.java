@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2017-present, Facebook, Inc.
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree. An additional grant
+ * of patent rights can be found in the PATENTS file in the same directory.
+ */
+
+package com.facebook.litho.widget;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import android.text.Layout;
+import android.text.SpannableString;
+import android.text.Spanned;
+import android.text.style.ClickableSpan;
+import android.view.View;
+import com.facebook.litho.testing.testrunner.ComponentsTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.powermock.reflect.Whitebox;
+
+/** Tests for {@link ClickableSpanIndex} */
+@RunWith(ComponentsTestRunner.class)
+public class ClickableSpanIndexTest {
+
+  private static final int CHAR_WIDTH = 10;
+  private static final int LINE_HEIGHT = 20;
+  private static final int LAYOUT_WIDTH = 100;
+  // Line 0 is 80px wide, lines 1 and 2 take the whole width of the Layout.
+  private static final int[] LINE_STARTS = {0, 8, 18, 28};
+
+  private final ClickableSpan mSpanA = new TestClickableSpan();
+  private final ClickableSpan mSpanB = new TestClickableSpan();
+  private final ClickableSpan mSpanC = new TestClickableSpan();
+  private final ClickableSpan mSpanD = new TestClickableSpan();
+
+  private Layout mLayout;
+  private SpannableString mText;
+
+  @Before
+  public void setup() {
+    mText = new SpannableString("aaaaaaaaaaaaaaaaaaaaaaaaaaaa");
+    // A: 10 to 30 on line 0.
+    mText.setSpan(mSpanA, 1, 3, Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
+    // B: 60 to 80 on line 0, then 0 to 30 on line 1.
+    mText.setSpan(mSpanB, 6, 11, Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
+    // C: 20 to 80 on line 2, with D nested from 40 to 60.
+    mText.setSpan(mSpanC, 20, 26, Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
+    mText.setSpan(mSpanD, 22, 24, Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
+
+    mLayout = createMonospaceLayout();
+  }
+
+  @Test
+  public void testExactHits() {
+    final ClickableSpanIndex index = createIndex(mSpanA, mSpanB, mSpanC, mSpanD);
+
+    assertThat(index.getClickableSpanAt(20, 10)).isSameAs(mSpanA);
+    assertThat(index.getClickableSpanAt(10, 10)).isSameAs(mSpanA);
+    assertThat(index.getClickableSpanAt(40, 10)).isNull();
+    assertThat(index.getClickableSpanAt(70, 10)).isSameAs(mSpanB);
+  }
+
+  @Test
+  public void testExactHitsOnSpanAcrossLines() {
+    final ClickableSpanIndex index = createIndex(mSpanA, mSpanB, mSpanC, mSpanD);
+
+    assertThat(index.getClickableSpanAt(70, 10)).isSameAs(mSpanB);
+    assertThat(index.getClickableSpanAt(20, 30)).isSameAs(mSpanB);
+
+    // The selection of B reaches the end of line 0, but touches there aren't on the span.
+    assertThat(index.getClickableSpanAt(90, 10)).isNull();
+    assertThat(index.getClickableSpanAt(50, 30)).isNull();
+  }
+
+  @Test
+  public void testOverlappingSpansResolveToTheFirstIndexedSpan() {
+    assertThat(createIndex(mSpanC, mSpanD).getClickableSpanAt(50, 50)).isSameAs(mSpanC);
+
+    final ClickableSpanIndex index = createIndex(mSpanD, mSpanC);
+    assertThat(index.getClickableSpanAt(50, 50)).isSameAs(mSpanD);
+    assertThat(index.getClickableSpanAt(30, 50)).isSameAs(mSpanC);
+    assertThat(index.getClickableSpanAt(70, 50)).isSameAs(mSpanC);
+  }
+
+  @Test
+  public void testTouchesAboveOrBelowTheTextResolveOnTheClosestLine() {
+    final ClickableSpanIndex index = createIndex(mSpanA, mSpanB, mSpanC, mSpanD);
+
+    assertThat(index.getClickableSpanAt(20, -50)).isSameAs(mSpanA);
+    assertThat(index.getClickableSpanAt(30, 1000)).isSameAs(mSpanC);
+    assertThat(index.getClickableSpanAt(90, 1000)).isNull();
+    assertThat(index.getClickableSpanAt(-5, 10)).isNull();
+  }
+
+  @Test
+  public void testProximity() {
+    final ClickableSpanIndex index = createIndex(mSpanA, mSpanB, mSpanC, mSpanD);
+
+    assertThat(index.getClickableSpanInProximity(40, 10, 10)).isSameAs(mSpanA);
+    assertThat(index.getClickableSpanInProximity(45, 10, 10)).isNull();
+    assertThat(index.getClickableSpanInProximity(5, 30, 5)).isSameAs(mSpanB);
+  }
+
+  @Test
+  public void testProximityFollowsTheSelectionPathOfTheSpan() {
+    final ClickableSpanIndex index = createIndex(mSpanA, mSpanB, mSpanC, mSpanD);
+
+    // B wraps to the next line, so its selection reaches the end of line 0.
+    assertThat(index.getClickableSpanInProximity(95, 10, 10)).isSameAs(mSpanB);
+    // But it stops at the end of the span on line 1.
+    assertThat(index.getClickableSpanInProximity(50, 25, 10)).isNull();
+  }
+
+  @Test
+  public void testProximityOfSeveralSpansIsAmbiguous() {
+    final ClickableSpanIndex index = createIndex(mSpanA, mSpanB, mSpanC, mSpanD);
+
+    assertThat(index.getClickableSpanInProximity(45, 10, 15)).isNull();
+    assertThat(index.getClickableSpanInProximity(50, 50, 5)).isNull();
+  }
+
+  @Test
+  public void testProximityOutsideTheText() {
+    final ClickableSpanIndex index = createIndex(mSpanA, mSpanB, mSpanC, mSpanD);
+
+    assertThat(index.getClickableSpanInProximity(85, 62, 10)).isSameAs(mSpanC);
+    assertThat(index.getClickableSpanInProximity(50, 75, 10)).isNull();
+    assertThat(index.getClickableSpanInProximity(20, -15, 10)).isNull();
+  }
+
+  private ClickableSpanIndex createIndex(ClickableSpan... clickableSpans) {
+    return ClickableSpanIndex.create(mLayout, mText, clickableSpans);
+  }
+
+  /** @return a left to right Layout of LINE_STARTS where every character is CHAR_WIDTH wide. */
+  private static Layout createMonospaceLayout() {
+    final Layout layout = mock(Layout.class);
+    Whitebox.setInternalState(layout, "mWidth", LAYOUT_WIDTH);
+
+    when(layout.getLineCount()).thenReturn(LINE_STARTS.length - 1);
+    when(layout.getParagraphDirection(anyInt())).thenReturn(Layout.DIR_LEFT_TO_RIGHT);
+    when(layout.getLineTop(anyInt()))
+        .thenAnswer(
+            new Answer<Integer>() {
+              @Override
+              public Integer answer(InvocationOnMock invocation) {
+                return getLine(invocation) * LINE_HEIGHT;
+              }
+            });
+    when(layout.getLineStart(anyInt()))
+        .thenAnswer(
+            new Answer<Integer>() {
+              @Override
+              public Integer answer(InvocationOnMock invocation) {
+                return LINE_STARTS[getLine(invocation)];
+              }
+            });
+    when(layout.getLineVisibleEnd(anyInt()))
+        .thenAnswer(
+            new Answer<Integer>() {
+              @Override
+              public Integer answer(InvocationOnMock invocation) {
+                return LINE_STARTS[getLine(invocation) + 1];
+              }
+            });
+    when(layout.getLineLeft(anyInt())).thenReturn(0f);
+    when(layout.getLineRight(anyInt()))
+        .thenAnswer(
+            new Answer<Float>() {
+              @Override
+              public Float answer(InvocationOnMock invocation) {
+                final int line = getLine(invocation);
+                return (float) (LINE_STARTS[line + 1] - LINE_STARTS[line]) * CHAR_WIDTH;
+              }
+            });
+    when(layout.getLineForOffset(anyInt()))
+        .thenAnswer(
+            new Answer<Integer>() {
+              @Override
+              public Integer answer(InvocationOnMock invocation) {
+                return getLineForOffset((Integer) invocation.getArguments()[0]);
+              }
+            });
+    // As in a real Layout, the end offset of a line resolves at the start of the next one.
+    when(layout.getPrimaryHorizontal(anyInt()))
+        .thenAnswer(
+            new Answer<Float>() {
+              @Override
+              public Float answer(InvocationOnMock invocation) {
+                final int offset = (Integer) invocation.getArguments()[0];
+                return (float) (offset - LINE_STARTS[getLineForOffset(offset)]) * CHAR_WIDTH;
+              }
+            });
+
+    return layout;
+  }
+
+  private static int getLine(InvocationOnMock invocation) {
+    return (Integer) invocation.getArguments()[0];
+  }
+
+  private static int getLineForOffset(int offset) {
+    int line = 0;
+    while (line < LINE_STARTS.length - 2 && LINE_STARTS[line + 1] <= offset) {
+      line++;
+    }
+
+    return line;
+  }
+
+  private static class TestClickableSpan extends ClickableSpan {
+
+    @Override
+    public void onClick(View widget) {}
+  }
+}
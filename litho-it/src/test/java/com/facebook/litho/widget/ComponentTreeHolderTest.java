@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2017-present, Facebook, Inc.
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree. An additional grant
+ * of patent rights can be found in the PATENTS file in the same directory.
+ */
+
+package com.facebook.litho.widget;
+
+import static com.facebook.litho.SizeSpec.EXACTLY;
+import static com.facebook.litho.SizeSpec.makeSizeSpec;
+import static org.assertj.core.api.Java6Assertions.assertThat;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import android.os.Looper;
+import com.facebook.litho.ComponentContext;
+import com.facebook.litho.ComponentTree;
+import com.facebook.litho.ComponentTree.LayoutCalculatedListener;
+import com.facebook.litho.Size;
+import com.facebook.litho.testing.TestDrawableComponent;
+import com.facebook.litho.testing.testrunner.ComponentsTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.powermock.reflect.Whitebox;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.Shadows;
+import org.robolectric.shadows.ShadowLooper;
+
+/** Tests for {@link ComponentTreeHolder} */
+@RunWith(ComponentsTestRunner.class)
+public class ComponentTreeHolderTest {
+
+  private final int mWidthSpec = makeSizeSpec(100, EXACTLY);
+  private final int mHeightSpec = makeSizeSpec(100, EXACTLY);
+
+  private ComponentContext mContext;
+  private ComponentTreePool mComponentTreePool;
+
+  @Before
+  public void setup() {
+    mContext = new ComponentContext(RuntimeEnvironment.application);
+    mComponentTreePool = new ComponentTreePool(2);
+  }
+
+  @Test
+  public void testReleasedTreeIsReusedByAnotherHolder() {
+    final ComponentTreeHolder holder = acquireHolder();
+    holder.computeLayoutSync(mContext, mWidthSpec, mHeightSpec, new Size());
+    final ComponentTree componentTree = holder.getComponentTree();
+
+    holder.acquireStateHandlerAndReleaseTree();
+    assertThat(holder.getComponentTree()).isNull();
+    assertThat(componentTree.isReleased()).isTrue();
+
+    final ComponentTreeHolder otherHolder = acquireHolder();
+    otherHolder.computeLayoutSync(mContext, mWidthSpec, mHeightSpec, new Size());
+
+    assertThat(otherHolder.getComponentTree()).isSameAs(componentTree);
+    assertThat(componentTree.isReleased()).isFalse();
+    assertThat(otherHolder.isTreeValid()).isTrue();
+  }
+
+  @Test
+  public void testClearedPoolDoesNotReuseTree() {
+    final ComponentTreeHolder holder = acquireHolder();
+    holder.computeLayoutSync(mContext, mWidthSpec, mHeightSpec, new Size());
+    final ComponentTree componentTree = holder.getComponentTree();
+
+    holder.acquireStateHandlerAndReleaseTree();
+    mComponentTreePool.clear();
+
+    final ComponentTreeHolder otherHolder = acquireHolder();
+    otherHolder.computeLayoutSync(mContext, mWidthSpec, mHeightSpec, new Size());
+
+    assertThat(otherHolder.getComponentTree()).isNotSameAs(componentTree);
+    assertThat(componentTree.isReleased()).isTrue();
+  }
+
+  @Test
+  public void testLastLayoutSizeIsKeptAfterTreeIsReleased() {
+    final ItemSizeEstimator itemSizeEstimator = new ItemSizeEstimator();
+    final ComponentTreeHolder holder = acquireHolder();
+    holder.setItemSizeEstimator(itemSizeEstimator);
+    holder.computeLayoutSync(mContext, mWidthSpec, mHeightSpec, new Size());
+    holder.acquireStateHandlerAndReleaseTree();
+
+    final Size size = new Size();
+    assertThat(holder.getLastLayoutSize(mWidthSpec, mHeightSpec, size)).isTrue();
+    assertThat(size.width).isEqualTo(100);
+    assertThat(size.height).isEqualTo(100);
+    assertThat(holder.getLastLayoutSize(mWidthSpec, makeSizeSpec(50, EXACTLY), size)).isFalse();
+
+    // The size is also used to estimate the items that were never laid out.
+    final Size estimatedSize = new Size();
+    assertThat(itemSizeEstimator.estimate(holder.getRenderInfo().getComponent(), estimatedSize))
+        .isTrue();
+    assertThat(estimatedSize.height).isEqualTo(100);
+  }
+
+  @Test
+  public void testSyncAndAsyncLayoutsAreReported() throws Exception {
+    final ShadowLooper layoutThreadShadowLooper =
+        Shadows.shadowOf(
+            (Looper) Whitebox.invokeMethod(ComponentTree.class, "getDefaultLayoutThreadLooper"));
+    final LayoutCalculatedListener layoutCalculatedListener = mock(LayoutCalculatedListener.class);
+    final ComponentTreeHolder holder = acquireHolder();
+    holder.setLayoutCalculatedListener(layoutCalculatedListener);
+
+    holder.computeLayoutSync(mContext, mWidthSpec, mHeightSpec, new Size());
+    verify(layoutCalculatedListener).onLayoutCalculated(anyLong());
+
+    holder.computeLayoutAsync(mContext, mWidthSpec, makeSizeSpec(50, EXACTLY));
+    layoutThreadShadowLooper.runToEndOfTasks();
+    verify(layoutCalculatedListener, times(2)).onLayoutCalculated(anyLong());
+
+    // Released trees go back to the pool without the listener.
+    final ComponentTree componentTree = holder.getComponentTree();
+    holder.acquireStateHandlerAndReleaseTree();
+    final ComponentTreeHolder otherHolder = acquireHolder();
+    otherHolder.computeLayoutSync(mContext, mWidthSpec, mHeightSpec, new Size());
+    assertThat(otherHolder.getComponentTree()).isSameAs(componentTree);
+    verify(layoutCalculatedListener, times(2)).onLayoutCalculated(anyLong());
+  }
+
+  private ComponentTreeHolder acquireHolder() {
+    final ComponentTreeHolder holder =
+        ComponentTreeHolder.acquire(
+            ComponentRenderInfo.create()
+                .component(TestDrawableComponent.create(mContext).build())
+                .build(),
+            null,
+            false,
+            false);
+    holder.setComponentTreePool(mComponentTreePool);
+    return holder;
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2017-present, Facebook, Inc.
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree. An additional grant
+ * of patent rights can be found in the PATENTS file in the same directory.
+ */
+
+package com.facebook.litho.widget;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.facebook.litho.Component;
+import com.facebook.litho.ComponentContext;
+import com.facebook.litho.Size;
+import com.facebook.litho.testing.TestDrawableComponent;
+import com.facebook.litho.testing.testrunner.ComponentsTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RuntimeEnvironment;
+
+/** Tests for {@link ItemSizeEstimator} */
+@RunWith(ComponentsTestRunner.class)
+public class ItemSizeEstimatorTest {
+
+  private ComponentContext mContext;
+  private ItemSizeEstimator mItemSizeEstimator;
+
+  @Before
+  public void setup() {
+    mContext = new ComponentContext(RuntimeEnvironment.application);
+    mItemSizeEstimator = new ItemSizeEstimator();
+  }
+
+  @Test
+  public void testNoEstimateBeforeAnySizeIsRecorded() {
+    assertThat(mItemSizeEstimator.estimate(mock(Component.class), new Size())).isFalse();
+  }
+
+  @Test
+  public void testEstimateIsTheAverageSizeOfTheSameType() {
+    mItemSizeEstimator.record(TestDrawableComponent.create(mContext).build(), 100, 10);
+    mItemSizeEstimator.record(TestDrawableComponent.create(mContext).build(), 100, 30);
+    mItemSizeEstimator.record(mock(Component.class), 50, 500);
+
+    final Size size = new Size();
+    assertThat(mItemSizeEstimator.estimate(TestDrawableComponent.create(mContext).build(), size))
+        .isTrue();
+    assertThat(size.width).isEqualTo(100);
+    assertThat(size.height).isEqualTo(20);
+  }
+
+  @Test
+  public void testEstimateFallsBackToTheAverageSizeOfAllTypes() {
+    mItemSizeEstimator.record(TestDrawableComponent.create(mContext).build(), 100, 10);
+    mItemSizeEstimator.record(TestDrawableComponent.create(mContext).build(), 200, 50);
+
+    final Size size = new Size();
+    assertThat(mItemSizeEstimator.estimate(mock(Component.class), size)).isTrue();
+    assertThat(size.width).isEqualTo(150);
+    assertThat(size.height).isEqualTo(30);
+  }
+
+  @Test
+  public void testClearForgetsRecordedSizes() {
+    mItemSizeEstimator.record(TestDrawableComponent.create(mContext).build(), 100, 10);
+    mItemSizeEstimator.clear();
+
+    final Component component = TestDrawableComponent.create(mContext).build();
+    assertThat(mItemSizeEstimator.estimate(component, new Size())).isFalse();
+  }
+}
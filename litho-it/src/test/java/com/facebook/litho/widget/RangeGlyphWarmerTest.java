@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2017-present, Facebook, Inc.
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree. An additional grant
+ * of patent rights can be found in the PATENTS file in the same directory.
+ */
+
+package com.facebook.litho.widget;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.graphics.Canvas;
+import android.os.Looper;
+import android.text.Layout;
+import com.facebook.litho.Component;
+import com.facebook.litho.ComponentContext;
+import com.facebook.litho.ComponentTree;
+import com.facebook.litho.testing.testrunner.ComponentsTestRunner;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.Shadows;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+
+/** Tests {@link RangeGlyphWarmer}. */
+@RunWith(ComponentsTestRunner.class)
+@Config(shadows = GlyphWarmerTest.ShadowPicture.class)
+public class RangeGlyphWarmerTest {
+
+  private ComponentContext mContext;
+  private ShadowLooper mShadowLooper;
+
+  @Before
+  public void setup() {
+    mContext = new ComponentContext(RuntimeEnvironment.application);
+    mShadowLooper = Shadows.shadowOf(Looper.getMainLooper());
+  }
+
+  @Test
+  public void testWarmsEachLayoutOnce() {
+    final Layout layout = createLayout("Hello");
+    final ComponentTreeHolder holder = createHolder(createText(layout));
+    final RangeGlyphWarmer warmer = new RangeGlyphWarmer(100, Looper.getMainLooper());
+
+    warmer.onRangeUpdated(Arrays.asList(holder));
+    mShadowLooper.runOneTask();
+    warmer.onRangeUpdated(Arrays.asList(holder));
+    mShadowLooper.runOneTask();
+
+    verify(layout, times(1)).draw(any(Canvas.class));
+  }
+
+  @Test
+  public void testStopsWarmingWhenBudgetIsSpent() {
+    final Layout closeLayout = createLayout("Hello");
+    final Layout farLayout = createLayout("World");
+    final RangeGlyphWarmer warmer = new RangeGlyphWarmer(5, Looper.getMainLooper());
+
+    warmer.onRangeUpdated(
+        Arrays.asList(createHolder(createText(closeLayout)), createHolder(createText(farLayout))));
+    mShadowLooper.runOneTask();
+
+    verify(closeLayout).draw(any(Canvas.class));
+    verify(farLayout, never()).draw(any(Canvas.class));
+  }
+
+  @Test
+  public void testSkipsBoundItems() {
+    final Layout boundLayout = createLayout("Hello");
+    final Layout layout = createLayout("World");
+    final ComponentTreeHolder boundHolder = createHolder(createText(boundLayout));
+    when(boundHolder.isBound()).thenReturn(true);
+    final RangeGlyphWarmer warmer = new RangeGlyphWarmer(100, Looper.getMainLooper());
+
+    warmer.onRangeUpdated(Arrays.asList(boundHolder, createHolder(createText(layout))));
+    mShadowLooper.runOneTask();
+
+    verify(boundLayout, never()).draw(any(Canvas.class));
+    verify(layout).draw(any(Canvas.class));
+  }
+
+  private static Layout createLayout(String text) {
+    final Layout layout = mock(Layout.class);
+    when(layout.getLineCount()).thenReturn(1);
+    when(layout.getLineStart(1)).thenReturn(text.length());
+    return layout;
+  }
+
+  private Text createText(Layout layout) {
+    final Text text = Text.create(mContext).text("text").build();
+    text.textLayout = layout;
+    return text;
+  }
+
+  private static ComponentTreeHolder createHolder(final Component component) {
+    final ComponentTree componentTree = mock(ComponentTree.class);
+    doAnswer(
+            new Answer<Void>() {
+              @Override
+              public Void answer(InvocationOnMock invocation) {
+                ((List<Component>) invocation.getArguments()[0]).add(component);
+                return null;
+              }
+            })
+        .when(componentTree)
+        .collectMountableComponents(anyListOf(Component.class));
+
+    final ComponentTreeHolder holder = mock(ComponentTreeHolder.class);
+    when(holder.getComponentTree()).thenReturn(componentTree);
+    return holder;
+  }
+}
@@ -37,6 +37,8 @@ import com.facebook.litho.LayoutHandler;
 import com.facebook.litho.LithoView;
 import com.facebook.litho.Size;
 import com.facebook.litho.SizeSpec;
+import com.facebook.litho.dataflow.ChoreographerCompat;
+import com.facebook.litho.dataflow.ChoreographerCompatImpl;
 import com.facebook.litho.testing.TestDrawableComponent;
 import com.facebook.litho.testing.testrunner.ComponentsTestRunner;
 import com.facebook.litho.testing.util.InlineLayoutSpec;
@@ -51,11 +53,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import junit.framework.Assert;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
+import org.powermock.reflect.Whitebox;
 import org.robolectric.RuntimeEnvironment;
 
 /**
@@ -97,11 +101,13 @@ public class RecyclerBinderTest {
   }
 
   private final Map<Component, TestComponentTreeHolder> mHoldersForComponents = new HashMap<>();
+  private RecyclerBinder.ComponentTreeHolderFactory mComponentTreeHolderFactory;
   private RecyclerBinder mRecyclerBinder;
   private RecyclerBinder mCircularRecyclerBinder;
   private LayoutInfo mLayoutInfo;
   private LayoutInfo mCircularLayoutInfo;
   private ComponentContext mComponentContext;
+  private FrameChoreographer mChoreographer;
 
   @Before
   public void setup() throws NoSuchFieldException, IllegalAccessException {
@@ -109,7 +115,10 @@ public class RecyclerBinderTest {
 
     mComponentContext = new ComponentContext(RuntimeEnvironment.application);
 
-    final RecyclerBinder.ComponentTreeHolderFactory componentTreeHolderFactory =
+    mChoreographer = new FrameChoreographer();
+    ChoreographerCompatImpl.setInstance(mChoreographer);
+
+    mComponentTreeHolderFactory =
         new RecyclerBinder.ComponentTreeHolderFactory() {
           @Override
           public ComponentTreeHolder create(
@@ -136,7 +145,7 @@ public class RecyclerBinderTest {
     mRecyclerBinder = new RecyclerBinder.Builder()
         .rangeRatio(RANGE_RATIO)
         .layoutInfo(mLayoutInfo)
-        .componentTreeHolderFactory(componentTreeHolderFactory)
+        .componentTreeHolderFactory(mComponentTreeHolderFactory)
         .build(mComponentContext);
 
     mRenderInfoViewCreatorController = mRecyclerBinder.mRenderInfoViewCreatorController;
@@ -145,11 +154,16 @@ public class RecyclerBinderTest {
         new RecyclerBinder.Builder()
             .rangeRatio(RANGE_RATIO)
             .layoutInfo(mCircularLayoutInfo)
-            .componentTreeHolderFactory(componentTreeHolderFactory)
+            .componentTreeHolderFactory(mComponentTreeHolderFactory)
             .isCircular(true)
             .build(mComponentContext);
   }
 
+  @After
+  public void tearDown() {
+    ChoreographerCompatImpl.setInstance(null);
+  }
+
   private void setupBaseLayoutInfoMock(LayoutInfo layoutInfo, int orientation) {
     when(layoutInfo.getScrollDirection()).thenReturn(orientation);
 
@@ -688,6 +702,164 @@ public class RecyclerBinderTest {
     }
   }
 
+  @Test
+  public void testRetainedLayoutsAreReusedWhenScrollingBack() {
+    final RecyclerBinder recyclerBinder =
+        new RecyclerBinder.Builder()
+            .rangeRatio(RANGE_RATIO)
+            .layoutInfo(mLayoutInfo)
+            .componentTreeHolderFactory(mComponentTreeHolderFactory)
+            .retainedLayouts(100, 1024 * 1024)
+            .build(mComponentContext);
+    final List<ComponentRenderInfo> components = prepareLoadedBinder(recyclerBinder, 100);
+    final int rangeTotal = (int) (RANGE_SIZE + (RANGE_RATIO * RANGE_SIZE));
+
+    recyclerBinder.onNewVisibleRange(40, 42);
+
+    // The items that left the range kept their layout.
+    for (int i = 0; i <= rangeTotal; i++) {
+      final TestComponentTreeHolder holder =
+          mHoldersForComponents.get(components.get(i).getComponent());
+      assertThat(holder.isTreeValid()).isTrue();
+      assertThat(holder.mDidAcquireStateHandler).isFalse();
+    }
+
+    recyclerBinder.onNewVisibleRange(0, 2);
+
+    assertThat(recyclerBinder.getRetainedLayoutHitCount()).isEqualTo(rangeTotal + 1);
+    assertThat(recyclerBinder.getRetainedLayoutMissCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void testApplyOperationsMoveDropsRetainedLayout() {
+    final RecyclerBinder recyclerBinder =
+        new RecyclerBinder.Builder()
+            .rangeRatio(RANGE_RATIO)
+            .layoutInfo(mLayoutInfo)
+            .componentTreeHolderFactory(mComponentTreeHolderFactory)
+            .retainedLayouts(100, 1024 * 1024)
+            .build(mComponentContext);
+    final List<ComponentRenderInfo> components = prepareLoadedBinder(recyclerBinder, 100);
+
+    recyclerBinder.onNewVisibleRange(40, 42);
+
+    final List<RecyclerBinderOperation> operations = new ArrayList<>();
+    operations.add(RecyclerBinderOperation.move(0, 45));
+    recyclerBinder.applyOperations(operations);
+
+    // As with moveItem, the moved item isn't retained anymore: it's a regular item in range.
+    final TestComponentTreeHolder movedHolder =
+        mHoldersForComponents.get(components.get(0).getComponent());
+    assertThat(movedHolder.isTreeValid()).isTrue();
+    assertThat(recyclerBinder.getRetainedLayoutHitCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void testAsyncBindFallbackBindsPlaceholder() {
+    final RecyclerBinder recyclerBinder =
+        new RecyclerBinder.Builder()
+            .rangeRatio(RANGE_RATIO)
+            .layoutInfo(mLayoutInfo)
+            .componentTreeHolderFactory(mComponentTreeHolderFactory)
+            .asyncBindFallback(true)
+            .build(mComponentContext);
+    final List<ComponentRenderInfo> components = prepareLoadedBinder(recyclerBinder, 100);
+    final RecyclerView recyclerView = new RecyclerView(RuntimeEnvironment.application);
+    recyclerBinder.mount(recyclerView);
+
+    final TestComponentTreeHolder holder =
+        mHoldersForComponents.get(components.get(50).getComponent());
+    final RecyclerView.ViewHolder viewHolder = bindViewHolder(recyclerView, 50);
+
+    assertThat(holder.mLayoutAsyncCalled).isTrue();
+    assertThat(holder.mLayoutSyncCalled).isFalse();
+    assertThat(((LithoView) viewHolder.itemView).getComponentTree()).isNull();
+    assertThat(recyclerBinder.getSyncBindLayoutCount()).isEqualTo(0);
+
+    // Nothing was laid out for this type of item, so the placeholder is as tall as an average item
+    // of the viewport and as wide as the children width spec.
+    assertThat(viewHolder.itemView.getLayoutParams().width).isEqualTo(100);
+    assertThat(viewHolder.itemView.getLayoutParams().height).isEqualTo(200 / RANGE_SIZE);
+  }
+
+  @Test
+  public void testBindWithoutAsyncFallbackLaysOutSynchronously() {
+    final List<ComponentRenderInfo> components = prepareLoadedBinder();
+    final RecyclerView recyclerView = new RecyclerView(RuntimeEnvironment.application);
+    mRecyclerBinder.mount(recyclerView);
+
+    final TestComponentTreeHolder holder =
+        mHoldersForComponents.get(components.get(50).getComponent());
+    bindViewHolder(recyclerView, 50);
+
+    assertThat(holder.mLayoutSyncCalled).isTrue();
+    assertThat(mRecyclerBinder.getSyncBindLayoutCount()).isEqualTo(0);
+
+    mChoreographer.runFrame();
+    assertThat(mRecyclerBinder.getSyncBindLayoutCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void testHolderIsBoundUntilViewIsRecycled() {
+    final List<ComponentRenderInfo> components = prepareLoadedBinder();
+    final RecyclerView recyclerView = new RecyclerView(RuntimeEnvironment.application);
+    mRecyclerBinder.mount(recyclerView);
+
+    final TestComponentTreeHolder holder =
+        mHoldersForComponents.get(components.get(50).getComponent());
+    assertThat(holder.isBound()).isFalse();
+
+    final RecyclerView.ViewHolder viewHolder = bindViewHolder(recyclerView, 50);
+    assertThat(holder.isBound()).isTrue();
+
+    recyclerView.getAdapter().onViewRecycled(viewHolder);
+    assertThat(holder.isBound()).isFalse();
+  }
+
+  @Test
+  public void testSyncBindLayoutCountIsPerFrame() {
+    prepareLoadedBinder();
+    final RecyclerView recyclerView = new RecyclerView(RuntimeEnvironment.application);
+    mRecyclerBinder.mount(recyclerView);
+
+    bindViewHolder(recyclerView, 50);
+    bindViewHolder(recyclerView, 60);
+    mChoreographer.runFrame();
+    assertThat(mRecyclerBinder.getSyncBindLayoutCount()).isEqualTo(2);
+
+    bindViewHolder(recyclerView, 70);
+    mChoreographer.runFrame();
+    assertThat(mRecyclerBinder.getSyncBindLayoutCount()).isEqualTo(1);
+
+    mChoreographer.runFrame();
+    assertThat(mRecyclerBinder.getSyncBindLayoutCount()).isEqualTo(0);
+    assertThat(mRecyclerBinder.getAsyncBindLayoutCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void testRetainedLayoutsAreEvictedOverBudget() {
+    final RecyclerBinder recyclerBinder =
+        new RecyclerBinder.Builder()
+            .rangeRatio(RANGE_RATIO)
+            .layoutInfo(mLayoutInfo)
+            .componentTreeHolderFactory(mComponentTreeHolderFactory)
+            .retainedLayouts(2, 1024 * 1024)
+            .build(mComponentContext);
+    final List<ComponentRenderInfo> components = prepareLoadedBinder(recyclerBinder, 100);
+    final int rangeTotal = (int) (RANGE_SIZE + (RANGE_RATIO * RANGE_SIZE));
+
+    recyclerBinder.onNewVisibleRange(40, 42);
+
+    // Only the last two items that left the range kept their layout.
+    for (int i = 0; i <= rangeTotal; i++) {
+      final TestComponentTreeHolder holder =
+          mHoldersForComponents.get(components.get(i).getComponent());
+      final boolean isRetained = i > rangeTotal - 2;
+      assertThat(holder.isTreeValid()).isEqualTo(isRetained);
+      assertThat(holder.mDidAcquireStateHandler).isEqualTo(!isRetained);
+    }
+  }
+
   @Test
   public void testMoveRangeToEnd() {
     final List<ComponentRenderInfo> components = prepareLoadedBinder();
@@ -995,6 +1167,267 @@ public class RecyclerBinderTest {
     }
   }
 
+  @Test
+  public void testApplyOperations() {
+    final List<ComponentRenderInfo> components = prepareLoadedBinder();
+    final int rangeTotal = (int) (RANGE_SIZE + (RANGE_RATIO * RANGE_SIZE));
+    final int itemCount = mRecyclerBinder.getItemCount();
+
+    final List<RenderInfo> newComponents = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      newComponents.add(
+          ComponentRenderInfo.create().component(mock(Component.class)).build());
+    }
+
+    final List<RecyclerBinderOperation> operations = new ArrayList<>();
+    operations.add(RecyclerBinderOperation.removeRange(0, RANGE_SIZE));
+    operations.add(RecyclerBinderOperation.insertRange(0, newComponents));
+    mRecyclerBinder.applyOperations(operations);
+
+    assertThat(mRecyclerBinder.getItemCount()).isEqualTo(itemCount);
+
+    // The elements that were removed have been released.
+    for (int i = 0; i < RANGE_SIZE; i++) {
+      final TestComponentTreeHolder holder =
+          mHoldersForComponents.get(components.get(i).getComponent());
+      assertThat(holder.mReleased).isTrue();
+    }
+
+    // The new elements are visible so they were laid out right away.
+    for (int i = 0; i < 3; i++) {
+      final TestComponentTreeHolder holder =
+          mHoldersForComponents.get(((ComponentRenderInfo) newComponents.get(i)).getComponent());
+      assertThat(holder.getRenderInfo()).isEqualTo(newComponents.get(i));
+      assertThat(holder.isTreeValid()).isTrue();
+      assertThat(holder.mLayoutSyncCalled).isTrue();
+      assertThat(holder.mLayoutAsyncCalled).isFalse();
+    }
+
+    // The elements right after the range were not affected by the net change.
+    final TestComponentTreeHolder holderOutsideRange =
+        mHoldersForComponents.get(components.get(rangeTotal + 1).getComponent());
+    assertThat(holderOutsideRange.isTreeValid()).isFalse();
+    assertThat(holderOutsideRange.mLayoutAsyncCalled).isFalse();
+  }
+
+  @Test
+  public void testStickyHeaderPositionsFollowItemChanges() {
+    final List<ComponentRenderInfo> components = prepareLoadedBinder();
+    makeIndexSticky(components, 5);
+    makeIndexSticky(components, 40);
+
+    assertThat(mRecyclerBinder.findStickyHeaderPosition(4)).isEqualTo(RecyclerView.NO_POSITION);
+    assertThat(mRecyclerBinder.findStickyHeaderPosition(5)).isEqualTo(5);
+    assertThat(mRecyclerBinder.findStickyHeaderPosition(39)).isEqualTo(5);
+    assertThat(mRecyclerBinder.findNextStickyHeaderPosition(6)).isEqualTo(40);
+
+    mRecyclerBinder.insertItemAt(0, create().component(mock(Component.class)).build());
+    mRecyclerBinder.removeRangeAt(10, 5);
+    assertThat(mRecyclerBinder.findStickyHeaderPosition(50)).isEqualTo(36);
+
+    mRecyclerBinder.moveItem(6, 60);
+    assertThat(mRecyclerBinder.findStickyHeaderPosition(50)).isEqualTo(35);
+    assertThat(mRecyclerBinder.findNextStickyHeaderPosition(36)).isEqualTo(60);
+    assertThat(mRecyclerBinder.isSticky(60)).isTrue();
+
+    mRecyclerBinder.updateItemAt(35, create().component(mock(Component.class)).build());
+    assertThat(mRecyclerBinder.findStickyHeaderPosition(50)).isEqualTo(RecyclerView.NO_POSITION);
+  }
+
+  @Test
+  public void testStickyHeaderPositionsFollowAppliedOperations() {
+    final List<ComponentRenderInfo> components = prepareLoadedBinder();
+    makeIndexSticky(components, 5);
+    makeIndexSticky(components, 40);
+
+    final List<RecyclerBinderOperation> operations = new ArrayList<>();
+    operations.add(
+        RecyclerBinderOperation.insert(0, create().component(mock(Component.class)).build()));
+    operations.add(RecyclerBinderOperation.removeRange(10, 5));
+    operations.add(RecyclerBinderOperation.move(6, 60));
+    operations.add(
+        RecyclerBinderOperation.update(35, create().component(mock(Component.class)).build()));
+    operations.add(
+        RecyclerBinderOperation.insert(
+            0, create().component(mock(Component.class)).isSticky(true).build()));
+    mRecyclerBinder.applyOperations(operations);
+
+    assertThat(mRecyclerBinder.isSticky(0)).isTrue();
+    assertThat(mRecyclerBinder.isSticky(36)).isFalse();
+    assertThat(mRecyclerBinder.isSticky(61)).isTrue();
+    assertThat(mRecyclerBinder.findStickyHeaderPosition(50)).isEqualTo(0);
+    assertThat(mRecyclerBinder.findStickyHeaderPosition(70)).isEqualTo(61);
+    assertThat(mRecyclerBinder.findNextStickyHeaderPosition(1)).isEqualTo(61);
+  }
+
+  @Test
+  public void testPrepareOperations() {
+    prepareLoadedBinder();
+    final int rangeTotal = (int) (RANGE_SIZE + (RANGE_RATIO * RANGE_SIZE));
+
+    final ComponentRenderInfo visibleRenderInfo =
+        create().component(mock(Component.class)).build();
+    final ComponentRenderInfo outsideRangeRenderInfo =
+        create().component(mock(Component.class)).build();
+
+    final List<RecyclerBinderOperation> operations = new ArrayList<>();
+    operations.add(RecyclerBinderOperation.insert(0, visibleRenderInfo));
+    operations.add(RecyclerBinderOperation.insert(rangeTotal + 2, outsideRangeRenderInfo));
+    mRecyclerBinder.prepareOperations(operations);
+
+    // Only the item in range has been created and laid out ahead of time.
+    final TestComponentTreeHolder preparedHolder =
+        mHoldersForComponents.get(visibleRenderInfo.getComponent());
+    assertThat(preparedHolder.mLayoutSyncCalled).isTrue();
+    assertThat(mHoldersForComponents.get(outsideRangeRenderInfo.getComponent())).isNull();
+
+    mRecyclerBinder.applyOperations(operations);
+
+    // The prepared holder is the one that got inserted.
+    assertThat(mHoldersForComponents.get(visibleRenderInfo.getComponent()))
+        .isSameAs(preparedHolder);
+    assertThat(mRecyclerBinder.getComponentAt(0))
+        .isSameAs(preparedHolder.getComponentTree());
+    assertThat(preparedHolder.mLayoutAsyncCalled).isFalse();
+
+    final TestComponentTreeHolder outsideRangeHolder =
+        mHoldersForComponents.get(outsideRangeRenderInfo.getComponent());
+    assertThat(outsideRangeHolder.isTreeValid()).isFalse();
+    assertThat(outsideRangeHolder.mLayoutSyncCalled).isFalse();
+  }
+
+  @Test
+  public void testDiscardPreparedOperations() {
+    prepareLoadedBinder();
+
+    final ComponentRenderInfo renderInfo = create().component(mock(Component.class)).build();
+    final List<RecyclerBinderOperation> operations = new ArrayList<>();
+    operations.add(RecyclerBinderOperation.insert(0, renderInfo));
+    mRecyclerBinder.prepareOperations(operations);
+
+    final TestComponentTreeHolder preparedHolder =
+        mHoldersForComponents.get(renderInfo.getComponent());
+    assertThat(preparedHolder.mLayoutSyncCalled).isTrue();
+
+    mRecyclerBinder.discardPreparedOperations();
+    assertThat(preparedHolder.mReleased).isTrue();
+
+    // Applying the operations anyway creates the item again.
+    mRecyclerBinder.applyOperations(operations);
+
+    final TestComponentTreeHolder insertedHolder =
+        mHoldersForComponents.get(renderInfo.getComponent());
+    assertThat(insertedHolder).isNotSameAs(preparedHolder);
+    assertThat(insertedHolder.mReleased).isFalse();
+    assertThat(insertedHolder.mLayoutSyncCalled).isTrue();
+  }
+
+  @Test
+  public void testEstimatedSizesUseRecordedItemSizes() {
+    final List<ComponentRenderInfo> components = prepareLoadedBinder();
+    final Size size = new Size();
+
+    assertThat(mRecyclerBinder.getEstimatedItemSize(10, size)).isFalse();
+
+    // All the items render the same type of component, so they are all estimated with its size.
+    final ItemSizeEstimator itemSizeEstimator =
+        Whitebox.getInternalState(mRecyclerBinder, "mItemSizeEstimator");
+    itemSizeEstimator.record(components.get(0).getComponent(), 100, 50);
+
+    assertThat(mRecyclerBinder.getEstimatedItemSize(10, size)).isTrue();
+    assertThat(size.width).isEqualTo(100);
+    assertThat(size.height).isEqualTo(50);
+  }
+
+  @Test
+  public void testApplyOperationsLaysOutVisibleInsertsSynchronously() {
+    prepareLoadedBinder();
+    final ComponentRenderInfo newRenderInfo =
+        create().component(mock(Component.class)).build();
+
+    final List<RecyclerBinderOperation> operations = new ArrayList<>();
+    operations.add(RecyclerBinderOperation.insert(0, newRenderInfo));
+    mRecyclerBinder.applyOperations(operations);
+
+    final TestComponentTreeHolder holder =
+        mHoldersForComponents.get(newRenderInfo.getComponent());
+    assertThat(holder.isTreeValid()).isTrue();
+    assertThat(holder.mLayoutSyncCalled).isTrue();
+    assertThat(holder.mLayoutAsyncCalled).isFalse();
+  }
+
+  @Test
+  public void testApplyOperationsUpdatesLikeUpdateItemAt() {
+    final List<ComponentRenderInfo> components = prepareLoadedBinder();
+
+    final TestComponentTreeHolder holder =
+        mHoldersForComponents.get(components.get(0).getComponent());
+    holder.mTreeValid = false;
+    holder.mLayoutSyncCalled = false;
+
+    final ComponentRenderInfo newRenderInfo =
+        create().component(mock(Component.class)).build();
+    final List<RecyclerBinderOperation> operations = new ArrayList<>();
+    operations.add(RecyclerBinderOperation.update(0, newRenderInfo));
+    mRecyclerBinder.applyOperations(operations);
+
+    // As with updateItemAt, the visible item was laid out before the adapter was notified.
+    assertThat(holder.getRenderInfo()).isEqualTo(newRenderInfo);
+    assertThat(holder.isTreeValid()).isTrue();
+    assertThat(holder.mLayoutSyncCalled).isTrue();
+  }
+
+  @Test
+  public void testApplyOperationsMovesOutsideRangeLikeMoveItem() {
+    final List<ComponentRenderInfo> components = prepareLoadedBinder();
+
+    final List<RecyclerBinderOperation> operations = new ArrayList<>();
+    operations.add(RecyclerBinderOperation.move(2, 99));
+    mRecyclerBinder.applyOperations(operations);
+
+    final TestComponentTreeHolder movedHolder =
+        mHoldersForComponents.get(components.get(2).getComponent());
+    assertThat(movedHolder.isTreeValid()).isFalse();
+    assertThat(movedHolder.mLayoutAsyncCalled).isFalse();
+    assertThat(movedHolder.mLayoutSyncCalled).isFalse();
+    assertThat(movedHolder.mDidAcquireStateHandler).isTrue();
+
+    final int rangeTotal = (int) (RANGE_SIZE + (RANGE_RATIO * RANGE_SIZE));
+    final TestComponentTreeHolder holderMovedInsideRange =
+        mHoldersForComponents.get(components.get(rangeTotal + 1).getComponent());
+
+    assertThat(holderMovedInsideRange.isTreeValid()).isTrue();
+    assertThat(holderMovedInsideRange.mLayoutAsyncCalled).isTrue();
+    assertThat(holderMovedInsideRange.mLayoutSyncCalled).isFalse();
+    assertThat(holderMovedInsideRange.mDidAcquireStateHandler).isFalse();
+  }
+
+  @Test
+  public void testApplyOperationsMovesInsideVisibleRangeLikeMoveItem() {
+    final List<ComponentRenderInfo> components = prepareLoadedBinder();
+
+    final List<RecyclerBinderOperation> operations = new ArrayList<>();
+    operations.add(RecyclerBinderOperation.move(99, 2));
+    mRecyclerBinder.applyOperations(operations);
+
+    final TestComponentTreeHolder movedHolder =
+        mHoldersForComponents.get(components.get(99).getComponent());
+
+    assertThat(movedHolder.isTreeValid()).isTrue();
+    assertThat(movedHolder.mLayoutAsyncCalled).isFalse();
+    assertThat(movedHolder.mLayoutSyncCalled).isTrue();
+    assertThat(movedHolder.mDidAcquireStateHandler).isFalse();
+    final int rangeTotal = (int) (RANGE_SIZE + (RANGE_RATIO * RANGE_SIZE));
+
+    final TestComponentTreeHolder holderMovedOutsideRange =
+        mHoldersForComponents.get(components.get(rangeTotal).getComponent());
+
+    assertThat(holderMovedOutsideRange.isTreeValid()).isFalse();
+    assertThat(holderMovedOutsideRange.mLayoutAsyncCalled).isFalse();
+    assertThat(holderMovedOutsideRange.mLayoutSyncCalled).isFalse();
+    assertThat(holderMovedOutsideRange.mDidAcquireStateHandler).isTrue();
+  }
+
   @Test
   public void testUpdate() {
     final List<ComponentRenderInfo> components = prepareLoadedBinder();
@@ -1494,6 +1927,14 @@ public class RecyclerBinderTest {
     return components;
   }
 
+  private static RecyclerView.ViewHolder bindViewHolder(RecyclerView recyclerView, int position) {
+    final RecyclerView.Adapter adapter = recyclerView.getAdapter();
+    final RecyclerView.ViewHolder viewHolder =
+        adapter.createViewHolder(recyclerView, adapter.getItemViewType(position));
+    adapter.bindViewHolder(viewHolder, position);
+    return viewHolder;
+  }
+
   private void makeIndexSticky(List<ComponentRenderInfo> components, int i) {
     components.set(
         i,
@@ -1574,6 +2015,11 @@ public class RecyclerBinderTest {
       return mTreeValid;
     }
 
+    @Override
+    synchronized boolean hasCompletedLayout(int widthSpec, int heightSpec) {
+      return mLayoutSyncCalled;
+    }
+
     @Override
     public synchronized ComponentTree getComponentTree() {
       return mComponentTree;
@@ -1584,4 +2030,33 @@ public class RecyclerBinderTest {
       return mRenderInfo;
     }
   }
+
+  /** Runs the posted frame callbacks only when asked to, one frame at a time. */
+  private static class FrameChoreographer implements ChoreographerCompat {
+
+    private final List<FrameCallback> mCallbacks = new ArrayList<>();
+
+    @Override
+    public void postFrameCallback(FrameCallback callbackWrapper) {
+      mCallbacks.add(callbackWrapper);
+    }
+
+    @Override
+    public void postFrameCallbackDelayed(FrameCallback callbackWrapper, long delayMillis) {
+      mCallbacks.add(callbackWrapper);
+    }
+
+    @Override
+    public void removeFrameCallback(FrameCallback callbackWrapper) {
+      mCallbacks.remove(callbackWrapper);
+    }
+
+    void runFrame() {
+      final List<FrameCallback> callbacks = new ArrayList<>(mCallbacks);
+      mCallbacks.clear();
+      for (FrameCallback callback : callbacks) {
+        callback.doFrame(0);
+      }
+    }
+  }
 }
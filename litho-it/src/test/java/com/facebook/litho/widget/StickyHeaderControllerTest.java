@@ -92,6 +92,7 @@ public class StickyHeaderControllerTest {
 
     when(mHasStickyHeader.findFirstVisibleItemPosition()).thenReturn(2);
     when(mHasStickyHeader.isSticky(2)).thenReturn(true);
+    when(mHasStickyHeader.findStickyHeaderPosition(2)).thenReturn(2);
 
     ComponentTree componentTree = mock(ComponentTree.class);
     when(mHasStickyHeader.getComponentAt(2)).thenReturn(componentTree);
@@ -114,6 +115,8 @@ public class StickyHeaderControllerTest {
 
     when(mHasStickyHeader.findFirstVisibleItemPosition()).thenReturn(6);
     when(mHasStickyHeader.isSticky(2)).thenReturn(true);
+    when(mHasStickyHeader.findStickyHeaderPosition(6)).thenReturn(2);
+    when(mHasStickyHeader.findNextStickyHeaderPosition(6)).thenReturn(RecyclerView.NO_POSITION);
 
     when(mHasStickyHeader.getComponentAt(2)).thenReturn(mock(ComponentTree.class));
     when(mHasStickyHeader.getComponentAt(6)).thenReturn(mock(ComponentTree.class));
@@ -123,6 +126,28 @@ public class StickyHeaderControllerTest {
     verify(wrapper).setStickyHeaderVerticalOffset(any(Integer.class));
   }
 
+  @Test
+  public void testUnchangedWrapperChildIsNotTranslatedAgain() {
+    RecyclerViewWrapper wrapper = mock(RecyclerViewWrapper.class);
+    RecyclerView recyclerView = mock(RecyclerView.class);
+    when(wrapper.getRecyclerView()).thenReturn(recyclerView);
+    when(recyclerView.getLayoutManager()).thenReturn(mock(RecyclerView.LayoutManager.class));
+    mStickyHeaderController.init(wrapper);
+
+    when(mHasStickyHeader.findFirstVisibleItemPosition()).thenReturn(6);
+    when(mHasStickyHeader.findStickyHeaderPosition(6)).thenReturn(2);
+    when(mHasStickyHeader.findNextStickyHeaderPosition(6)).thenReturn(RecyclerView.NO_POSITION);
+
+    when(mHasStickyHeader.getComponentAt(2)).thenReturn(mock(ComponentTree.class));
+    when(mHasStickyHeader.getComponentAt(6)).thenReturn(mock(ComponentTree.class));
+
+    mStickyHeaderController.onScrolled(null, 0, 0);
+    mStickyHeaderController.onScrolled(null, 0, 0);
+
+    verify(wrapper, times(1)).setStickyComponent(any(ComponentTree.class));
+    verify(wrapper, times(1)).setStickyHeaderVerticalOffset(any(Integer.class));
+  }
+
   @Test
   public void testTranslateStackedStickyHeaders() {
     RecyclerViewWrapper wrapper = mock(RecyclerViewWrapper.class);
@@ -135,6 +160,7 @@ public class StickyHeaderControllerTest {
     when(mHasStickyHeader.isSticky(2)).thenReturn(true);
     when(mHasStickyHeader.isSticky(3)).thenReturn(true);
     when(mHasStickyHeader.isValidPosition(3)).thenReturn(true);
+    when(mHasStickyHeader.findStickyHeaderPosition(2)).thenReturn(2);
 
     ComponentTree componentTree = mock(ComponentTree.class);
     when(mHasStickyHeader.getComponentAt(2)).thenReturn(componentTree);
@@ -14,10 +14,16 @@ import com.facebook.litho.ComponentContext;
 import com.facebook.litho.ComponentLayout;
 
 public final class SimpleLayout extends Component {
+  private static final int TYPE_ID = newTypeId();
+
   private static final Pools.SynchronizedPool<Builder> sBuilderPool = new Pools.SynchronizedPool<Builder>(2);
 
   private SimpleLayout() {
-    super();
+    super(TYPE_ID);
+  }
+
+  private SimpleLayout(SimpleLayout source) {
+    super(source);
   }
 
   @Override
@@ -40,6 +46,11 @@ public final class SimpleLayout extends Component {
     return true;
   }
 
+  @Override
+  protected SimpleLayout createShallowCopy() {
+    return new SimpleLayout(this);
+  }
+
   @Override
   protected ComponentLayout onCreateLayout(ComponentContext context) {
     ComponentLayout _result = (ComponentLayout) SimpleLayoutSpec.onCreateLayout(
@@ -25,6 +25,8 @@ import java.util.BitSet;
  * @see com.facebook.litho.processor.integration.resources.SimpleMountSpec
  */
 public final class SimpleMount extends Component {
+  private static final int TYPE_ID = newTypeId();
+
   private static final Pools.SynchronizedPool<Builder> sBuilderPool = new Pools.SynchronizedPool<Builder>(2);
 
   @Prop(resType = ResType.NONE, optional = false)
@@ -34,7 +36,13 @@ public final class SimpleMount extends Component {
   double ratio;
 
   private SimpleMount() {
-    super();
+    super(TYPE_ID);
+  }
+
+  private SimpleMount(SimpleMount source) {
+    super(source);
+    content = source.content;
+    ratio = source.ratio;
   }
 
   @Override
@@ -54,6 +62,9 @@ public final class SimpleMount extends Component {
     if (this.getId() == simpleMountRef.getId()) {
       return true;
     }
+    if (getPropsFingerprint() != simpleMountRef.getPropsFingerprint()) {
+      return false;
+    }
     if (content != null
         ? !content.isEquivalentTo(simpleMountRef.content)
         : simpleMountRef.content != null) {
@@ -65,6 +76,18 @@ public final class SimpleMount extends Component {
     return true;
   }
 
+  @Override
+  protected long computePropsFingerprint() {
+    long fingerprint = 0;
+    fingerprint = 31 * fingerprint + Double.doubleToLongBits(ratio);
+    return fingerprint;
+  }
+
+  @Override
+  protected SimpleMount createShallowCopy() {
+    return new SimpleMount(this);
+  }
+
   @Override
   public SimpleMount makeShallowCopy() {
     SimpleMount component = (SimpleMount) super.makeShallowCopy();
@@ -72,6 +95,13 @@ public final class SimpleMount extends Component {
     return component;
   }
 
+  @Override
+  public SimpleMount makeTemplateCopy() {
+    SimpleMount component = (SimpleMount) super.makeTemplateCopy();
+    component.content = content != null ? content.makeTemplateCopy() : null;
+    return component;
+  }
+
   @Override
   protected void onMeasure(
       ComponentContext c,
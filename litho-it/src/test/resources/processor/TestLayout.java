@@ -9,6 +9,7 @@
 package com.facebook.litho.processor.integration.resources;
 
 import android.annotation.TargetApi;
+import android.os.Looper;
 import android.support.annotation.VisibleForTesting;
 import android.support.v4.util.Pools;
 import android.view.View;
@@ -47,8 +48,12 @@ import java.util.BitSet;
  */
 @TargetApi(17)
 public final class TestLayout<S extends View> extends Component {
+  private static final int TYPE_ID = newTypeId();
+
   static final Pools.SynchronizedPool<TestEvent> sTestEventPool = new Pools.SynchronizedPool<TestEvent>(2);
 
+  private static TestEvent sMainThreadTestEvent;
+
   private static final Pools.SynchronizedPool<Builder> sBuilderPool = new Pools.SynchronizedPool<Builder>(2);
 
   private TestLayoutStateContainer mStateContainer;
@@ -104,10 +109,26 @@ public final class TestLayout<S extends View> extends Component {
   EventTrigger onClickEventTriggerTrigger;
 
   private TestLayout() {
-    super();
+    super(TYPE_ID);
     mStateContainer = new TestLayoutStateContainer();
   }
 
+  private TestLayout(TestLayout source) {
+    super(source);
+    mStateContainer = source.mStateContainer;
+    mPreviousRenderData = source.mPreviousRenderData;
+    child = source.child;
+    prop1 = source.prop1;
+    prop2 = source.prop2;
+    prop3 = source.prop3;
+    prop4 = source.prop4;
+    prop5 = source.prop5;
+    prop6 = source.prop6;
+    treeProp = source.treeProp;
+    testEventHandler = source.testEventHandler;
+    onClickEventTriggerTrigger = source.onClickEventTriggerTrigger;
+  }
+
   @Override
   protected ComponentLifecycle.StateContainer getStateContainer() {
     return mStateContainer;
@@ -130,6 +151,9 @@ public final class TestLayout<S extends View> extends Component {
     if (this.getId() == testLayoutRef.getId()) {
       return true;
     }
+    if (getPropsFingerprint() != testLayoutRef.getPropsFingerprint()) {
+      return false;
+    }
     if (child != null ? !child.isEquivalentTo(testLayoutRef.child) : testLayoutRef.child != null) {
       return false;
     }
@@ -166,6 +190,23 @@ public final class TestLayout<S extends View> extends Component {
     return true;
   }
 
+  @Override
+  protected long computePropsFingerprint() {
+    long fingerprint = 0;
+    fingerprint = 31 * fingerprint + prop1;
+    fingerprint = 31 * fingerprint + (prop2 ? 1 : 0);
+    fingerprint = 31 * fingerprint + (prop3 != null ? prop3.hashCode() : 0);
+    fingerprint = 31 * fingerprint + Arrays.hashCode(prop4);
+    fingerprint = 31 * fingerprint + prop5;
+    fingerprint = 31 * fingerprint + prop6;
+    return fingerprint;
+  }
+
+  @Override
+  protected TestLayout createShallowCopy() {
+    return new TestLayout(this);
+  }
+
   private UpdateCurrentStateStateUpdate createUpdateCurrentStateStateUpdate(int someParam) {
     return new UpdateCurrentStateStateUpdate(someParam);
   }
@@ -178,6 +219,13 @@ public final class TestLayout<S extends View> extends Component {
     return component;
   }
 
+  @Override
+  public TestLayout makeTemplateCopy() {
+    TestLayout component = (TestLayout) super.makeTemplateCopy();
+    component.child = child != null ? child.makeTemplateCopy() : null;
+    return component;
+  }
+
   @Override
   protected void populateTreeProps(TreeProps treeProps) {
     if (treeProps == null) {
@@ -263,9 +311,16 @@ public final class TestLayout<S extends View> extends Component {
   }
 
   static void dispatchTestEvent(EventHandler _eventHandler, View view, Object object) {
-    TestEvent _eventState = sTestEventPool.acquire();
-    if (_eventState == null) {
-      _eventState = new TestEvent();
+    final boolean _isMainThread = Looper.myLooper() == Looper.getMainLooper();
+    TestEvent _eventState;
+    if (_isMainThread && sMainThreadTestEvent != null) {
+      _eventState = sMainThreadTestEvent;
+      sMainThreadTestEvent = null;
+    } else {
+      _eventState = sTestEventPool.acquire();
+      if (_eventState == null) {
+        _eventState = new TestEvent();
+      }
     }
     _eventState.view = view;
     _eventState.object = object;
@@ -273,7 +328,11 @@ public final class TestLayout<S extends View> extends Component {
     _lifecycle.dispatchOnEvent(_eventHandler, _eventState);
     _eventState.view = null;
     _eventState.object = null;
-    sTestEventPool.release(_eventState);
+    if (_isMainThread) {
+      sMainThreadTestEvent = _eventState;
+    } else {
+      sTestEventPool.release(_eventState);
+    }
   }
 
   private void testLayoutEvent(HasEventDispatcher _abstract, ComponentContext c, View view,
@@ -10,6 +10,7 @@ package com.facebook.litho.processor.integration.resources;
 
 import android.annotation.TargetApi;
 import android.graphics.drawable.Drawable;
+import android.os.Looper;
 import android.support.annotation.AttrRes;
 import android.support.annotation.StringRes;
 import android.support.annotation.VisibleForTesting;
@@ -52,8 +53,12 @@ import java.util.BitSet;
  */
 @TargetApi(17)
 public final class TestMount<S extends View> extends Component {
+  private static final int TYPE_ID = newTypeId();
+
   static final Pools.SynchronizedPool<TestEvent> sTestEventPool = new Pools.SynchronizedPool<TestEvent>(2);
 
+  private static TestEvent sMainThreadTestEvent;
+
   private static final Pools.SynchronizedPool<Builder> sBuilderPool = new Pools.SynchronizedPool<Builder>(2);
 
   private TestMountStateContainer mStateContainer;
@@ -105,10 +110,28 @@ public final class TestMount<S extends View> extends Component {
   EventTrigger onClickEventTriggerTrigger;
 
   private TestMount() {
-    super();
+    super(TYPE_ID);
     mStateContainer = new TestMountStateContainer();
   }
 
+  private TestMount(TestMount source) {
+    super(source);
+    mStateContainer = source.mStateContainer;
+    prop1 = source.prop1;
+    prop2 = source.prop2;
+    prop3 = source.prop3;
+    prop4 = source.prop4;
+    prop5 = source.prop5;
+    prop6 = source.prop6;
+    prop7 = source.prop7;
+    prop8 = source.prop8;
+    treeProp = source.treeProp;
+    boundsDefinedOutput = source.boundsDefinedOutput;
+    measureOutput = source.measureOutput;
+    testEventHandler = source.testEventHandler;
+    onClickEventTriggerTrigger = source.onClickEventTriggerTrigger;
+  }
+
   @Override
   protected ComponentLifecycle.StateContainer getStateContainer() {
     return mStateContainer;
@@ -131,6 +154,9 @@ public final class TestMount<S extends View> extends Component {
     if (this.getId() == testMountRef.getId()) {
       return true;
     }
+    if (getPropsFingerprint() != testMountRef.getPropsFingerprint()) {
+      return false;
+    }
     if (prop1 != testMountRef.prop1) {
       return false;
     }
@@ -167,6 +193,25 @@ public final class TestMount<S extends View> extends Component {
     return true;
   }
 
+  @Override
+  protected long computePropsFingerprint() {
+    long fingerprint = 0;
+    fingerprint = 31 * fingerprint + prop1;
+    fingerprint = 31 * fingerprint + (prop2 ? 1 : 0);
+    fingerprint = 31 * fingerprint + (prop3 != null ? prop3.hashCode() : 0);
+    fingerprint = 31 * fingerprint + Arrays.hashCode(prop4);
+    fingerprint = 31 * fingerprint + prop5;
+    fingerprint = 31 * fingerprint + prop6;
+    fingerprint = 31 * fingerprint + (prop7 != null ? prop7.hashCode() : 0);
+    fingerprint = 31 * fingerprint + prop8;
+    return fingerprint;
+  }
+
+  @Override
+  protected TestMount createShallowCopy() {
+    return new TestMount(this);
+  }
+
   @Override
   protected void copyInterStageImpl(Component component) {
     TestMount testMountRef = (TestMount) component;
@@ -290,6 +335,12 @@ public final class TestMount<S extends View> extends Component {
     TestMountSpec.onUnmount((ComponentContext) c, (Drawable) v, (long) prop8);
   }
 
+  @Override
+  protected void onUpdateProps(ComponentContext c, Object v) {
+    TestMountSpec.onUpdateProps(
+        (ComponentContext) c, (Drawable) v, (boolean) prop2, (Long) measureOutput);
+  }
+
   @Override
   protected void onPopulateAccessibilityNode(AccessibilityNodeInfoCompat node) {
     TestMountSpec.onPopulateAccessibilityNode(
@@ -397,6 +448,54 @@ public final class TestMount<S extends View> extends Component {
     return true;
   }
 
+  @Override
+  protected long getChangedProps(Component _prevAbstractImpl) {
+    TestMount _prevImpl = (TestMount) _prevAbstractImpl;
+    if (mStateContainer.state1 != _prevImpl.mStateContainer.state1) {
+      return ALL_PROPS_CHANGED;
+    }
+    if (mStateContainer.state2 != null ? !mStateContainer.state2.equals(_prevImpl.mStateContainer.state2) : _prevImpl.mStateContainer.state2 != null) {
+      return ALL_PROPS_CHANGED;
+    }
+    if (treeProp != null ? !treeProp.equals(_prevImpl.treeProp) : _prevImpl.treeProp != null) {
+      return ALL_PROPS_CHANGED;
+    }
+    if (measureOutput != null ? !measureOutput.equals(_prevImpl.measureOutput) : _prevImpl.measureOutput != null) {
+      return ALL_PROPS_CHANGED;
+    }
+    long _changedProps = 0;
+    if (prop1 != _prevImpl.prop1) {
+      _changedProps |= 0x1L;
+    }
+    if (prop2 != _prevImpl.prop2) {
+      _changedProps |= 0x2L;
+    }
+    if (prop3 != null ? !prop3.equals(_prevImpl.prop3) : _prevImpl.prop3 != null) {
+      _changedProps |= 0x4L;
+    }
+    if (!Arrays.equals(prop4, _prevImpl.prop4)) {
+      _changedProps |= 0x8L;
+    }
+    if (prop5 != _prevImpl.prop5) {
+      _changedProps |= 0x10L;
+    }
+    if (prop6 != _prevImpl.prop6) {
+      _changedProps |= 0x20L;
+    }
+    if (prop7 != null ? !prop7.equals(_prevImpl.prop7) : _prevImpl.prop7 != null) {
+      _changedProps |= 0x40L;
+    }
+    if (prop8 != _prevImpl.prop8) {
+      _changedProps |= 0x80L;
+    }
+    return _changedProps;
+  }
+
+  @Override
+  protected long getUpdatableProps() {
+    return 0x2L;
+  }
+
   @Override
   public boolean isPureRender() {
     return true;
@@ -410,9 +509,16 @@ public final class TestMount<S extends View> extends Component {
   }
 
   static void dispatchTestEvent(EventHandler _eventHandler, View view, Object object) {
-    TestEvent _eventState = sTestEventPool.acquire();
-    if (_eventState == null) {
-      _eventState = new TestEvent();
+    final boolean _isMainThread = Looper.myLooper() == Looper.getMainLooper();
+    TestEvent _eventState;
+    if (_isMainThread && sMainThreadTestEvent != null) {
+      _eventState = sMainThreadTestEvent;
+      sMainThreadTestEvent = null;
+    } else {
+      _eventState = sTestEventPool.acquire();
+      if (_eventState == null) {
+        _eventState = new TestEvent();
+      }
     }
     _eventState.view = view;
     _eventState.object = object;
@@ -420,7 +526,11 @@ public final class TestMount<S extends View> extends Component {
     _lifecycle.dispatchOnEvent(_eventHandler, _eventState);
     _eventState.view = null;
     _eventState.object = null;
-    sTestEventPool.release(_eventState);
+    if (_isMainThread) {
+      sMainThreadTestEvent = _eventState;
+    } else {
+      sTestEventPool.release(_eventState);
+    }
   }
 
   private void testLayoutEvent(HasEventDispatcher _abstract, ComponentContext c, View view,
@@ -49,6 +49,7 @@ import com.facebook.litho.annotations.OnPopulateAccessibilityNode;
 import com.facebook.litho.annotations.OnPopulateExtraAccessibilityNode;
 import com.facebook.litho.annotations.OnTrigger;
 import com.facebook.litho.annotations.OnUnmount;
+import com.facebook.litho.annotations.OnUpdateProps;
 import com.facebook.litho.annotations.OnUpdateState;
 import com.facebook.litho.annotations.Param;
 import com.facebook.litho.annotations.Prop;
@@ -130,6 +131,14 @@ public class TestMountSpec<S extends View> {
       @Prop long prop8) {
   }
 
+  @OnUpdateProps
+  static void onUpdateProps(
+      ComponentContext c,
+      Drawable v,
+      @Prop(optional = true) boolean prop2,
+      @FromMeasure Long measureOutput) {
+  }
+
   @OnPopulateAccessibilityNode
   static void onPopulateAccessibilityNode(
       AccessibilityNodeInfoCompat node,
@@ -9,6 +9,7 @@
 
 package com.facebook.litho.sections.processor.integration.resources;
 
+import android.os.Looper;
 import android.support.annotation.VisibleForTesting;
 import android.support.v4.util.Pools;
 import android.view.View;
@@ -42,6 +43,8 @@ public final class FullDiffSection<T> extends Section {
 
   static final Pools.SynchronizedPool<TestEvent> sTestEventPool = new Pools.SynchronizedPool<TestEvent>(2);
 
+  private static TestEvent sMainThreadTestEvent;
+
   private FullDiffSectionStateContainer mStateContainer;
 
   @Prop(resType = ResType.NONE, optional = false)
@@ -168,15 +171,26 @@ public final class FullDiffSection<T> extends Section {
   }
 
   static boolean dispatchTestEvent(EventHandler _eventHandler, Object object) {
-    TestEvent _eventState = sTestEventPool.acquire();
-    if (_eventState == null) {
-      _eventState = new TestEvent();
+    final boolean _isMainThread = Looper.myLooper() == Looper.getMainLooper();
+    TestEvent _eventState;
+    if (_isMainThread && sMainThreadTestEvent != null) {
+      _eventState = sMainThreadTestEvent;
+      sMainThreadTestEvent = null;
+    } else {
+      _eventState = sTestEventPool.acquire();
+      if (_eventState == null) {
+        _eventState = new TestEvent();
+      }
     }
     _eventState.object = object;
     EventDispatcher _lifecycle = _eventHandler.mHasEventDispatcher.getEventDispatcher();
     boolean result = (boolean) _lifecycle.dispatchOnEvent(_eventHandler, _eventState);
     _eventState.object = null;
-    sTestEventPool.release(_eventState);
+    if (_isMainThread) {
+      sMainThreadTestEvent = _eventState;
+    } else {
+      sTestEventPool.release(_eventState);
+    }
     return result;
   }
 
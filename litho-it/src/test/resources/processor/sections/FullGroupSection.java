@@ -9,6 +9,7 @@
 
 package com.facebook.litho.sections.processor.integration.resources;
 
+import android.os.Looper;
 import android.support.annotation.AttrRes;
 import android.support.annotation.StringRes;
 import android.support.annotation.VisibleForTesting;
@@ -46,6 +47,8 @@ final class FullGroupSection<T> extends Section {
 
   static final Pools.SynchronizedPool<TestEvent> sTestEventPool = new Pools.SynchronizedPool<TestEvent>(2);
 
+  private static TestEvent sMainThreadTestEvent;
+
   private FullGroupSectionStateContainer mStateContainer;
 
   @Prop(resType = ResType.NONE, optional = false)
@@ -192,15 +195,26 @@ final class FullGroupSection<T> extends Section {
   }
 
   static boolean dispatchTestEvent(EventHandler _eventHandler, Object object) {
-    TestEvent _eventState = sTestEventPool.acquire();
-    if (_eventState == null) {
-      _eventState = new TestEvent();
+    final boolean _isMainThread = Looper.myLooper() == Looper.getMainLooper();
+    TestEvent _eventState;
+    if (_isMainThread && sMainThreadTestEvent != null) {
+      _eventState = sMainThreadTestEvent;
+      sMainThreadTestEvent = null;
+    } else {
+      _eventState = sTestEventPool.acquire();
+      if (_eventState == null) {
+        _eventState = new TestEvent();
+      }
     }
     _eventState.object = object;
     EventDispatcher _lifecycle = _eventHandler.mHasEventDispatcher.getEventDispatcher();
     boolean result = (boolean) _lifecycle.dispatchOnEvent(_eventHandler, _eventState);
     _eventState.object = null;
-    sTestEventPool.release(_eventState);
+    if (_isMainThread) {
+      sMainThreadTestEvent = _eventState;
+    } else {
+      sTestEventPool.release(_eventState);
+    }
     return result;
   }
 
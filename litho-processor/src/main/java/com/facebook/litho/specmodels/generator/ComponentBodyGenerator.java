@@ -91,10 +91,14 @@ public class ComponentBodyGenerator {
 
     builder.addMethod(generateGetSimpleName(specModel));
     builder.addMethod(generateIsEquivalentMethod(specModel));
+    builder.addTypeSpecDataHolder(generatePropsFingerprint(specModel));
+    builder.addTypeSpecDataHolder(
+        generateShallowCopy(specModel, hasState, needsRenderDataInfra, optionalField));
 
     builder.addTypeSpecDataHolder(generateCopyInterStageImpl(specModel));
     builder.addTypeSpecDataHolder(generateOnUpdateStateMethods(specModel));
     builder.addTypeSpecDataHolder(generateMakeShallowCopy(specModel, hasState));
+    builder.addTypeSpecDataHolder(generateMakeTemplateCopy(specModel));
 
     if (hasState) {
       builder.addType(generateStateContainer(specModel));
@@ -356,6 +360,14 @@ public class ComponentBodyGenerator {
           .endControlFlow();
     }
 
+    if (!getFingerprintedProps(specModel).isEmpty()) {
+      isEquivalentBuilder
+          .beginControlFlow(
+              "if (getPropsFingerprint() != $N.getPropsFingerprint())", instanceRefName)
+          .addStatement("return false")
+          .endControlFlow();
+    }
+
     for (PropModel prop : specModel.getProps()) {
       isEquivalentBuilder.addCode(getCompareStatement(specModel, instanceRefName, prop));
     }
@@ -373,6 +385,77 @@ public class ComponentBodyGenerator {
     return isEquivalentBuilder.build();
   }
 
+  /**
+   * Generates computePropsFingerprint, which hashes the props that isEquivalentTo compares by
+   * value. Props compared through isEquivalentTo or {@link ClassNames#REFERENCE} semantics, props
+   * backed by state, and props that opted out through {@link Prop#excludeFromFingerprint()} are
+   * left out, as their hash wouldn't be consistent with the way they are compared.
+   */
+  static TypeSpecDataHolder generatePropsFingerprint(SpecModel specModel) {
+    final TypeSpecDataHolder.Builder typeSpecDataHolder = TypeSpecDataHolder.newBuilder();
+    final List<PropModel> props = getFingerprintedProps(specModel);
+
+    if (props.isEmpty()) {
+      return typeSpecDataHolder.build();
+    }
+
+    final MethodSpec.Builder methodBuilder =
+        MethodSpec.methodBuilder("computePropsFingerprint")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PROTECTED)
+            .returns(TypeName.LONG)
+            .addStatement("long fingerprint = 0");
+
+    for (PropModel prop : props) {
+      methodBuilder.addStatement(
+          "fingerprint = 31 * fingerprint + $L", getFingerprintExpression(prop));
+    }
+
+    methodBuilder.addStatement("return fingerprint");
+    typeSpecDataHolder.addMethod(methodBuilder.build());
+
+    return typeSpecDataHolder.build();
+  }
+
+  private static List<PropModel> getFingerprintedProps(SpecModel specModel) {
+    final List<PropModel> props = new ArrayList<>();
+    if (!specModel.getComponentClass().equals(ClassNames.COMPONENT)) {
+      return props;
+    }
+
+    for (PropModel prop : specModel.getProps()) {
+      if (prop.isExcludedFromFingerprint()
+          || shouldUseIsEquivalentTo(specModel, prop)
+          || prop.getType().equals(ClassNames.REFERENCE)
+          || SpecModelUtils.getStateValueWithName(specModel, prop.getName()) != null) {
+        continue;
+      }
+
+      props.add(prop);
+    }
+
+    return props;
+  }
+
+  private static CodeBlock getFingerprintExpression(PropModel prop) {
+    final String name = prop.getName();
+    final TypeName type = prop.getType();
+
+    if (type == TypeName.BOOLEAN) {
+      return CodeBlock.of("($L ? 1 : 0)", name);
+    } else if (type == TypeName.FLOAT) {
+      return CodeBlock.of("Float.floatToIntBits($L)", name);
+    } else if (type == TypeName.DOUBLE) {
+      return CodeBlock.of("Double.doubleToLongBits($L)", name);
+    } else if (type.isPrimitive()) {
+      return CodeBlock.of("$L", name);
+    } else if (type instanceof ArrayTypeName) {
+      return CodeBlock.of("$T.hashCode($L)", Arrays.class, name);
+    } else {
+      return CodeBlock.of("($L != null ? $L.hashCode() : 0)", name, name);
+    }
+  }
+
   static TypeSpecDataHolder generateCopyInterStageImpl(SpecModel specModel) {
     final TypeSpecDataHolder.Builder typeSpecDataHolder = TypeSpecDataHolder.newBuilder();
     final ImmutableList<InterStageInputParamModel> interStageInputs =
@@ -444,6 +527,75 @@ public class ComponentBodyGenerator {
     return typeSpecDataHolder.build();
   }
 
+  /**
+   * Generates a copy constructor that copies every field of the component explicitly, and the
+   * createShallowCopy override that uses it so that Component#makeShallowCopy doesn't need to go
+   * through Object#clone. Components with injected dependencies keep being cloned, as their
+   * injected fields are generated by the dependency injection helper.
+   */
+  static TypeSpecDataHolder generateShallowCopy(
+      SpecModel specModel,
+      boolean hasState,
+      boolean needsRenderDataInfra,
+      @Nullable MethodParamModel optionalField) {
+    final TypeSpecDataHolder.Builder typeSpecDataHolder = TypeSpecDataHolder.newBuilder();
+
+    if (!specModel.getComponentClass().equals(ClassNames.COMPONENT)
+        || specModel.hasInjectedDependencies()) {
+      return typeSpecDataHolder.build();
+    }
+
+    final ClassName componentClass = ClassName.bestGuess(specModel.getComponentName());
+    final String sourceName = "source";
+    final MethodSpec.Builder constructor =
+        MethodSpec.constructorBuilder()
+            .addModifiers(Modifier.PRIVATE)
+            .addParameter(componentClass, sourceName)
+            .addStatement("super($L)", sourceName);
+
+    final List<String> fieldNames = new ArrayList<>();
+    if (hasState) {
+      fieldNames.add(STATE_CONTAINER_FIELD_NAME);
+    }
+    if (needsRenderDataInfra) {
+      fieldNames.add(PREVIOUS_RENDER_DATA_FIELD_NAME);
+    }
+    for (PropModel prop : specModel.getProps()) {
+      fieldNames.add(prop.getName());
+    }
+    for (TreePropModel treeProp : specModel.getTreeProps()) {
+      fieldNames.add(treeProp.getName());
+    }
+    for (InterStageInputParamModel interStageInput : specModel.getInterStageInputs()) {
+      fieldNames.add(interStageInput.getName());
+    }
+    if (optionalField != null) {
+      fieldNames.add(optionalField.getName());
+    }
+    for (EventDeclarationModel eventDeclaration : specModel.getEventDeclarations()) {
+      fieldNames.add(getEventHandlerInstanceName(eventDeclaration.name));
+    }
+    for (SpecMethodModel<EventMethod, EventDeclarationModel> eventMethodModel :
+        specModel.getTriggerMethods()) {
+      fieldNames.add(getEventTriggerInstanceName(eventMethodModel.name));
+    }
+
+    for (String fieldName : fieldNames) {
+      constructor.addStatement("$L = $L.$L", fieldName, sourceName, fieldName);
+    }
+
+    return typeSpecDataHolder
+        .addMethod(constructor.build())
+        .addMethod(
+            MethodSpec.methodBuilder("createShallowCopy")
+                .addModifiers(Modifier.PROTECTED)
+                .addAnnotation(Override.class)
+                .returns(componentClass)
+                .addStatement("return new $T(this)", componentClass)
+                .build())
+        .build();
+  }
+
   static TypeSpecDataHolder generateMakeShallowCopy(SpecModel specModel, boolean hasState) {
     TypeSpecDataHolder.Builder typeSpecDataHolder = TypeSpecDataHolder.newBuilder();
 
@@ -509,6 +661,40 @@ public class ComponentBodyGenerator {
     return typeSpecDataHolder.addMethod(builder.build()).build();
   }
 
+  /**
+   * Generates the makeTemplateCopy override of components that hold other components as props, so
+   * that copying the static layout of a component also copies the components they hold.
+   */
+  static TypeSpecDataHolder generateMakeTemplateCopy(SpecModel specModel) {
+    final TypeSpecDataHolder.Builder typeSpecDataHolder = TypeSpecDataHolder.newBuilder();
+    final List<MethodParamModel> componentsInImpl = findComponentsInImpl(specModel);
+
+    if (componentsInImpl.isEmpty() || !specModel.getComponentClass().equals(COMPONENT)) {
+      return typeSpecDataHolder.build();
+    }
+
+    final String className = specModel.getComponentName();
+    final MethodSpec.Builder builder =
+        MethodSpec.methodBuilder("makeTemplateCopy")
+            .addModifiers(Modifier.PUBLIC)
+            .addAnnotation(Override.class)
+            .returns(ClassName.bestGuess(className))
+            .addStatement(
+                "$L component = ($L) super.makeTemplateCopy()", className, className);
+
+    for (MethodParamModel componentParam : componentsInImpl) {
+      builder.addStatement(
+          "component.$L = $L != null ? $L.makeTemplateCopy() : null",
+          componentParam.getName(),
+          componentParam.getName(),
+          componentParam.getName());
+    }
+
+    builder.addStatement("return component");
+
+    return typeSpecDataHolder.addMethod(builder.build()).build();
+  }
+
   private static List<MethodParamModel> findComponentsInImpl(SpecModel specModel) {
     final List<MethodParamModel> componentsInImpl = new ArrayList<>();
 
@@ -551,6 +737,19 @@ public class ComponentBodyGenerator {
       SpecModel specModel,
       String implInstanceName,
       MethodParamModel field) {
+    return getCompareStatement(
+        specModel, implInstanceName, field, CodeBlock.of("return false"));
+  }
+
+  /**
+   * @return a statement that compares field to the same field of implInstanceName the way
+   *     isEquivalentTo does, and runs onDifferent if they differ.
+   */
+  static CodeBlock getCompareStatement(
+      SpecModel specModel,
+      String implInstanceName,
+      MethodParamModel field,
+      CodeBlock onDifferent) {
     final CodeBlock.Builder codeBlock = CodeBlock.builder();
 
     final String implAccessor = getImplAccessor(specModel, field);
@@ -561,7 +760,7 @@ public class ComponentBodyGenerator {
               implAccessor,
               implInstanceName,
               implAccessor)
-          .addStatement("return false")
+          .addStatement("$L", onDifferent)
           .endControlFlow();
     } else if (field.getType() == TypeName.DOUBLE) {
       codeBlock
@@ -570,7 +769,7 @@ public class ComponentBodyGenerator {
               implAccessor,
               implInstanceName,
               implAccessor)
-          .addStatement("return false")
+          .addStatement("$L", onDifferent)
           .endControlFlow();
     } else if (field.getType() instanceof ArrayTypeName) {
       codeBlock
@@ -580,7 +779,7 @@ public class ComponentBodyGenerator {
               implAccessor,
               implInstanceName,
               implAccessor)
-          .addStatement("return false")
+          .addStatement("$L", onDifferent)
           .endControlFlow();
     } else if (field.getType().isPrimitive()) {
       codeBlock
@@ -589,7 +788,7 @@ public class ComponentBodyGenerator {
               implAccessor,
               implInstanceName,
               implAccessor)
-          .addStatement("return false")
+          .addStatement("$L", onDifferent)
           .endControlFlow();
     } else if (field.getType().equals(ClassNames.REFERENCE)) {
       codeBlock
@@ -598,7 +797,7 @@ public class ComponentBodyGenerator {
               implAccessor,
               implInstanceName,
               implAccessor)
-          .addStatement("return false")
+          .addStatement("$L", onDifferent)
           .endControlFlow();
     } else {
       final String equalMethodName =
@@ -614,7 +813,7 @@ public class ComponentBodyGenerator {
               implAccessor,
               implInstanceName,
               implAccessor)
-          .addStatement("return false")
+          .addStatement("$L", onDifferent)
           .endControlFlow();
     }
 
@@ -101,15 +101,28 @@ public class EventGenerator {
     return dataHolder.build();
   }
 
+  /**
+   * Generate the method dispatching an event to an {@code EventHandler}. Events dispatched on the
+   * main thread, where touch, scroll and visibility events fire, reuse a single event object only
+   * accessed from the main thread, so that they neither allocate nor synchronize. The pool is only
+   * used by other threads, or when the main thread dispatches the event again while handling it.
+   * The main thread is identified by its Looper rather than with ThreadUtils.isMainThread(), which
+   * tests can override to be true on several threads at once.
+   */
   static TypeSpecDataHolder generateEventDispatcher(EventDeclarationModel eventDeclaration) {
     final TypeSpecDataHolder.Builder typeSpecDataHolder = TypeSpecDataHolder.newBuilder();
     final String poolName = "s" + eventDeclaration.name.simpleName() + "Pool";
+    final String mainThreadEventName = "sMainThread" + eventDeclaration.name.simpleName();
     final TypeName poolType =
         ParameterizedTypeName.get(ClassNames.SYNCHRONIZED_POOL, eventDeclaration.name);
     typeSpecDataHolder.addField(
         FieldSpec.builder(poolType, poolName, Modifier.STATIC, Modifier.FINAL)
             .initializer("new $T(2)", poolType)
             .build());
+    typeSpecDataHolder.addField(
+        FieldSpec.builder(
+                eventDeclaration.name, mainThreadEventName, Modifier.PRIVATE, Modifier.STATIC)
+            .build());
 
     MethodSpec.Builder eventDispatcherMethod =
         MethodSpec.methodBuilder("dispatch" + eventDeclaration.name.simpleName())
@@ -117,9 +130,19 @@ public class EventGenerator {
             .addParameter(ClassNames.EVENT_HANDLER, "_eventHandler");
 
     eventDispatcherMethod
-        .addStatement("$T _eventState = $L.acquire()", eventDeclaration.name, poolName)
+        .addStatement(
+            "final boolean _isMainThread = $T.myLooper() == $T.getMainLooper()",
+            ClassNames.LOOPER,
+            ClassNames.LOOPER)
+        .addStatement("$T _eventState", eventDeclaration.name)
+        .beginControlFlow("if (_isMainThread && $L != null)", mainThreadEventName)
+        .addStatement("_eventState = $L", mainThreadEventName)
+        .addStatement("$L = null", mainThreadEventName)
+        .nextControlFlow("else")
+        .addStatement("_eventState = $L.acquire()", poolName)
         .beginControlFlow("if (_eventState == null)")
         .addStatement("_eventState = new $T()", eventDeclaration.name)
+        .endControlFlow()
         .endControlFlow();
 
     final CodeBlock.Builder resetCode = CodeBlock.builder();
@@ -139,7 +162,12 @@ public class EventGenerator {
         "$T _lifecycle = _eventHandler.mHasEventDispatcher.getEventDispatcher()",
         ClassNames.EVENT_DISPATCHER);
 
-    resetCode.addStatement("$L.release(_eventState)", poolName);
+    resetCode
+        .beginControlFlow("if (_isMainThread)")
+        .addStatement("$L = _eventState", mainThreadEventName)
+        .nextControlFlow("else")
+        .addStatement("$L.release(_eventState)", poolName)
+        .endControlFlow();
     if (eventDeclaration.returnType.equals(TypeName.VOID)) {
       eventDispatcherMethod.addStatement("_lifecycle.dispatchOnEvent(_eventHandler, _eventState)");
       eventDispatcherMethod.addCode(resetCode.build());
@@ -17,6 +17,7 @@ public interface GeneratorConstants {
   String ABSTRACT_PARAM_NAME = "_abstract";
   String REF_VARIABLE_NAME = "_ref";
   String STATE_CONTAINER_FIELD_NAME = "mStateContainer";
+  String TYPE_ID_FIELD_NAME = "TYPE_ID";
   String PREVIOUS_RENDER_DATA_FIELD_NAME = "mPreviousRenderData";
   String STATE_CONTAINER_NAME_SUFFIX = "StateContainer";
   String STATE_UPDATE_NAME_SUFFIX = "StateUpdate";
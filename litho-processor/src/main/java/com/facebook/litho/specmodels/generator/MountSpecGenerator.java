@@ -12,17 +12,23 @@ package com.facebook.litho.specmodels.generator;
 import com.facebook.litho.annotations.FromBoundsDefined;
 import com.facebook.litho.annotations.FromMeasure;
 import com.facebook.litho.annotations.OnMount;
+import com.facebook.litho.annotations.OnUpdateProps;
 import com.facebook.litho.annotations.ShouldUpdate;
 import com.facebook.litho.specmodels.model.ClassNames;
 import com.facebook.litho.specmodels.model.DelegateMethod;
 import com.facebook.litho.specmodels.model.InterStageInputParamModel;
 import com.facebook.litho.specmodels.model.MethodParamModel;
 import com.facebook.litho.specmodels.model.MountSpecModel;
+import com.facebook.litho.specmodels.model.PropModel;
 import com.facebook.litho.specmodels.model.SpecMethodModel;
 import com.facebook.litho.specmodels.model.SpecModelUtils;
+import com.facebook.litho.specmodels.model.StateParamModel;
+import com.facebook.litho.specmodels.model.TreePropModel;
+import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.TypeName;
 import java.lang.annotation.Annotation;
+import java.util.List;
 import javax.annotation.Nullable;
 import javax.lang.model.element.Modifier;
 
@@ -148,6 +154,114 @@ public class MountSpecGenerator {
     return dataHolder.build();
   }
 
+  /**
+   * Generates the methods the framework uses to call {@link OnUpdateProps} instead of remounting:
+   * getChangedProps, which sets the bit of each prop that isn't equivalent to the one of the
+   * previous component without allocating, and getUpdatableProps, the bits of the props the spec
+   * can update on the mounted content. Props past the 63rd share the last bit.
+   */
+  public static TypeSpecDataHolder generateUpdateProps(MountSpecModel specModel) {
+    final TypeSpecDataHolder.Builder dataHolder = TypeSpecDataHolder.newBuilder();
+
+    final SpecMethodModel<DelegateMethod, Void> onUpdateProps =
+        SpecModelUtils.getMethodModelWithAnnotation(specModel, OnUpdateProps.class);
+
+    if (onUpdateProps == null) {
+      return dataHolder.build();
+    }
+
+    final String componentName = specModel.getComponentName();
+    final MethodSpec.Builder getChangedProps =
+        MethodSpec.methodBuilder("getChangedProps")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PROTECTED)
+            .returns(TypeName.LONG)
+            .addParameter(specModel.getComponentClass(), "_prevAbstractImpl")
+            .addStatement(
+                "$L _prevImpl = ($L) _prevAbstractImpl", componentName, componentName);
+
+    // The content can only be updated from props, so any other change requires a remount. This
+    // includes the outputs of measure or bounds defined that are mounted on the content.
+    final CodeBlock returnAllPropsChanged = CodeBlock.of("return ALL_PROPS_CHANGED");
+    for (StateParamModel state : specModel.getStateValues()) {
+      getChangedProps.addCode(
+          ComponentBodyGenerator.getCompareStatement(
+              specModel, "_prevImpl", state, returnAllPropsChanged));
+    }
+
+    for (TreePropModel treeProp : specModel.getTreeProps()) {
+      getChangedProps.addCode(
+          ComponentBodyGenerator.getCompareStatement(
+              specModel, "_prevImpl", treeProp, returnAllPropsChanged));
+    }
+
+    final SpecMethodModel<DelegateMethod, Void> onMount =
+        SpecModelUtils.getMethodModelWithAnnotation(specModel, OnMount.class);
+    if (onMount != null) {
+      for (MethodParamModel methodParam : onMount.methodParams) {
+        if (methodParam instanceof InterStageInputParamModel) {
+          getChangedProps.addCode(
+              ComponentBodyGenerator.getCompareStatement(
+                  specModel, "_prevImpl", methodParam, returnAllPropsChanged));
+        }
+      }
+    }
+
+    getChangedProps.addStatement("long _changedProps = 0");
+
+    long updatableProps = 0;
+    long notUpdatableProps = 0;
+    final List<PropModel> props = specModel.getProps();
+    for (int i = 0, size = props.size(); i < size; i++) {
+      final PropModel prop = props.get(i);
+      final long bit = getPropBit(i);
+
+      getChangedProps.addCode(
+          ComponentBodyGenerator.getCompareStatement(
+              specModel,
+              "_prevImpl",
+              prop,
+              CodeBlock.of("_changedProps |= $L", getLongLiteral(bit))));
+
+      if (isPropParam(onUpdateProps, prop)) {
+        updatableProps |= bit;
+      } else {
+        notUpdatableProps |= bit;
+      }
+    }
+
+    getChangedProps.addStatement("return _changedProps");
+
+    return dataHolder
+        .addMethod(getChangedProps.build())
+        .addMethod(
+            MethodSpec.methodBuilder("getUpdatableProps")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PROTECTED)
+                .returns(TypeName.LONG)
+                .addStatement("return $L", getLongLiteral(updatableProps & ~notUpdatableProps))
+                .build())
+        .build();
+  }
+
+  private static long getPropBit(int propIndex) {
+    return 1L << Math.min(propIndex, Long.SIZE - 1);
+  }
+
+  private static String getLongLiteral(long value) {
+    return "0x" + Long.toHexString(value) + "L";
+  }
+
+  private static boolean isPropParam(SpecMethodModel<DelegateMethod, Void> method, PropModel prop) {
+    for (MethodParamModel methodParam : method.methodParams) {
+      if (methodParam instanceof PropModel && methodParam.getName().equals(prop.getName())) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
   @Nullable
   private static ShouldUpdate getShouldUpdateAnnotation(MountSpecModel specModel) {
     for (SpecMethodModel<DelegateMethod, Void> delegateMethodModel : specModel.getDelegateMethods()) {
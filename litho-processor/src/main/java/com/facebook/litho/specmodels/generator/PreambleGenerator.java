@@ -11,10 +11,14 @@ package com.facebook.litho.specmodels.generator;
 
 import static com.facebook.litho.specmodels.generator.ComponentBodyGenerator.getStateContainerClassName;
 import static com.facebook.litho.specmodels.generator.GeneratorConstants.STATE_CONTAINER_FIELD_NAME;
+import static com.facebook.litho.specmodels.generator.GeneratorConstants.TYPE_ID_FIELD_NAME;
 
+import com.facebook.litho.specmodels.model.ClassNames;
 import com.facebook.litho.specmodels.model.SpecModel;
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeName;
 import javax.lang.model.element.Modifier;
 
 /**
@@ -49,12 +53,23 @@ public class PreambleGenerator {
 
   /**
    * If the spec has injected dependencies, generate a DI constructor. Otherwise, generate a
-   * private constructor to enforce singleton-ity.
+   * private constructor to enforce singleton-ity. Components get the type id of their class from a
+   * static field, so that creating one doesn't need to look it up.
    */
   static TypeSpecDataHolder generateConstructor(SpecModel specModel) {
-    final MethodSpec.Builder constructorBuilder =
-        MethodSpec.constructorBuilder()
-            .addStatement("super()");
+    final TypeSpecDataHolder.Builder dataHolder = TypeSpecDataHolder.newBuilder();
+    final MethodSpec.Builder constructorBuilder = MethodSpec.constructorBuilder();
+
+    if (ClassNames.COMPONENT.equals(specModel.getComponentClass())) {
+      dataHolder.addField(
+          FieldSpec.builder(TypeName.INT, TYPE_ID_FIELD_NAME)
+              .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+              .initializer("newTypeId()")
+              .build());
+      constructorBuilder.addStatement("super($L)", TYPE_ID_FIELD_NAME);
+    } else {
+      constructorBuilder.addStatement("super()");
+    }
 
     if (specModel.hasInjectedDependencies()) {
       final MethodSpec diConstructor =
@@ -77,6 +92,6 @@ public class PreambleGenerator {
           STATE_CONTAINER_FIELD_NAME + " = new $T()", stateContainerClass);
     }
 
-    return TypeSpecDataHolder.newBuilder().addMethod(constructorBuilder.build()).build();
+    return dataHolder.addMethod(constructorBuilder.build()).build();
   }
 }
@@ -44,6 +44,7 @@ import com.facebook.litho.annotations.OnPopulateExtraAccessibilityNode;
 import com.facebook.litho.annotations.OnPrepare;
 import com.facebook.litho.annotations.OnUnbind;
 import com.facebook.litho.annotations.OnUnmount;
+import com.facebook.litho.annotations.OnUpdateProps;
 import com.facebook.litho.annotations.ShouldUpdate;
 import com.facebook.litho.specmodels.internal.ImmutableList;
 import com.squareup.javapoet.AnnotationSpec;
@@ -283,6 +284,23 @@ public final class DelegateMethodDescriptions {
                   FromBoundsDefined.class))
           .build();
 
+  public static final DelegateMethodDescription ON_UPDATE_PROPS =
+      DelegateMethodDescription.newBuilder()
+          .annotations(ImmutableList.of(AnnotationSpec.builder(Override.class).build()))
+          .accessType(Modifier.PROTECTED)
+          .returnType(TypeName.VOID)
+          .name("onUpdateProps")
+          .definedParameterTypes(
+              ImmutableList.<TypeName>of(ClassNames.COMPONENT_CONTEXT, ClassNames.OBJECT))
+          .optionalParameterTypes(ImmutableList.of(PROP, INTER_STAGE_OUTPUT))
+          .interStageInputAnnotations(
+              ImmutableList.of(
+                  FromPrepare.class,
+                  FromMeasure.class,
+                  FromMeasureBaseline.class,
+                  FromBoundsDefined.class))
+          .build();
+
   public static final DelegateMethodDescription SHOULD_UPDATE =
       DelegateMethodDescription.newBuilder()
           .annotations(ImmutableList.of(AnnotationSpec.builder(Override.class).build()))
@@ -428,6 +446,7 @@ public final class DelegateMethodDescriptions {
     mountSpecDelegateMethodsMap.put(OnBind.class, ON_BIND);
     mountSpecDelegateMethodsMap.put(OnUnbind.class, ON_UNBIND);
     mountSpecDelegateMethodsMap.put(OnUnmount.class, ON_UNMOUNT);
+    mountSpecDelegateMethodsMap.put(OnUpdateProps.class, ON_UPDATE_PROPS);
     mountSpecDelegateMethodsMap.put(ShouldUpdate.class, SHOULD_UPDATE);
     mountSpecDelegateMethodsMap.put(
         OnPopulateAccessibilityNode.class, ON_POPULATE_ACCESSIBILITY_NODE);
@@ -19,6 +19,7 @@ import com.facebook.litho.annotations.OnCreateMountContent;
 import com.facebook.litho.annotations.OnMount;
 import com.facebook.litho.annotations.OnUnbind;
 import com.facebook.litho.annotations.OnUnmount;
+import com.facebook.litho.annotations.OnUpdateProps;
 import com.facebook.litho.annotations.Param;
 import com.facebook.litho.annotations.TreeProp;
 import com.facebook.litho.specmodels.internal.ImmutableList;
@@ -63,6 +64,57 @@ public class DelegateMethodValidation {
                   "is what you want."));
     }
 
+    if (specModel.isStatic()) {
+      validationErrors.addAll(validateStaticLayoutSpecModel(specModel, onCreateLayoutModel));
+    }
+
+    return validationErrors;
+  }
+
+  /**
+   * A static LayoutSpec has its layout created once and shared by all its instances, so nothing
+   * that could make two instances lay out differently is allowed.
+   */
+  private static List<SpecModelValidationError> validateStaticLayoutSpecModel(
+      LayoutSpecModel specModel,
+      @Nullable SpecMethodModel<DelegateMethod, Void> onCreateLayoutModel) {
+    final List<SpecModelValidationError> validationErrors = new ArrayList<>();
+
+    if (onCreateLayoutModel == null) {
+      validationErrors.add(
+          new SpecModelValidationError(
+              specModel.getRepresentedObject(),
+              "A static LayoutSpec must create its layout with @OnCreateLayout, as its layout "
+                  + "can't depend on the size it is measured with."));
+    } else if (onCreateLayoutModel.methodParams.size() != 1) {
+      validationErrors.add(
+          new SpecModelValidationError(
+              onCreateLayoutModel.representedObject,
+              "The @OnCreateLayout method of a static LayoutSpec can only take a "
+                  + "ComponentContext, as its layout is created once for every instance."));
+    }
+
+    if (!specModel.getProps().isEmpty()
+        || !specModel.getStateValues().isEmpty()
+        || !specModel.getTreeProps().isEmpty()) {
+      validationErrors.add(
+          new SpecModelValidationError(
+              specModel.getRepresentedObject(),
+              "A static LayoutSpec can't declare props, state or tree props, as its layout is "
+                  + "created once for every instance."));
+    }
+
+    if (!specModel.getEventMethods().isEmpty()
+        || !specModel.getTriggerMethods().isEmpty()
+        || !specModel.getUpdateStateMethods().isEmpty()) {
+      validationErrors.add(
+          new SpecModelValidationError(
+              specModel.getRepresentedObject(),
+              "A static LayoutSpec can't declare @OnEvent, @OnTrigger or @OnUpdateState methods, "
+                  + "as the handlers in its layout would only refer to the instance that created "
+                  + "it."));
+    }
+
     return validationErrors;
   }
 
@@ -81,7 +133,12 @@ public class DelegateMethodValidation {
     } else {
       final TypeName mountType = onCreateMountContentModel.returnType;
       ImmutableList<Class<? extends Annotation>> methodsAcceptingMountTypeAsSecondParam =
-          ImmutableList.of(OnMount.class, OnBind.class, OnUnbind.class, OnUnmount.class);
+          ImmutableList.of(
+              OnMount.class,
+              OnBind.class,
+              OnUnbind.class,
+              OnUnmount.class,
+              OnUpdateProps.class);
       for (Class<? extends Annotation> annotation : methodsAcceptingMountTypeAsSecondParam) {
         final SpecMethodModel<DelegateMethod, Void> method =
             SpecModelUtils.getMethodModelWithAnnotation(specModel, annotation);
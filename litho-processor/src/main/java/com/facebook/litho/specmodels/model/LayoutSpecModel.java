@@ -23,6 +23,7 @@ import java.util.List;
 public class LayoutSpecModel implements SpecModel, HasPureRender {
   private final SpecModelImpl mSpecModel;
   private final boolean mIsPureRender;
+  private final boolean mIsStatic;
   private final LayoutSpecGenerator mLayoutSpecGenerator;
 
   public LayoutSpecModel(
@@ -41,6 +42,7 @@ public class LayoutSpecModel implements SpecModel, HasPureRender {
       boolean isPublic,
       DependencyInjectionHelper dependencyInjectionHelper,
       boolean isPureRender,
+      boolean isStatic,
       SpecElementType specElementType,
       Object representedObject,
       LayoutSpecGenerator layoutSpecGenerator,
@@ -67,6 +69,7 @@ public class LayoutSpecModel implements SpecModel, HasPureRender {
             .representedObject(representedObject)
             .build();
     mIsPureRender = isPureRender;
+    mIsStatic = isStatic;
     mLayoutSpecGenerator = layoutSpecGenerator;
   }
 
@@ -260,6 +263,11 @@ public class LayoutSpecModel implements SpecModel, HasPureRender {
     return mIsPureRender;
   }
 
+  /** @return whether the layout of the component is created once and shared by its instances. */
+  public boolean isStatic() {
+    return mIsStatic;
+  }
+
   @Override
   public String toString() {
     return "LayoutSpecModel{"
@@ -267,6 +275,8 @@ public class LayoutSpecModel implements SpecModel, HasPureRender {
         + mSpecModel
         + ", mIsPureRender="
         + mIsPureRender
+        + ", mIsStatic="
+        + mIsStatic
         + ", mLayoutSpecGenerator="
         + mLayoutSpecGenerator
         + '}';
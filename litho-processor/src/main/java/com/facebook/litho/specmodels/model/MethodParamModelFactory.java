@@ -54,7 +54,8 @@ public final class MethodParamModelFactory {
                 simpleMethodParamModel,
                 ((Prop) annotation).optional(),
                 ((Prop) annotation).resType(),
-                ((Prop) annotation).varArg());
+                ((Prop) annotation).varArg(),
+                ((Prop) annotation).excludeFromFingerprint());
 
         if (isDiffType(typeName)) {
           return new DiffPropModel(propModel);
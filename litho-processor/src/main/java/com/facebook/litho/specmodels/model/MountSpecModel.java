@@ -310,6 +310,7 @@ public class MountSpecModel implements SpecModel, HasPureRender {
         .addTypeSpecDataHolder(MountSpecGenerator.generateShouldUseDisplayList(this))
         .addTypeSpecDataHolder(MountSpecGenerator.generateIsMountSizeDependent(this))
         .addTypeSpecDataHolder(MountSpecGenerator.generateCallsShouldUpdateOnMount(this))
+        .addTypeSpecDataHolder(MountSpecGenerator.generateUpdateProps(this))
         .addTypeSpecDataHolder(PureRenderGenerator.generate(this))
         .addTypeSpecDataHolder(EventGenerator.generate(this))
         .addTypeSpecDataHolder(TriggerGenerator.generate(this))
@@ -26,13 +26,24 @@ public class PropModel implements MethodParamModel {
   private final boolean mIsOptional;
   private final ResType mResType;
   private final String mVarArgSingleArgName;
+  private final boolean mIsExcludedFromFingerprint;
 
   public PropModel(
       MethodParamModel paramModel, boolean isOptional, ResType resType, String varArg) {
+    this(paramModel, isOptional, resType, varArg, false);
+  }
+
+  public PropModel(
+      MethodParamModel paramModel,
+      boolean isOptional,
+      ResType resType,
+      String varArg,
+      boolean isExcludedFromFingerprint) {
     mParamModel = paramModel;
     mIsOptional = isOptional;
     mResType = resType;
     mVarArgSingleArgName = varArg;
+    mIsExcludedFromFingerprint = isExcludedFromFingerprint;
   }
 
   @Override
@@ -76,6 +87,10 @@ public class PropModel implements MethodParamModel {
     return mVarArgSingleArgName;
   }
 
+  public boolean isExcludedFromFingerprint() {
+    return mIsExcludedFromFingerprint;
+  }
+
   /**
    * @return true if this prop has a default specified in the given set of defaults, false
    * otherwise.
@@ -93,7 +108,8 @@ public class PropModel implements MethodParamModel {
 
   /** @return a new {@link PropModel} instance with the given name overridden. */
   public PropModel withName(String name) {
-    return new PropModel(mParamModel, mIsOptional, mResType, mVarArgSingleArgName) {
+    return new PropModel(
+        mParamModel, mIsOptional, mResType, mVarArgSingleArgName, mIsExcludedFromFingerprint) {
       @Override
       public String getName() {
         return name;
@@ -108,7 +124,8 @@ public class PropModel implements MethodParamModel {
       return mParamModel.equals(p.mParamModel)
           && mIsOptional == p.mIsOptional
           && mResType == p.mResType
-          && mVarArgSingleArgName.equals(p.getVarArgsSingleName());
+          && mVarArgSingleArgName.equals(p.getVarArgsSingleName())
+          && mIsExcludedFromFingerprint == p.mIsExcludedFromFingerprint;
     }
 
     return false;
@@ -120,6 +137,7 @@ public class PropModel implements MethodParamModel {
     result = 17 * result + (mIsOptional ? 1 : 0);
     result = mResType == null ? result : 31 * result + mResType.hashCode();
     result = 43 * result + mVarArgSingleArgName.hashCode();
+    result = 17 * result + (mIsExcludedFromFingerprint ? 1 : 0);
     return result;
   }
 }
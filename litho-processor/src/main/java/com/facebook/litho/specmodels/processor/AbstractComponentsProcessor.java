@@ -15,6 +15,7 @@ import static com.facebook.litho.specmodels.processor.ProcessorUtils.validate;
 import com.facebook.litho.specmodels.model.DependencyInjectionHelperFactory;
 import com.facebook.litho.specmodels.model.SpecModel;
 import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.TypeSpec;
 import java.io.IOException;
 import java.util.List;
 import java.util.Set;
@@ -69,7 +70,7 @@ public abstract class AbstractComponentsProcessor extends AbstractProcessor {
                   mDependencyInjectionHelperFactory == null
                       ? null
                       : mDependencyInjectionHelperFactory.create((TypeElement) element),
-                  mInterStageStore);
+                  shouldLoadPropNamesFromClassPath() ? mInterStageStore : null);
 
           validate(specModel);
           generate(specModel);
@@ -94,9 +95,34 @@ public abstract class AbstractComponentsProcessor extends AbstractProcessor {
     return false;
   }
 
+  /**
+   * @return whether prop names saved by other builds are read from the class path. Only processors
+   *     that build models of specs compiled in another module need them, as specs compiled from
+   *     source always have their parameter names. Reading them makes the output depend on more
+   *     than the originating spec, so these processors must be declared as aggregating for
+   *     incremental builds.
+   */
+  protected boolean shouldLoadPropNamesFromClassPath() {
+    return false;
+  }
+
+  /**
+   * Writes the component generated from specModel. The spec element is recorded as the only
+   * originating element of the generated file, so that incremental builds only regenerate the
+   * component when its spec changes.
+   */
   protected void generate(SpecModel specModel) throws IOException {
     final String packageName = getPackageName(specModel.getComponentTypeName());
-    JavaFile.builder(packageName, specModel.generate())
+    TypeSpec typeSpec = specModel.generate();
+    if (specModel.getRepresentedObject() instanceof Element) {
+      typeSpec =
+          typeSpec
+              .toBuilder()
+              .addOriginatingElement((Element) specModel.getRepresentedObject())
+              .build();
+    }
+
+    JavaFile.builder(packageName, typeSpec)
         .skipJavaLangImports(true)
         .build()
         .writeTo(processingEnv.getFiler());
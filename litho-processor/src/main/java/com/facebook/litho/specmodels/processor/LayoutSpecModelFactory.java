@@ -94,6 +94,7 @@ public class LayoutSpecModelFactory implements SpecModelFactory {
         element.getAnnotation(LayoutSpec.class).isPublic(),
         dependencyInjectionHelper,
         element.getAnnotation(LayoutSpec.class).isPureRender(),
+        element.getAnnotation(LayoutSpec.class).isStatic(),
         SpecElementTypeDeterminator.determine(element),
         element,
         mLayoutSpecGenerator,
@@ -23,6 +23,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import javax.annotation.processing.Filer;
+import javax.lang.model.element.Element;
 import javax.lang.model.element.Name;
 import javax.tools.FileObject;
 import javax.tools.JavaFileManager;
@@ -81,9 +82,17 @@ public class PropNameInterStageStore {
       return;
     }
 
+    // The names only depend on the spec, which keeps the processor isolating.
+    final Element[] originatingElements =
+        specModel.getRepresentedObject() instanceof Element
+            ? new Element[] {(Element) specModel.getRepresentedObject()}
+            : new Element[0];
     final FileObject outputFile =
         mFiler.createResource(
-            StandardLocation.CLASS_OUTPUT, "", BASE_PATH + specModel.getSpecTypeName() + FILE_EXT);
+            StandardLocation.CLASS_OUTPUT,
+            "",
+            BASE_PATH + specModel.getSpecTypeName() + FILE_EXT,
+            originatingElements);
 
     try (Writer writer =
         new BufferedWriter(new OutputStreamWriter(outputFile.openOutputStream()))) {
@@ -25,6 +25,12 @@ public class ComponentsTestingProcessor extends AbstractComponentsProcessor {
     super(ImmutableList.of(new TestSpecModelFactory()), null);
   }
 
+  /** The tested spec usually comes from another module, which only saved its prop names. */
+  @Override
+  protected boolean shouldLoadPropNamesFromClassPath() {
+    return true;
+  }
+
   @Override
   public Set<String> getSupportedAnnotationTypes() {
     return new LinkedHashSet<>(Collections.singletonList(ClassNames.TEST_SPEC.toString()));
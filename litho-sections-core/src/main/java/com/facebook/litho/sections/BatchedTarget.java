@@ -33,6 +33,7 @@ class BatchedTarget implements SectionTree.Target {
   private final SparseArray<RenderInfo> mComponentInfoSparseArray = new SparseArray<>();
   private final SectionsDebugLogger mSectionsDebugLogger;
   private final String mSectionTreeTag;
+  private final boolean mIsLoggingEnabled;
 
   private int mLastEventType = TYPE_NONE;
   private int mLastEventPosition = -1;
@@ -42,6 +43,7 @@ class BatchedTarget implements SectionTree.Target {
     mTarget = target;
     mSectionsDebugLogger = sectionsDebugLogger;
     mSectionTreeTag = tag;
+    mIsLoggingEnabled = ENABLE_LOGGER && Logger.isEnabled(sectionsDebugLogger);
   }
 
   @Override
@@ -67,7 +69,7 @@ class BatchedTarget implements SectionTree.Target {
       int index, int count, List<RenderInfo> renderInfos) {
     dispatchLastEvent();
     mTarget.insertRange(index, count, renderInfos);
-    if (ENABLE_LOGGER) {
+    if (mIsLoggingEnabled) {
       logInsertIterative(index, renderInfos);
     }
   }
@@ -96,7 +98,7 @@ class BatchedTarget implements SectionTree.Target {
       int index, int count, List<RenderInfo> renderInfos) {
     dispatchLastEvent();
     mTarget.updateRange(index, count, renderInfos);
-    if (ENABLE_LOGGER) {
+    if (mIsLoggingEnabled) {
       logUpdateIterative(index, renderInfos);
     }
   }
@@ -126,7 +128,7 @@ class BatchedTarget implements SectionTree.Target {
   public void move(int fromPosition, int toPosition) {
     dispatchLastEvent();
     mTarget.move(fromPosition, toPosition);
-    if (ENABLE_LOGGER) {
+    if (mIsLoggingEnabled) {
       mSectionsDebugLogger.logMove(
           mSectionTreeTag, fromPosition, toPosition, Thread.currentThread().getName());
     }
@@ -135,7 +137,7 @@ class BatchedTarget implements SectionTree.Target {
   @Override
   public void requestFocus(int index) {
     mTarget.requestFocus(index);
-    if (ENABLE_LOGGER && mComponentInfoSparseArray.size() != 0) {
+    if (mIsLoggingEnabled && mComponentInfoSparseArray.size() != 0) {
       mSectionsDebugLogger.logRequestFocus(
           mSectionTreeTag,
           index,
@@ -147,7 +149,7 @@ class BatchedTarget implements SectionTree.Target {
   @Override
   public void requestFocusWithOffset(int index, int offset) {
     mTarget.requestFocusWithOffset(index, offset);
-    if (ENABLE_LOGGER && mComponentInfoSparseArray.size() != 0) {
+    if (mIsLoggingEnabled && mComponentInfoSparseArray.size() != 0) {
       mSectionsDebugLogger.logRequestFocusWithOffset(
           mSectionTreeTag,
           index,
@@ -157,6 +159,61 @@ class BatchedTarget implements SectionTree.Target {
     }
   }
 
+  /*package-private*/ boolean canPrepareChangeSet() {
+    return mTarget instanceof SectionTree.ChangeSetTarget;
+  }
+
+  /*package-private*/ void prepareChangeSet(ChangeSet changeSet) {
+    ((SectionTree.ChangeSetTarget) mTarget).prepareChangeSet(changeSet);
+  }
+
+  /*package-private*/ void discardPreparedChangeSets() {
+    ((SectionTree.ChangeSetTarget) mTarget).discardPreparedChangeSets();
+  }
+
+  /**
+   * Applies all the {@link Change}s in changeSet. If the wrapped {@link SectionTree.Target} is a
+   * {@link SectionTree.ChangeSetTarget} the whole {@link ChangeSet} is handed over at once,
+   * otherwise the changes are batched and dispatched one by one.
+   */
+  /*package-private*/ void applyChangeSet(ChangeSet changeSet) {
+    if (mTarget instanceof SectionTree.ChangeSetTarget) {
+      dispatchLastEvent();
+      ((SectionTree.ChangeSetTarget) mTarget).applyChangeSet(changeSet);
+      if (mIsLoggingEnabled) {
+        logChangeSet(changeSet);
+      }
+      return;
+    }
+
+    for (int i = 0, size = changeSet.getChangeCount(); i < size; i++) {
+      final Change change = changeSet.getChangeAt(i);
+      switch (change.getType()) {
+        case Change.INSERT:
+          insert(change.getIndex(), change.getRenderInfo());
+          break;
+        case Change.INSERT_RANGE:
+          insertRange(change.getIndex(), change.getCount(), change.getRenderInfos());
+          break;
+        case Change.UPDATE:
+          update(change.getIndex(), change.getRenderInfo());
+          break;
+        case Change.UPDATE_RANGE:
+          updateRange(change.getIndex(), change.getCount(), change.getRenderInfos());
+          break;
+        case Change.DELETE:
+          delete(change.getIndex());
+          break;
+        case Change.DELETE_RANGE:
+          deleteRange(change.getIndex(), change.getCount());
+          break;
+        case Change.MOVE:
+          move(change.getIndex(), change.getToIndex());
+      }
+    }
+    dispatchLastEvent();
+  }
+
   /*package-private*/ void dispatchLastEvent() {
     if (mLastEventType == TYPE_NONE) {
       return;
@@ -167,12 +224,12 @@ class BatchedTarget implements SectionTree.Target {
             collectComponentInfos(mLastEventPosition, mLastEventCount, mComponentInfoSparseArray);
         if (mLastEventCount > 1) {
           mTarget.insertRange(mLastEventPosition, mLastEventCount, renderInfosInsert);
-          if (ENABLE_LOGGER) {
+          if (mIsLoggingEnabled) {
             logInsertIterative(mLastEventPosition, renderInfosInsert);
           }
         } else {
           mTarget.insert(mLastEventPosition, mComponentInfoSparseArray.get(mLastEventPosition));
-          if (ENABLE_LOGGER) {
+          if (mIsLoggingEnabled) {
             mSectionsDebugLogger.logInsert(
                 mSectionTreeTag,
                 mLastEventPosition,
@@ -184,12 +241,12 @@ class BatchedTarget implements SectionTree.Target {
       case Change.DELETE:
         if (mLastEventCount > 1) {
           mTarget.deleteRange(mLastEventPosition, mLastEventCount);
-          if (ENABLE_LOGGER) {
+          if (mIsLoggingEnabled) {
             logDeleteIterative(mLastEventPosition, mLastEventCount);
           }
         } else {
           mTarget.delete(mLastEventPosition);
-          if (ENABLE_LOGGER) {
+          if (mIsLoggingEnabled) {
             mSectionsDebugLogger.logDelete(
                 mSectionTreeTag, mLastEventPosition, Thread.currentThread().getName());
           }
@@ -200,12 +257,12 @@ class BatchedTarget implements SectionTree.Target {
             collectComponentInfos(mLastEventPosition, mLastEventCount, mComponentInfoSparseArray);
         if (mLastEventCount > 1) {
           mTarget.updateRange(mLastEventPosition, mLastEventCount, renderInfosUpdate);
-          if (ENABLE_LOGGER) {
+          if (mIsLoggingEnabled) {
             logUpdateIterative(mLastEventPosition, renderInfosUpdate);
           }
         } else {
           mTarget.update(mLastEventPosition, mComponentInfoSparseArray.get(mLastEventPosition));
-          if (ENABLE_LOGGER) {
+          if (mIsLoggingEnabled) {
             mSectionsDebugLogger.logUpdate(
                 mSectionTreeTag,
                 mLastEventPosition,
@@ -240,6 +297,47 @@ class BatchedTarget implements SectionTree.Target {
     return renderInfos;
   }
 
+  private void logChangeSet(ChangeSet changeSet) {
+    for (int i = 0, size = changeSet.getChangeCount(); i < size; i++) {
+      final Change change = changeSet.getChangeAt(i);
+      switch (change.getType()) {
+        case Change.INSERT:
+          mSectionsDebugLogger.logInsert(
+              mSectionTreeTag,
+              change.getIndex(),
+              change.getRenderInfo(),
+              Thread.currentThread().getName());
+          break;
+        case Change.INSERT_RANGE:
+          logInsertIterative(change.getIndex(), change.getRenderInfos());
+          break;
+        case Change.UPDATE:
+          mSectionsDebugLogger.logUpdate(
+              mSectionTreeTag,
+              change.getIndex(),
+              change.getRenderInfo(),
+              Thread.currentThread().getName());
+          break;
+        case Change.UPDATE_RANGE:
+          logUpdateIterative(change.getIndex(), change.getRenderInfos());
+          break;
+        case Change.DELETE:
+          mSectionsDebugLogger.logDelete(
+              mSectionTreeTag, change.getIndex(), Thread.currentThread().getName());
+          break;
+        case Change.DELETE_RANGE:
+          logDeleteIterative(change.getIndex(), change.getCount());
+          break;
+        case Change.MOVE:
+          mSectionsDebugLogger.logMove(
+              mSectionTreeTag,
+              change.getIndex(),
+              change.getToIndex(),
+              Thread.currentThread().getName());
+      }
+    }
+  }
+
   private void logInsertIterative(int index, List<RenderInfo> renderInfos) {
     for (int i = 0; i < renderInfos.size(); i++) {
       mSectionsDebugLogger.logInsert(
@@ -171,14 +171,14 @@ public final class Change {
   /**
    * @return the index at which this change will be applied.
    */
-  int getIndex() {
+  public int getIndex() {
     return mIndex;
   }
 
   /**
    * @return the index to which this change will move its item. This is only valid if type is MOVE.
    */
-  int getToIndex() {
+  public int getToIndex() {
     return mToIndex;
   }
 
@@ -198,7 +198,11 @@ public final class Change {
     return mRenderInfo;
   }
 
-  List<RenderInfo> getRenderInfos() {
+  /**
+   * @return the Components that will render this Change (if this Change is either an INSERT_RANGE
+   *     or an UPDATE_RANGE).
+   */
+  public List<RenderInfo> getRenderInfos() {
     return mRenderInfos;
   }
 
@@ -15,7 +15,9 @@ import static com.facebook.litho.sections.Section.releaseChildrenMap;
 import android.support.annotation.Nullable;
 import android.support.v4.util.Pair;
 import android.util.SparseArray;
+import com.facebook.litho.sections.config.SectionsConfiguration;
 import com.facebook.litho.sections.logger.SectionsDebugLogger;
+import com.facebook.litho.sections.logger.SectionsDiffTimingCollector;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -54,27 +56,92 @@ public class ChangeSetState {
     ChangeSetState changeSetState = acquireChangeSetState();
     changeSetState.mCurrentRoot = currentRoot;
     changeSetState.mNewRoot = newRoot;
+
+    // Only pay for the prefixes and the thread name if somebody is going to read them.
+    final boolean isLoggingEnabled = Logger.isEnabled(sectionsDebugLogger);
+    final SectionsDiffTimingCollector timingCollector =
+        SectionsConfiguration.diffTimingCollector != null
+                && SectionsConfiguration.diffTimingCollector.shouldCollect(sectionTreeTag)
+            ? SectionsConfiguration.diffTimingCollector
+            : null;
+
     changeSetState.mChangeSet =
         generateChangeSetRecursive(
             sectionContext,
             currentRoot,
             newRoot,
             changeSetState.mRemovedComponents,
-            sectionsDebugLogger,
+            isLoggingEnabled ? sectionsDebugLogger : null,
+            timingCollector,
             sectionTreeTag,
             currentPrefix,
             nextPrefix,
-            Thread.currentThread().getName());
+            isLoggingEnabled ? Thread.currentThread().getName() : null);
 
     return changeSetState;
   }
 
+  /**
+   * @param sectionsDebugLogger the logger to notify, or null if logging is disabled for this
+   *     ChangeSet.
+   * @param timingCollector the collector that receives the diff time of each {@link Section}, or
+   *     null if timings are not collected for this ChangeSet.
+   */
   private static ChangeSet generateChangeSetRecursive(
       SectionContext sectionContext,
       Section currentRoot,
       Section newRoot,
       List<Section> removedComponents,
-      SectionsDebugLogger sectionsDebugLogger,
+      @Nullable SectionsDebugLogger sectionsDebugLogger,
+      @Nullable SectionsDiffTimingCollector timingCollector,
+      String sectionTreeTag,
+      String currentPrefix,
+      String newPrefix,
+      String thread) {
+    if (timingCollector == null) {
+      return generateChangeSetRecursiveInternal(
+          sectionContext,
+          currentRoot,
+          newRoot,
+          removedComponents,
+          sectionsDebugLogger,
+          null,
+          sectionTreeTag,
+          currentPrefix,
+          newPrefix,
+          thread);
+    }
+
+    final long startTimeNs = System.nanoTime();
+    final ChangeSet changeSet =
+        generateChangeSetRecursiveInternal(
+            sectionContext,
+            currentRoot,
+            newRoot,
+            removedComponents,
+            sectionsDebugLogger,
+            timingCollector,
+            sectionTreeTag,
+            currentPrefix,
+            newPrefix,
+            thread);
+    final Section section = newRoot != null ? newRoot : currentRoot;
+    timingCollector.onSectionDiffed(
+        sectionTreeTag,
+        section.getSimpleName(),
+        section.getGlobalKey(),
+        System.nanoTime() - startTimeNs);
+
+    return changeSet;
+  }
+
+  private static ChangeSet generateChangeSetRecursiveInternal(
+      SectionContext sectionContext,
+      Section currentRoot,
+      Section newRoot,
+      List<Section> removedComponents,
+      @Nullable SectionsDebugLogger sectionsDebugLogger,
+      @Nullable SectionsDiffTimingCollector timingCollector,
       String sectionTreeTag,
       String currentPrefix,
       String newPrefix,
@@ -102,26 +169,32 @@ public class ChangeSetState {
     }
 
     final SectionLifecycle lifecycle = newRoot;
-    final String updateCurrentPrefix = updatePrefix(currentRoot, currentPrefix);
-    final String updateNewPrefix = updatePrefix(newRoot, newPrefix);
+    final String updateCurrentPrefix =
+        sectionsDebugLogger != null ? updatePrefix(currentRoot, currentPrefix) : null;
+    final String updateNewPrefix =
+        sectionsDebugLogger != null ? updatePrefix(newRoot, newPrefix) : null;
 
     // Components both exist and don't need to update.
     if (!currentRootIsNull && !lifecycle.shouldComponentUpdate(currentRoot, newRoot)) {
       final ChangeSet changeSet = ChangeSet.acquireChangeSet(currentRoot.getCount());
       newRoot.setCount(changeSet.getCount());
-      sectionsDebugLogger.logShouldUpdate(
-          sectionTreeTag,
-          currentRoot,
-          newRoot,
-          updateCurrentPrefix,
-          updateNewPrefix,
-          false,
-          thread);
+      if (sectionsDebugLogger != null) {
+        sectionsDebugLogger.logShouldUpdate(
+            sectionTreeTag,
+            currentRoot,
+            newRoot,
+            updateCurrentPrefix,
+            updateNewPrefix,
+            false,
+            thread);
+      }
       return changeSet;
     }
 
-    sectionsDebugLogger.logShouldUpdate(
-        sectionTreeTag, currentRoot, newRoot, updateCurrentPrefix, updateNewPrefix, true, thread);
+    if (sectionsDebugLogger != null) {
+      sectionsDebugLogger.logShouldUpdate(
+          sectionTreeTag, currentRoot, newRoot, updateCurrentPrefix, updateNewPrefix, true, thread);
+    }
 
     // Component(s) can generate changeSets and will generate the changeset.
     // Add the startCount to the changeSet.
@@ -198,6 +271,7 @@ public class ChangeSetState {
             newChildrenList,
             removedComponents,
             sectionsDebugLogger,
+            timingCollector,
             sectionTreeTag,
             updateCurrentPrefix,
             updateNewPrefix,
@@ -235,7 +309,8 @@ public class ChangeSetState {
       List<Section> currentChildrenList,
       List<Section> newChildrenList,
       List<Section> removedComponents,
-      SectionsDebugLogger sectionsDebugLogger,
+      @Nullable SectionsDebugLogger sectionsDebugLogger,
+      @Nullable SectionsDiffTimingCollector timingCollector,
       String sectionTreeTag,
       String currentPrefix,
       String newPrefix,
@@ -256,6 +331,7 @@ public class ChangeSetState {
                 null,
                 removedComponents,
                 sectionsDebugLogger,
+                timingCollector,
                 sectionTreeTag,
                 currentPrefix,
                 newPrefix,
@@ -279,6 +355,7 @@ public class ChangeSetState {
                 newChild,
                 removedComponents,
                 sectionsDebugLogger,
+                timingCollector,
                 sectionTreeTag,
                 currentPrefix,
                 newPrefix,
@@ -302,6 +379,7 @@ public class ChangeSetState {
                 newChild,
                 removedComponents,
                 sectionsDebugLogger,
+                timingCollector,
                 sectionTreeTag,
                 currentPrefix,
                 newPrefix,
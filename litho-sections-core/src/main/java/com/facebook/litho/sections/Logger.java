@@ -30,6 +30,18 @@ public class Logger implements SectionsDebugLogger {
     }
   }
 
+  /**
+   * @return false if sectionsDebugLogger is a {@link Logger} with no loggers attached, in which
+   *     case callers can skip computing the arguments of the log calls.
+   */
+  static boolean isEnabled(SectionsDebugLogger sectionsDebugLogger) {
+    if (sectionsDebugLogger instanceof Logger) {
+      return !((Logger) sectionsDebugLogger).mSectionsDebugLoggers.isEmpty();
+    }
+
+    return sectionsDebugLogger != null;
+  }
+
   public void logInsert(String tag, int index, RenderInfo renderInfo, String thread) {
     for (SectionsDebugLogger sectionsDebugLogger : mSectionsDebugLoggers) {
       sectionsDebugLogger.logInsert(tag, index, renderInfo, thread);
@@ -39,6 +39,7 @@ public abstract class Section extends SectionLifecycle
 
   private Section mParent;
   private boolean mInvalidated;
+  private boolean mHasReusedChildren;
   private SectionContext mScopedContext;
   EventHandler<LoadingEvent> loadingEventHandler;
 
@@ -232,6 +233,7 @@ public abstract class Section extends SectionLifecycle
         }
         clone.mCount = 0;
         clone.setInvalidated(false);
+        clone.mHasReusedChildren = false;
       }
 
       return clone;
@@ -262,6 +264,38 @@ public abstract class Section extends SectionLifecycle
     mChildren = children == null ? new ArrayList<Section>() : children.getChildren();
   }
 
+  /**
+   * Carries over the children of the {@link Section} with the same global key in the previous tree.
+   * This is used when the subtree having its root in this {@link Section} doesn't need to be
+   * re-created. The children keep their parent in the previous tree until {@link
+   * #adoptReusedChildren()} is called, since the new tree may still be discarded.
+   */
+  void reuseChildren(Section previous) {
+    mChildren = previous.mChildren;
+    mHasReusedChildren = true;
+  }
+
+  /**
+   * Makes the {@link Section}s of the subtree having its root in this {@link Section} the parents
+   * of the children they carried over from the previous tree. Called once this tree is committed.
+   */
+  void adoptReusedChildren() {
+    if (mChildren == null) {
+      return;
+    }
+
+    final boolean hasReusedChildren = mHasReusedChildren;
+    mHasReusedChildren = false;
+    for (int i = 0, size = mChildren.size(); i < size; i++) {
+      final Section child = mChildren.get(i);
+      if (hasReusedChildren) {
+        child.setParent(this);
+      } else {
+        child.adoptReusedChildren();
+      }
+    }
+  }
+
   /**
    * Mostly used by logging to provide more readable messages.
    */
@@ -18,6 +18,7 @@ import android.os.HandlerThread;
 import android.os.Looper;
 import android.os.Message;
 import android.os.Process;
+import android.os.SystemClock;
 import android.support.v4.util.Pair;
 import android.text.TextUtils;
 import com.facebook.litho.Component;
@@ -29,11 +30,14 @@ import com.facebook.litho.sections.logger.SectionsDebugLogger;
 import com.facebook.litho.widget.RenderInfo;
 import com.facebook.litho.widget.ViewportInfo;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.GuardedBy;
 
@@ -105,6 +109,33 @@ public class SectionTree {
     void requestFocusWithOffset(int index, int offset);
   }
 
+  /**
+   * A {@link Target} that can apply all the {@link Change}s of a {@link ChangeSet} in a single
+   * transaction instead of receiving one call per {@link Change}.
+   */
+  public interface ChangeSetTarget extends Target {
+
+    /**
+     * Called on the thread that calculated changeSet, before it is applied on the main thread.
+     * This is the place to do any expensive work the changes need (e.g. creating and laying out
+     * new items) so that {@link #applyChangeSet(ChangeSet)} only has to publish the result.
+     */
+    void prepareChangeSet(ChangeSet changeSet);
+
+    /**
+     * Called when the {@link ChangeSet}s passed to {@link #prepareChangeSet(ChangeSet)} that were
+     * not applied yet won't be, or will be applied without waiting for their preparation, so that
+     * what was prepared for them can be released. This can be called while a preparation is still
+     * running.
+     */
+    void discardPreparedChangeSets();
+
+    /**
+     * Notify that all the {@link Change}s in changeSet need to be applied, in order.
+     */
+    void applyChangeSet(ChangeSet changeSet);
+  }
+
   private static final int MESSAGE_WHAT_BACKGROUND_CHANGESET_STATE_UPDATED = 1;
   private static final Handler sMainThreadHandler = new SectionsMainThreadHandler();
 
@@ -116,10 +147,21 @@ public class SectionTree {
   private final boolean mAsyncStateUpdates;
   private final boolean mAsyncPropUpdates;
   private final String mTag;
+  private final long mChangeSetCoalescingWindowMs;
+  private final boolean mPrepareChangeSetsInBackground;
   private final Map<String, Range> mLastRanges = new HashMap<>();
+  // Global keys of the sections that had at least one visible item in the last viewport update.
+  private final Set<String> mVisibleSectionKeys =
+      Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
   // Holds a Pair where the first item is a section's global starting index
   // and the second is the count.
   private Map<String, Pair<Integer, Integer>> mSectionPositionInfo;
+  // The start offsets of the children of each section in mChildrenOffsetsRoot, followed by the
+  // section's count. Once a viewport update reached every section of that tree, the following
+  // ones only visit the children intersecting the old or the new visible range.
+  private final Map<Section, int[]> mChildrenOffsets = new IdentityHashMap<>();
+  private @Nullable Section mChildrenOffsetsRoot;
+  private boolean mChildrenOffsetsDispatched;
   private LoadEventsHandler mLoadEventsHandler;
 
   private final CalculateChangeSetRunnable mCalculateChangeSetOnMainThreadRunnable;
@@ -132,15 +174,45 @@ public class SectionTree {
     @GuardedBy("this")
     private boolean mIsPosted;
 
+    @GuardedBy("this")
+    private long mScheduledUptimeMs;
+
     public CalculateChangeSetRunnable(Handler handler) {
       mHandler = handler;
     }
 
     public synchronized void ensurePosted() {
-      if (!mIsPosted) {
-        mIsPosted = true;
+      ensurePosted(0);
+    }
+
+    /**
+     * Makes sure this runnable will run within delayMs. If it is already posted to run earlier,
+     * the new request is coalesced with the pending one.
+     *
+     * @return true if the request was coalesced with an already posted calculation.
+     */
+    public synchronized boolean ensurePosted(long delayMs) {
+      final long uptimeMs = SystemClock.uptimeMillis() + delayMs;
+
+      if (mIsPosted) {
+        if (uptimeMs >= mScheduledUptimeMs) {
+          return true;
+        }
+
+        // The pending calculation was delayed longer than this request allows, run it sooner.
+        mHandler.removeCallbacks(this);
+      }
+
+      final boolean wasPosted = mIsPosted;
+      mIsPosted = true;
+      mScheduledUptimeMs = uptimeMs;
+      if (delayMs <= 0) {
         mHandler.post(this);
+      } else {
+        mHandler.postAtTime(this, uptimeMs);
       }
+
+      return wasPosted;
     }
 
     public synchronized void cancel() {
@@ -179,11 +251,26 @@ public class SectionTree {
   @GuardedBy("this")
   private List<ChangeSet> mPendingChangeSets;
 
+  // Pending ChangeSets that are still being prepared by the Target on a background thread. They,
+  // and anything committed after them, are only applied once the preparation is done, unless a
+  // ChangeSet calculated on the main thread has to be applied right away.
+  @GuardedBy("this")
+  private final List<ChangeSet> mPreparingChangeSets = new ArrayList<>();
+
   private boolean mHasNonLazyUpdate;
 
   @GuardedBy("this")
   private Map<String, List<EventHandler>> mEventHandlers = new HashMap<>();
 
+  @GuardedBy("this")
+  private int mCommittedChangeSetCalculations;
+
+  @GuardedBy("this")
+  private int mDiscardedChangeSetCalculations;
+
+  @GuardedBy("this")
+  private int mCoalescedChangeSetRequests;
+
   private synchronized void bindEventHandlers(Section section) {
     if (!mEventHandlers.containsKey(section.getGlobalKey())) {
       return;
@@ -216,6 +303,8 @@ public class SectionTree {
     mAsyncStateUpdates = builder.mAsyncStateUpdates;
     mAsyncPropUpdates = builder.mAsyngPropUpdates;
     mTag = builder.mTag;
+    mChangeSetCoalescingWindowMs = builder.mChangeSetCoalescingWindowMs;
+    mPrepareChangeSetsInBackground = builder.mPrepareChangeSetsInBackground;
     mTarget = new BatchedTarget(builder.mTarget, mSectionsDebugLogger, mTag);
     mContext = SectionContext.withSectionTree(builder.mContext, this);
     mPendingChangeSets = new ArrayList<>();
@@ -269,7 +358,7 @@ public class SectionTree {
     }
 
     if (mAsyncPropUpdates && !isFirstSetRoot) {
-      mCalculateChangeSetRunnable.ensurePosted();
+      scheduleChangeSetCalculation(false);
     } else {
       applyNewChangeSet();
     }
@@ -288,6 +377,7 @@ public class SectionTree {
       throw new IllegalStateException("Setting root on a released tree");
     }
 
+    final boolean isFirstSetRoot;
     synchronized (this) {
       if (mCurrentSection != null && mCurrentSection.getId() == section.getId()) {
         return;
@@ -298,9 +388,49 @@ public class SectionTree {
       }
 
       mNextSection = copy(section, false);
+      isFirstSetRoot = mCurrentSection == null;
     }
 
-    mCalculateChangeSetRunnable.ensurePosted();
+    // The first root fills an empty viewport so it's never held back by the coalescing window.
+    scheduleChangeSetCalculation(isFirstSetRoot);
+  }
+
+  /**
+   * Posts a ChangeSet calculation on the ChangeSet thread. Requests that don't affect the viewport
+   * are held for the coalescing window of this tree so that bursts of root and state updates are
+   * folded into a single calculation.
+   */
+  private void scheduleChangeSetCalculation(boolean affectsViewport) {
+    final long delayMs = affectsViewport ? 0 : mChangeSetCoalescingWindowMs;
+    if (mCalculateChangeSetRunnable.ensurePosted(delayMs)) {
+      synchronized (this) {
+        mCoalescedChangeSetRequests++;
+      }
+    }
+  }
+
+  /**
+   * @return the number of ChangeSet calculations that were committed and posted to the
+   *     {@link Target}.
+   */
+  public synchronized int getCommittedChangeSetCalculationsCount() {
+    return mCommittedChangeSetCalculations;
+  }
+
+  /**
+   * @return the number of ChangeSet calculations whose result was thrown away because the root or
+   *     the pending state updates changed while the calculation was running.
+   */
+  public synchronized int getDiscardedChangeSetCalculationsCount() {
+    return mDiscardedChangeSetCalculations;
+  }
+
+  /**
+   * @return the number of asynchronous update requests that were folded into an already scheduled
+   *     ChangeSet calculation.
+   */
+  public synchronized int getCoalescedChangeSetRequestsCount() {
+    return mCoalescedChangeSetRequests;
   }
 
   /**
@@ -354,6 +484,11 @@ public class SectionTree {
     if (currentSection != null) {
       mSectionPositionInfo = new HashMap<>();
       calculateRequestFocusDataRecursive(currentSection, 0);
+
+      mChildrenOffsets.clear();
+      calculateChildrenOffsetsRecursive(currentSection);
+      mChildrenOffsetsRoot = currentSection;
+      mChildrenOffsetsDispatched = false;
     }
 
     if (currentSection != null) {
@@ -428,13 +563,25 @@ public class SectionTree {
       currentSection = mCurrentSection;
     }
     if (currentSection != null) {
+      // Once every section of the indexed tree was dispatched a range, only the sections
+      // intersecting the change need to be visited again, unless the data changed.
+      final boolean useIndex =
+          currentSection == mChildrenOffsetsRoot
+              && mChildrenOffsetsDispatched
+              && state != ViewportInfo.State.DATA_CHANGES;
+
       viewPortChangedRecursive(
           currentSection,
           firstVisibleIndex,
           lastVisibleIndex,
           firstFullyVisibleIndex,
           lastFullyVisibleIndex,
-          state);
+          state,
+          useIndex);
+
+      if (currentSection == mChildrenOffsetsRoot) {
+        mChildrenOffsetsDispatched = true;
+      }
     }
   }
 
@@ -444,7 +591,8 @@ public class SectionTree {
       int lastVisibleIndex,
       int firstFullyVisibleIndex,
       int lastFullyVisibleIndex,
-      @ViewportInfo.State int state) {
+      @ViewportInfo.State int state,
+      boolean useIndex) {
     Range currentRange = mLastRanges.get(section.getGlobalKey());
     final int totalItemsCount = section.getCount();
 
@@ -462,6 +610,22 @@ public class SectionTree {
       }
     }
 
+    if (firstVisibleIndex >= 0) {
+      mVisibleSectionKeys.add(section.getGlobalKey());
+    } else {
+      mVisibleSectionKeys.remove(section.getGlobalKey());
+    }
+
+    // The children whose range can change are the ones intersecting the old or the new range.
+    final int changedFrom =
+        minIndex(
+            minIndex(currentRange.firstVisibleIndex, currentRange.firstFullyVisibleIndex),
+            minIndex(firstVisibleIndex, firstFullyVisibleIndex));
+    final int changedTo =
+        Math.max(
+            Math.max(currentRange.lastVisibleIndex, currentRange.lastFullyVisibleIndex),
+            Math.max(lastVisibleIndex, lastFullyVisibleIndex));
+
     currentRange.lastVisibleIndex = lastVisibleIndex;
     currentRange.firstVisibleIndex = firstVisibleIndex;
     currentRange.firstFullyVisibleIndex = firstFullyVisibleIndex;
@@ -480,42 +644,144 @@ public class SectionTree {
       return;
     }
 
-    int offset = 0;
     final List<Section> children = section.getChildren();
-    for (int i = 0, size = children.size(); i < size; i++) {
-      final Section child = children.get(i);
+    final int[] childrenOffsets = useIndex ? mChildrenOffsets.get(section) : null;
 
-      int childFirstVisibleIndex = firstVisibleIndex - offset;
-      int childLastVisibleIndex = lastVisibleIndex - offset;
+    if (childrenOffsets == null) {
+      int offset = 0;
+      for (int i = 0, size = children.size(); i < size; i++) {
+        final Section child = children.get(i);
+        viewPortChangedForChild(
+            child,
+            offset,
+            firstVisibleIndex,
+            lastVisibleIndex,
+            firstFullyVisibleIndex,
+            lastFullyVisibleIndex,
+            state,
+            useIndex);
+        offset += child.getCount();
+      }
 
-      int childFullyFirstVisibleIndex = firstFullyVisibleIndex - offset;
-      int childFullyLastVisibleIndex = lastFullyVisibleIndex - offset;
+      return;
+    }
 
-      if (childFirstVisibleIndex >= child.getCount() || childLastVisibleIndex < 0) {
-        childFirstVisibleIndex = -1;
-        childLastVisibleIndex = -1;
-      } else {
-        childFirstVisibleIndex = Math.max(childFirstVisibleIndex, 0);
-        childLastVisibleIndex = Math.min(childLastVisibleIndex, child.getCount() - 1);
-      }
+    if (changedFrom < 0) {
+      // Nothing of this section was or is visible, so none of its children's ranges changed.
+      return;
+    }
+
+    for (int i = findChildAt(childrenOffsets, changedFrom), size = children.size();
+        i < size && childrenOffsets[i] <= changedTo;
+        i++) {
+      viewPortChangedForChild(
+          children.get(i),
+          childrenOffsets[i],
+          firstVisibleIndex,
+          lastVisibleIndex,
+          firstFullyVisibleIndex,
+          lastFullyVisibleIndex,
+          state,
+          true);
+    }
+  }
+
+  private void viewPortChangedForChild(
+      Section child,
+      int offset,
+      int firstVisibleIndex,
+      int lastVisibleIndex,
+      int firstFullyVisibleIndex,
+      int lastFullyVisibleIndex,
+      @ViewportInfo.State int state,
+      boolean useIndex) {
+    int childFirstVisibleIndex = firstVisibleIndex - offset;
+    int childLastVisibleIndex = lastVisibleIndex - offset;
+
+    int childFullyFirstVisibleIndex = firstFullyVisibleIndex - offset;
+    int childFullyLastVisibleIndex = lastFullyVisibleIndex - offset;
+
+    if (childFirstVisibleIndex >= child.getCount() || childLastVisibleIndex < 0) {
+      childFirstVisibleIndex = -1;
+      childLastVisibleIndex = -1;
+    } else {
+      childFirstVisibleIndex = Math.max(childFirstVisibleIndex, 0);
+      childLastVisibleIndex = Math.min(childLastVisibleIndex, child.getCount() - 1);
+    }
+
+    if (childFullyFirstVisibleIndex >= child.getCount() || childFullyLastVisibleIndex < 0) {
+      childFullyFirstVisibleIndex = -1;
+      childFullyLastVisibleIndex = -1;
+    } else {
+      childFullyFirstVisibleIndex = Math.max(childFullyFirstVisibleIndex, 0);
+      childFullyLastVisibleIndex = Math.min(childFullyLastVisibleIndex, child.getCount() - 1);
+    }
+
+    viewPortChangedRecursive(
+        child,
+        childFirstVisibleIndex,
+        childLastVisibleIndex,
+        childFullyFirstVisibleIndex,
+        childFullyLastVisibleIndex,
+        state,
+        useIndex);
+  }
+
+  /** @return the smallest of two indices, ignoring the ones that are -1. */
+  private static int minIndex(int index1, int index2) {
+    if (index1 < 0) {
+      return index2;
+    }
+
+    if (index2 < 0) {
+      return index1;
+    }
+
+    return Math.min(index1, index2);
+  }
 
-      if (childFullyFirstVisibleIndex >= child.getCount() || childFullyLastVisibleIndex < 0) {
-        childFullyFirstVisibleIndex = -1;
-        childFullyLastVisibleIndex = -1;
+  /**
+   * @param childrenOffsets the start offsets of a section's children, followed by its count.
+   * @return the first child whose items end after position.
+   */
+  private static int findChildAt(int[] childrenOffsets, int position) {
+    int low = 0;
+    int high = childrenOffsets.length - 1;
+
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+      if (childrenOffsets[mid + 1] > position) {
+        high = mid;
       } else {
-        childFullyFirstVisibleIndex = Math.max(childFullyFirstVisibleIndex, 0);
-        childFullyLastVisibleIndex = Math.min(childFullyLastVisibleIndex, child.getCount() - 1);
+        low = mid + 1;
       }
+    }
 
-      offset += child.getCount();
-      viewPortChangedRecursive(
-          child,
-          childFirstVisibleIndex,
-          childLastVisibleIndex,
-          childFullyFirstVisibleIndex,
-          childFullyLastVisibleIndex,
-          state);
+    return low;
+  }
+
+  /**
+   * Indexes the start offset of the children of every section in the hierarchy, so that a viewport
+   * change can be dispatched to the children intersecting it with a binary search.
+   */
+  private void calculateChildrenOffsetsRecursive(Section section) {
+    if (section.isDiffSectionSpec()) {
+      return;
+    }
+
+    final List<Section> children = section.getChildren();
+    if (children == null || children.isEmpty()) {
+      return;
+    }
+
+    final int[] childrenOffsets = new int[children.size() + 1];
+    for (int i = 0, size = children.size(); i < size; i++) {
+      final Section child = children.get(i);
+      childrenOffsets[i + 1] = childrenOffsets[i] + child.getCount();
+      calculateChildrenOffsetsRecursive(child);
     }
+
+    mChildrenOffsets.put(section, childrenOffsets);
   }
 
   void requestFocus(Section section, int index) {
@@ -596,11 +862,19 @@ public class SectionTree {
       mEventHandlers = null;
     }
 
+    // The pending ChangeSets won't be applied anymore.
+    if (mTarget.canPrepareChangeSet()) {
+      mTarget.discardPreparedChangeSets();
+    }
+
     for (Range range : mLastRanges.values()) {
       releaseRange(range);
     }
     mLastRanges.clear();
+    mVisibleSectionKeys.clear();
     mSectionPositionInfo = null;
+    mChildrenOffsets.clear();
+    mChildrenOffsetsRoot = null;
     //TODO use pools t11953296
   }
 
@@ -637,9 +911,11 @@ public class SectionTree {
    *     new state.
    */
   synchronized void updateStateAsync(String key, StateUpdate stateUpdate) {
-    mCalculateChangeSetRunnable.cancel();
+    if (mChangeSetCoalescingWindowMs <= 0) {
+      mCalculateChangeSetRunnable.cancel();
+    }
     addStateUpdateInternal(key, stateUpdate, true);
-    mCalculateChangeSetRunnable.ensurePosted();
+    scheduleChangeSetCalculation(mVisibleSectionKeys.contains(key));
   }
 
   synchronized void updateStateLazy(String key, StateUpdate stateUpdate) {
@@ -710,6 +986,12 @@ public class SectionTree {
           calculateNewChangeSet(
               mContext, currentRoot, nextRoot, pendingStateUpdates, mSectionsDebugLogger, mTag);
 
+      final ChangeSet changeSet = changeSetState.getChangeSet();
+      final boolean prepareChangeSet =
+          mPrepareChangeSetsInBackground
+              && changeSet.getChangeCount() > 0
+              && mTarget.canPrepareChangeSet()
+              && !isMainThread();
       final boolean changeSetIsValid;
       Section oldRoot = null;
       Section newRoot = null;
@@ -733,20 +1015,29 @@ public class SectionTree {
             isStateUpdateCompleted(pendingStateUpdates);
 
         if (changeSetIsValid) {
+          mCommittedChangeSetCalculations++;
           oldRoot = mCurrentSection;
           newRoot = nextRoot;
 
           mCurrentSection = newRoot;
           mNextSection = null;
           removeCompletedStateUpdatesFromInstance(mPendingStateUpdates, pendingStateUpdates);
-          mPendingChangeSets.add(changeSetState.getChangeSet());
+          mPendingChangeSets.add(changeSet);
+          if (prepareChangeSet) {
+            mPreparingChangeSets.add(changeSet);
+          }
 
           if (oldRoot != null) {
             unbindOldComponent(oldRoot);
             oldRoot.release();
           }
 
+          // The children carried over from the old tree only belong to the new one now that it's
+          // committed.
+          newRoot.adoptReusedChildren();
           bindNewComponent(newRoot);
+        } else {
+          mDiscardedChangeSetCalculations++;
         }
       }
 
@@ -755,6 +1046,17 @@ public class SectionTree {
         for (int i = 0, size = removedComponents.size(); i < size; i++) {
           final Section removedComponent = removedComponents.get(i);
           releaseRange(mLastRanges.remove(removedComponent.getGlobalKey()));
+          mVisibleSectionKeys.remove(removedComponent.getGlobalKey());
+        }
+
+        if (prepareChangeSet) {
+          try {
+            mTarget.prepareChangeSet(changeSet);
+          } finally {
+            synchronized (this) {
+              mPreparingChangeSets.remove(changeSet);
+            }
+          }
         }
 
         postNewChangeSets();
@@ -880,24 +1182,49 @@ public class SectionTree {
 
   private void postNewChangeSets() {
     if (isMainThread()) {
-      postChangesetsToHandler();
+      postChangesetsToHandler(false);
     } else {
       sMainThreadHandler.obtainMessage(MESSAGE_WHAT_BACKGROUND_CHANGESET_STATE_UPDATED, this)
           .sendToTarget();
     }
   }
 
-  private void postChangesetsToHandler() {
+  /**
+   * @param waitForPreparation whether the ChangeSets that are still being prepared should be
+   *     applied later, once their preparation completes. Otherwise they are applied right away and
+   *     what was prepared for them is discarded, this is used when a ChangeSet calculated on the main
+   *     thread has to be applied synchronously.
+   */
+  private void postChangesetsToHandler(boolean waitForPreparation) {
     assertMainThread();
 
     final List<ChangeSet> changeSets;
+    boolean discardPreparation = false;
     synchronized (this) {
       if (mReleased) {
         return;
       }
 
-      changeSets = new ArrayList<>(mPendingChangeSets);
-      mPendingChangeSets.clear();
+      int readyCount = mPendingChangeSets.size();
+      if (!mPreparingChangeSets.isEmpty()) {
+        if (waitForPreparation) {
+          // Only apply the ChangeSets up to the first one that is still being prepared, the rest
+          // will be applied when its preparation completes.
+          for (int i = 0; i < readyCount; i++) {
+            if (mPreparingChangeSets.contains(mPendingChangeSets.get(i))) {
+              readyCount = i;
+              break;
+            }
+          }
+        } else {
+          mPreparingChangeSets.clear();
+          discardPreparation = true;
+        }
+      }
+
+      final List<ChangeSet> readyChangeSets = mPendingChangeSets.subList(0, readyCount);
+      changeSets = new ArrayList<>(readyChangeSets);
+      readyChangeSets.clear();
     }
 
     boolean appliedChanges = false;
@@ -905,42 +1232,15 @@ public class SectionTree {
       final ChangeSet changeSet = changeSets.get(i);
 
       if (changeSet.getChangeCount() > 0) {
-        for (int j = 0, changeSize = changeSet.getChangeCount(); j < changeSize; j++) {
-          final Change change = changeSet.getChangeAt(j);
-          switch (change.getType()) {
-            case Change.INSERT:
-              appliedChanges = true;
-              mTarget.insert(change.getIndex(), change.getRenderInfo());
-              break;
-            case Change.INSERT_RANGE:
-              appliedChanges = true;
-              mTarget.insertRange(change.getIndex(), change.getCount(), change.getRenderInfos());
-              break;
-            case Change.UPDATE:
-              appliedChanges = true;
-              mTarget.update(change.getIndex(), change.getRenderInfo());
-              break;
-            case Change.UPDATE_RANGE:
-              appliedChanges = true;
-              mTarget.updateRange(change.getIndex(), change.getCount(), change.getRenderInfos());
-              break;
-            case Change.DELETE:
-              appliedChanges = true;
-              mTarget.delete(change.getIndex());
-              break;
-            case Change.DELETE_RANGE:
-              appliedChanges = true;
-              mTarget.deleteRange(change.getIndex(), change.getCount());
-              break;
-            case Change.MOVE:
-              appliedChanges = true;
-              mTarget.move(change.getIndex(), change.getToIndex());
-          }
-        }
-        mTarget.dispatchLastEvent();
+        appliedChanges = true;
+        mTarget.applyChangeSet(changeSet);
       }
     }
 
+    if (discardPreparation) {
+      mTarget.discardPreparedChangeSets();
+    }
+
     if (appliedChanges) {
       dataBound();
     }
@@ -1007,6 +1307,14 @@ public class SectionTree {
     }
 
     if (!nextRoot.isDiffSectionSpec()) {
+      if (canReuseSubtree(
+          context, currentRoot, nextRoot, shouldTransferState, pendingStateUpdates)) {
+        // Nothing in this subtree changed: carry over the children of the current tree (and
+        // their counts) instead of re-creating them.
+        nextRoot.reuseChildren(currentRoot);
+        return;
+      }
+
       final Map<String, Pair<Section, Integer>> currentComponentChildren = currentRoot == null ?
           null :
           Section.acquireChildrenMap(currentRoot);
@@ -1064,6 +1372,45 @@ public class SectionTree {
     }
   }
 
+  /**
+   * A subtree can be carried over from the current tree if none of its {@link Section}s has a
+   * pending state update and its root doesn't need to update. Subtrees that receive
+   * {@link TreeProps} are always re-created since a descendant could depend on a changed value.
+   */
+  private static boolean canReuseSubtree(
+      SectionContext context,
+      @Nullable Section currentRoot,
+      Section nextRoot,
+      boolean shouldTransferState,
+      Map<String, List<StateUpdate>> pendingStateUpdates) {
+    return currentRoot != null
+        && shouldTransferState
+        && currentRoot.getChildren() != null
+        && context.getTreeProps() == null
+        && !hasPendingStateUpdatesInSubtree(nextRoot.getGlobalKey(), pendingStateUpdates)
+        && !nextRoot.shouldComponentUpdate(currentRoot, nextRoot);
+  }
+
+  /**
+   * Global keys are built by appending the key of a child to the global key of its parent, so a
+   * pending update in the subtree rooted in globalKey is one whose key starts with globalKey.
+   */
+  private static boolean hasPendingStateUpdatesInSubtree(
+      String globalKey,
+      Map<String, List<StateUpdate>> pendingStateUpdates) {
+    if (pendingStateUpdates.isEmpty()) {
+      return false;
+    }
+
+    for (String key : pendingStateUpdates.keySet()) {
+      if (key.startsWith(globalKey)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
   private static Set<String> acquireKeysSet() {
     //TODO use pools t11953296
     return new HashSet<>();
@@ -1109,7 +1456,7 @@ public class SectionTree {
         case MESSAGE_WHAT_BACKGROUND_CHANGESET_STATE_UPDATED:
           final SectionTree tree = (SectionTree) msg.obj;
           try {
-            tree.postChangesetsToHandler();
+            tree.postChangesetsToHandler(true);
           } catch (IndexOutOfBoundsException e) {
             throw new RuntimeException(getDebugInfo(tree) + e.getMessage(), e);
           }
@@ -1155,12 +1502,16 @@ public class SectionTree {
     private boolean mAsyngPropUpdates;
     private String mTag;
     private Handler mChangeSetThreadHandler;
+    private long mChangeSetCoalescingWindowMs;
+    private boolean mPrepareChangeSetsInBackground;
 
     private Builder(SectionContext componentContext, Target target) {
       mContext = componentContext;
       mTarget = target;
       mAsyncStateUpdates = SectionsConfiguration.sectionComponentsAsyncStateUpdates;
       mAsyngPropUpdates = SectionsConfiguration.sectionComponentsAsyncPropUpdates;
+      mChangeSetCoalescingWindowMs = SectionsConfiguration.changeSetCoalescingWindowMs;
+      mPrepareChangeSetsInBackground = SectionsConfiguration.prepareChangeSetsInBackground;
     }
 
     /**
@@ -1191,6 +1542,27 @@ public class SectionTree {
       return this;
     }
 
+    /**
+     * Asynchronous root and state updates that don't affect the visible sections will wait up to
+     * this many milliseconds before a new ChangeSet is calculated, so that updates arriving in the
+     * same window (e.g. a frame) are applied together. Updates to visible sections and the first
+     * root are never delayed.
+     */
+    public Builder changeSetCoalescingWindowMs(long changeSetCoalescingWindowMs) {
+      mChangeSetCoalescingWindowMs = changeSetCoalescingWindowMs;
+      return this;
+    }
+
+    /**
+     * If enabled and the {@link Target} is a {@link ChangeSetTarget}, ChangeSets calculated on a
+     * background thread are prepared on that same thread before being posted to the main thread,
+     * which then only applies them. See {@link ChangeSetTarget#prepareChangeSet(ChangeSet)}.
+     */
+    public Builder prepareChangeSetsInBackground(boolean prepareChangeSetsInBackground) {
+      mPrepareChangeSetsInBackground = prepareChangeSetsInBackground;
+      return this;
+    }
+
     /**
      * If enabled, a tag will define the section tree being built
      *
@@ -10,6 +10,7 @@
 package com.facebook.litho.sections.config;
 
 import com.facebook.litho.sections.logger.SectionsDebugLogger;
+import com.facebook.litho.sections.logger.SectionsDiffTimingCollector;
 import java.util.List;
 
 /** Configuration for the SectionComponents library */
@@ -18,12 +19,28 @@ public class SectionsConfiguration {
   /** Loggers for the core framework */
   public static List<SectionsDebugLogger> LOGGERS;
 
+  /** If set, receives the time spent diffing each section of the sampled ChangeSet calculations */
+  public static SectionsDiffTimingCollector diffTimingCollector;
+
   /** Force all section component prop updates to be async */
   public static boolean sectionComponentsAsyncPropUpdates = false;
 
   /** Force all section component state updates to be async */
   public static boolean sectionComponentsAsyncStateUpdates = false;
 
+  /**
+   * Default window, in milliseconds, used to coalesce asynchronous updates of a SectionTree into a
+   * single ChangeSet calculation. 0 disables coalescing.
+   */
+  public static long changeSetCoalescingWindowMs = 0;
+
+  /**
+   * Whether ChangeSets calculated on a background thread should be prepared by their Target on that
+   * thread, leaving only the visible items to the main thread. See
+   * SectionTree.ChangeSetTarget#prepareChangeSet(ChangeSet).
+   */
+  public static boolean prepareChangeSetsInBackground = true;
+
   /**
    * If this is False, then a Service created from SectionLifecycle#createService(SectionContext,
    * Section) is registered and kept in ServiceRegistry.
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2017-present, Facebook, Inc.
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree. An additional grant
+ * of patent rights can be found in the PATENTS file in the same directory.
+ */
+
+package com.facebook.litho.sections.logger;
+
+/**
+ * Collects the time spent diffing each Section while a {@link
+ * com.facebook.litho.sections.SectionTree} generates a ChangeSet. Unlike {@link
+ * SectionsDebugLogger} this is meant to be enabled in production builds: no arguments are computed
+ * for it unless {@link #shouldCollect(String)} returns true, and the reported values are either
+ * primitives or Strings that already exist on the Section.
+ */
+public interface SectionsDiffTimingCollector {
+
+  /**
+   * Called once per ChangeSet calculation. Implementations can use this to sample which
+   * calculations report timings.
+   *
+   * @param tag tag defining the section tree
+   * @return true if {@link #onSectionDiffed} should be called for this ChangeSet calculation.
+   */
+  boolean shouldCollect(String tag);
+
+  /**
+   * fired when a section has been diffed
+   *
+   * @param tag tag defining the section tree
+   * @param sectionName simple name of the section
+   * @param globalKey unique key of the section in its tree
+   * @param durationNs time spent diffing the section, including its children
+   */
+  void onSectionDiffed(String tag, String sectionName, String globalKey, long durationNs);
+}
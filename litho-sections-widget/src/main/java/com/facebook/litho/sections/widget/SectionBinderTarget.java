@@ -14,18 +14,22 @@ import android.support.v7.widget.RecyclerView;
 import com.facebook.litho.ComponentTree;
 import com.facebook.litho.EventHandler;
 import com.facebook.litho.Size;
-import com.facebook.litho.sections.SectionTree.Target;
+import com.facebook.litho.sections.Change;
+import com.facebook.litho.sections.ChangeSet;
+import com.facebook.litho.sections.SectionTree.ChangeSetTarget;
 import com.facebook.litho.widget.Binder;
 import com.facebook.litho.widget.ReMeasureEvent;
 import com.facebook.litho.widget.RecyclerBinder;
+import com.facebook.litho.widget.RecyclerBinderOperation;
 import com.facebook.litho.widget.RenderInfo;
 import com.facebook.litho.widget.ViewportInfo.ViewportChanged;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Implementation of {@link Target} that uses a {@link RecyclerBinder}.
+ * Implementation of {@link ChangeSetTarget} that uses a {@link RecyclerBinder}.
  */
-public class SectionBinderTarget implements Target, Binder<RecyclerView> {
+public class SectionBinderTarget implements ChangeSetTarget, Binder<RecyclerView> {
 
   private final RecyclerBinder mRecyclerBinder;
 
@@ -124,6 +128,56 @@ public class SectionBinderTarget implements Target, Binder<RecyclerView> {
     mRecyclerBinder.removeRangeAt(index, count);
   }
 
+  @Override
+  public void prepareChangeSet(ChangeSet changeSet) {
+    mRecyclerBinder.prepareOperations(toOperations(changeSet));
+  }
+
+  @Override
+  public void discardPreparedChangeSets() {
+    mRecyclerBinder.discardPreparedOperations();
+  }
+
+  @Override
+  public void applyChangeSet(ChangeSet changeSet) {
+    mRecyclerBinder.applyOperations(toOperations(changeSet));
+  }
+
+  private static List<RecyclerBinderOperation> toOperations(ChangeSet changeSet) {
+    final List<RecyclerBinderOperation> operations = new ArrayList<>(changeSet.getChangeCount());
+    for (int i = 0, size = changeSet.getChangeCount(); i < size; i++) {
+      final Change change = changeSet.getChangeAt(i);
+      switch (change.getType()) {
+        case Change.INSERT:
+          operations.add(RecyclerBinderOperation.insert(change.getIndex(), change.getRenderInfo()));
+          break;
+        case Change.INSERT_RANGE:
+          operations.add(
+              RecyclerBinderOperation.insertRange(change.getIndex(), change.getRenderInfos()));
+          break;
+        case Change.UPDATE:
+          operations.add(RecyclerBinderOperation.update(change.getIndex(), change.getRenderInfo()));
+          break;
+        case Change.UPDATE_RANGE:
+          operations.add(
+              RecyclerBinderOperation.updateRange(change.getIndex(), change.getRenderInfos()));
+          break;
+        case Change.DELETE:
+          operations.add(RecyclerBinderOperation.remove(change.getIndex()));
+          break;
+        case Change.DELETE_RANGE:
+          operations.add(
+              RecyclerBinderOperation.removeRange(change.getIndex(), change.getCount()));
+          break;
+        case Change.MOVE:
+          operations.add(RecyclerBinderOperation.move(change.getIndex(), change.getToIndex()));
+          break;
+      }
+    }
+
+    return operations;
+  }
+
   public void clear() {
     mRecyclerBinder.removeRangeAt(0, mRecyclerBinder.getItemCount());
   }
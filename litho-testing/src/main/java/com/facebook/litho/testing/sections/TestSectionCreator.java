@@ -78,6 +78,7 @@ public class TestSectionCreator {
 
     @Override
     protected Children createChildren(SectionContext c) {
+      createChildrenCount++;
       Children.Builder builder = Children.create();
       if (mChildren != null) {
         for (Section child : mChildren) {
@@ -172,6 +173,7 @@ public class TestSectionCreator {
     private final boolean forceShouldUpdate;
 
     public boolean refreshCalled;
+    public int createChildrenCount;
     public int firstVisibleIndex;
     public int lastVisibleIndex;
     public int firstFullyVisibleIndex;
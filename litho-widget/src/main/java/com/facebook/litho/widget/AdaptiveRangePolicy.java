@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2017-present, Facebook, Inc.
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree. An additional grant
+ * of patent rights can be found in the PATENTS file in the same directory.
+ */
+
+package com.facebook.litho.widget;
+
+import android.os.SystemClock;
+import android.support.annotation.VisibleForTesting;
+import android.support.v7.widget.RecyclerView;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * {@link RangePolicy} that follows the scroll. While the list is idle only a viewport worth of
+ * items is kept on each side. While it scrolls, the range reaches as far ahead as the items that
+ * will come into view within {@link #LOOKAHEAD_MS} at the current velocity, and shrinks to a
+ * viewport behind. The range never extends further ahead than the number of items that can be laid
+ * out within the layout budget, according to the layout times measured so far.
+ */
+@ThreadSafe
+public class AdaptiveRangePolicy implements RangePolicy {
+
+  public static final long DEFAULT_LAYOUT_BUDGET_MS = 100;
+
+  private static final long LOOKAHEAD_MS = 500;
+  // Weight of the newest sample in the moving averages of the velocity and of the layout time.
+  private static final float VELOCITY_SMOOTHING = 0.5f;
+  private static final float LAYOUT_TIME_SMOOTHING = 0.125f;
+
+  private final float mRangeRatio;
+  private final long mLayoutBudgetNanos;
+
+  // In pixels per millisecond, positive when scrolling towards the last item.
+  @GuardedBy("this")
+  private float mVelocity;
+
+  @GuardedBy("this")
+  private long mLastScrollTimeMs = -1;
+
+  @GuardedBy("this")
+  private long mAverageLayoutNanos;
+
+  public AdaptiveRangePolicy(float rangeRatio) {
+    this(rangeRatio, DEFAULT_LAYOUT_BUDGET_MS);
+  }
+
+  /**
+   * @param rangeRatio the number of items laid out ahead of the viewport when scrolling slowly, as
+   *     a multiple of the number of items in the viewport.
+   * @param layoutBudgetMs the CPU time that the layouts of the items ahead of the viewport can
+   *     take in total.
+   */
+  public AdaptiveRangePolicy(float rangeRatio, long layoutBudgetMs) {
+    mRangeRatio = rangeRatio;
+    mLayoutBudgetNanos = layoutBudgetMs * 1000000;
+  }
+
+  @Override
+  public void onScrolled(int scrollDelta) {
+    onScrolled(scrollDelta, SystemClock.uptimeMillis());
+  }
+
+  @VisibleForTesting
+  synchronized void onScrolled(int scrollDelta, long now) {
+    if (mLastScrollTimeMs >= 0 && now > mLastScrollTimeMs) {
+      final float velocity = (float) scrollDelta / (now - mLastScrollTimeMs);
+      mVelocity = mVelocity * (1 - VELOCITY_SMOOTHING) + velocity * VELOCITY_SMOOTHING;
+    }
+
+    mLastScrollTimeMs = now;
+  }
+
+  @Override
+  public synchronized void onScrollStateChanged(int newState) {
+    if (newState == RecyclerView.SCROLL_STATE_IDLE) {
+      mVelocity = 0;
+      mLastScrollTimeMs = -1;
+    }
+  }
+
+  @Override
+  public synchronized void onItemLayoutCalculated(long durationNanos) {
+    mAverageLayoutNanos =
+        mAverageLayoutNanos == 0
+            ? durationNanos
+            : (long)
+                (mAverageLayoutNanos * (1 - LAYOUT_TIME_SMOOTHING)
+                    + durationNanos * LAYOUT_TIME_SMOOTHING);
+  }
+
+  @Override
+  public synchronized void computeRange(
+      int firstVisiblePosition, int viewportCount, int itemSize, int[] outRange) {
+    final int baseExtent = (int) (viewportCount * mRangeRatio);
+    final int behind = Math.min(baseExtent, viewportCount);
+
+    if (mVelocity == 0 || itemSize <= 0) {
+      outRange[0] = firstVisiblePosition - behind;
+      outRange[1] = firstVisiblePosition + viewportCount + behind;
+      return;
+    }
+
+    int ahead = baseExtent + (int) (Math.abs(mVelocity) * LOOKAHEAD_MS / itemSize);
+    if (mAverageLayoutNanos > 0) {
+      final int affordableCount = (int) (mLayoutBudgetNanos / mAverageLayoutNanos);
+      ahead = Math.min(ahead, Math.max(viewportCount, affordableCount));
+    }
+
+    if (mVelocity > 0) {
+      outRange[0] = firstVisiblePosition - behind;
+      outRange[1] = firstVisiblePosition + viewportCount + ahead;
+    } else {
+      outRange[0] = firstVisiblePosition - ahead;
+      outRange[1] = firstVisiblePosition + viewportCount + behind;
+    }
+  }
+}
@@ -0,0 +1,335 @@
+/*
+ * Copyright (c) 2017-present, Facebook, Inc.
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree. An additional grant
+ * of patent rights can be found in the PATENTS file in the same directory.
+ */
+
+package com.facebook.litho.widget;
+
+import android.text.Layout;
+import android.text.Spanned;
+import android.text.style.ClickableSpan;
+import java.util.Arrays;
+import javax.annotation.Nullable;
+
+/**
+ * Bounding rects of the {@link ClickableSpan}s of a {@link Layout}, one for each line a span is
+ * laid out on, sorted by line and then by left edge. It is built when the Layout is created so
+ * that {@link TextDrawable} can resolve a touch with a couple of binary searches and without
+ * allocating, instead of querying the Layout and the spans of the text on every touch event.
+ *
+ * <p>Each rect also keeps the horizontal bounds of the span's selection path on its line, which
+ * reach the edges of the Layout on the lines a span wraps from or to, to resolve touches in the
+ * proximity of a span.
+ */
+public final class ClickableSpanIndex {
+
+  private final ClickableSpan[] mClickableSpans;
+  // Vertical bounds of each line: line i spans from mLineTops[i] to mLineTops[i + 1].
+  private final int[] mLineTops;
+  // Rects of line i are the ones from mLineRectStarts[i] to mLineRectStarts[i + 1].
+  private final int[] mLineRectStarts;
+  private final float[] mRectLefts;
+  private final float[] mRectRights;
+  // The rightmost edge of the rects of a line up to each rect, as nested spans can overlap.
+  private final float[] mRectMaxRights;
+  private final float[] mSelectionLefts;
+  private final float[] mSelectionRights;
+  private final int[] mRectSpans;
+
+  private ClickableSpanIndex(
+      ClickableSpan[] clickableSpans,
+      int[] lineTops,
+      int[] lineRectStarts,
+      float[] rectLefts,
+      float[] rectRights,
+      float[] rectMaxRights,
+      float[] selectionLefts,
+      float[] selectionRights,
+      int[] rectSpans) {
+    mClickableSpans = clickableSpans;
+    mLineTops = lineTops;
+    mLineRectStarts = lineRectStarts;
+    mRectLefts = rectLefts;
+    mRectRights = rectRights;
+    mRectMaxRights = rectMaxRights;
+    mSelectionLefts = selectionLefts;
+    mSelectionRights = selectionRights;
+    mRectSpans = rectSpans;
+  }
+
+  /** @return an index of clickableSpans, which must be spans of text laid out in layout. */
+  public static ClickableSpanIndex create(
+      Layout layout, Spanned text, ClickableSpan[] clickableSpans) {
+    final int lineCount = layout.getLineCount();
+    final int[] lineTops = new int[lineCount + 1];
+    for (int line = 0; line <= lineCount; line++) {
+      lineTops[line] = layout.getLineTop(line);
+    }
+
+    // Upper bound of the number of rects, so that they can be bucketed by line in one pass.
+    int maxRectCount = 0;
+    final int[] spanFirstLines = new int[clickableSpans.length];
+    final int[] spanLastLines = new int[clickableSpans.length];
+    for (int i = 0; i < clickableSpans.length; i++) {
+      final int start = text.getSpanStart(clickableSpans[i]);
+      final int end = text.getSpanEnd(clickableSpans[i]);
+      if (start < 0 || end <= start) {
+        spanFirstLines[i] = 0;
+        spanLastLines[i] = -1;
+        continue;
+      }
+
+      spanFirstLines[i] = layout.getLineForOffset(start);
+      spanLastLines[i] = Math.max(spanFirstLines[i], layout.getLineForOffset(end - 1));
+      maxRectCount += spanLastLines[i] - spanFirstLines[i] + 1;
+    }
+
+    final int[] lineRectCounts = new int[lineCount + 1];
+    final float[] lefts = new float[maxRectCount];
+    final float[] rights = new float[maxRectCount];
+    final float[] selectionLefts = new float[maxRectCount];
+    final float[] selectionRights = new float[maxRectCount];
+    final int[] lines = new int[maxRectCount];
+    final int[] spans = new int[maxRectCount];
+    int rectCount = 0;
+
+    for (int i = 0; i < clickableSpans.length; i++) {
+      final int start = text.getSpanStart(clickableSpans[i]);
+      final int end = text.getSpanEnd(clickableSpans[i]);
+
+      for (int line = spanFirstLines[i]; line <= spanLastLines[i]; line++) {
+        final int rectStart = Math.max(start, layout.getLineStart(line));
+        final int rectEnd = Math.min(end, layout.getLineVisibleEnd(line));
+        if (rectEnd <= rectStart) {
+          continue;
+        }
+
+        final float x1 = layout.getPrimaryHorizontal(rectStart);
+        final float x2 = getHorizontalForEnd(layout, line, rectEnd);
+
+        lefts[rectCount] = Math.min(x1, x2);
+        rights[rectCount] = Math.max(x1, x2);
+        setSelectionBounds(
+            layout,
+            line,
+            spanFirstLines[i],
+            spanLastLines[i],
+            lefts[rectCount],
+            rights[rectCount],
+            selectionLefts,
+            selectionRights,
+            rectCount);
+        lines[rectCount] = line;
+        spans[rectCount] = i;
+        lineRectCounts[line]++;
+        rectCount++;
+      }
+    }
+
+    final int[] lineRectStarts = new int[lineCount + 1];
+    for (int line = 0; line < lineCount; line++) {
+      lineRectStarts[line + 1] = lineRectStarts[line] + lineRectCounts[line];
+    }
+
+    // Bucket the rects by line, then sort each line's rects by left edge.
+    final int[] order = new int[rectCount];
+    final int[] lineFill = Arrays.copyOf(lineRectStarts, lineCount);
+    for (int i = 0; i < rectCount; i++) {
+      order[lineFill[lines[i]]++] = i;
+    }
+
+    final float[] rectLefts = new float[rectCount];
+    final float[] rectRights = new float[rectCount];
+    final float[] rectMaxRights = new float[rectCount];
+    final float[] rectSelectionLefts = new float[rectCount];
+    final float[] rectSelectionRights = new float[rectCount];
+    final int[] rectSpans = new int[rectCount];
+    for (int line = 0; line < lineCount; line++) {
+      final int lineStart = lineRectStarts[line];
+      final int lineEnd = lineRectStarts[line + 1];
+
+      for (int i = lineStart; i < lineEnd; i++) {
+        // Insertion sort, a line rarely holds more than a handful of spans.
+        final int rect = order[i];
+        int j = i - 1;
+        while (j >= lineStart && lefts[order[j]] > lefts[rect]) {
+          order[j + 1] = order[j];
+          j--;
+        }
+        order[j + 1] = rect;
+      }
+
+      for (int i = lineStart; i < lineEnd; i++) {
+        rectLefts[i] = lefts[order[i]];
+        rectRights[i] = rights[order[i]];
+        rectSelectionLefts[i] = selectionLefts[order[i]];
+        rectSelectionRights[i] = selectionRights[order[i]];
+        rectSpans[i] = spans[order[i]];
+        rectMaxRights[i] =
+            i == lineStart ? rectRights[i] : Math.max(rectMaxRights[i - 1], rectRights[i]);
+      }
+    }
+
+    return new ClickableSpanIndex(
+        clickableSpans,
+        lineTops,
+        lineRectStarts,
+        rectLefts,
+        rectRights,
+        rectMaxRights,
+        rectSelectionLefts,
+        rectSelectionRights,
+        rectSpans);
+  }
+
+  /**
+   * Sets the horizontal bounds of the selection path of a span on line, as drawn by {@link
+   * Layout#getSelectionPath}: it reaches the end of the Layout on the line the span wraps from, the
+   * start of the Layout on the line it wraps to, and spans the whole width of the lines between.
+   */
+  private static void setSelectionBounds(
+      Layout layout,
+      int line,
+      int spanFirstLine,
+      int spanLastLine,
+      float left,
+      float right,
+      float[] outLefts,
+      float[] outRights,
+      int index) {
+    final boolean isRtl = layout.getParagraphDirection(line) == Layout.DIR_RIGHT_TO_LEFT;
+    final boolean reachesStart = line > spanFirstLine;
+    final boolean reachesEnd = line < spanLastLine;
+
+    outLefts[index] = (isRtl ? reachesEnd : reachesStart) ? 0 : left;
+    outRights[index] = (isRtl ? reachesStart : reachesEnd) ? layout.getWidth() : right;
+  }
+
+  private static float getHorizontalForEnd(Layout layout, int line, int offset) {
+    if (offset < layout.getLineEnd(line)) {
+      return layout.getPrimaryHorizontal(offset);
+    }
+
+    // The horizontal of the line's end offset would be resolved on the next line.
+    return layout.getParagraphDirection(line) == Layout.DIR_RIGHT_TO_LEFT
+        ? layout.getLineLeft(line)
+        : layout.getLineRight(line);
+  }
+
+  /**
+   * @return the clickable span laid out at the given position, relative to the Layout, or null
+   *     if there is none. Positions above the first line or below the last one are resolved on
+   *     those lines, as {@link Layout#getLineForVertical} does. When spans overlap, the first one
+   *     of the indexed spans is returned.
+   */
+  @Nullable
+  ClickableSpan getClickableSpanAt(float x, float y) {
+    if (mLineTops.length <= 1) {
+      return null;
+    }
+
+    final int line = findLine(y);
+    int result = -1;
+    for (int i = findLastRectStartingBefore(line, x);
+        i >= mLineRectStarts[line] && mRectMaxRights[i] >= x;
+        i--) {
+      if (mRectRights[i] >= x && (result < 0 || mRectSpans[i] < result)) {
+        result = mRectSpans[i];
+      }
+    }
+
+    return result < 0 ? null : mClickableSpans[result];
+  }
+
+  /**
+   * @return the only clickable span whose selection path is within radius of the given position,
+   *     relative to the Layout, or null if there are none or more than one. Only the part of the
+   *     touch area within the Layout is considered.
+   */
+  @Nullable
+  ClickableSpan getClickableSpanInProximity(float x, float y, float radius) {
+    final int lineCount = mLineTops.length - 1;
+    if (lineCount <= 0 || y + radius < mLineTops[0] || y - radius >= mLineTops[lineCount]) {
+      return null;
+    }
+
+    int result = -1;
+    for (int line = findLine(y - radius);
+        line < lineCount && mLineTops[line] <= y + radius;
+        line++) {
+      final float dy = distance(y, mLineTops[line], mLineTops[line + 1]);
+
+      // The selection bounds aren't sorted, but a line rarely holds more than a handful of spans.
+      for (int i = mLineRectStarts[line]; i < mLineRectStarts[line + 1]; i++) {
+        final float dx = distance(x, mSelectionLefts[i], mSelectionRights[i]);
+        if (dx * dx + dy * dy > radius * radius || mRectSpans[i] == result) {
+          continue;
+        }
+
+        if (result >= 0) {
+          // This is the second span that's close to the tap, so we don't have a definitive answer
+          return null;
+        }
+
+        result = mRectSpans[i];
+      }
+    }
+
+    return result < 0 ? null : mClickableSpans[result];
+  }
+
+  private static float distance(float position, float start, float end) {
+    if (position < start) {
+      return start - position;
+    }
+
+    if (position > end) {
+      return position - end;
+    }
+
+    return 0;
+  }
+
+  /**
+   * @return the line laid out at y, the first line if y is above it or the last one if y is below
+   *     it. There must be at least one line.
+   */
+  private int findLine(float y) {
+    final int lineCount = mLineTops.length - 1;
+    int low = 0;
+    int high = lineCount - 1;
+    while (low < high) {
+      final int mid = (low + high + 1) >>> 1;
+      if (mLineTops[mid] <= y) {
+        low = mid;
+      } else {
+        high = mid - 1;
+      }
+    }
+
+    return low;
+  }
+
+  /**
+   * @return the last rect of line whose left edge is at or before x, or the index before the
+   *     line's first rect if there is none.
+   */
+  private int findLastRectStartingBefore(int line, float x) {
+    int low = mLineRectStarts[line];
+    int high = mLineRectStarts[line + 1] - 1;
+    while (low <= high) {
+      final int mid = (low + high) >>> 1;
+      if (mRectLefts[mid] <= x) {
+        low = mid + 1;
+      } else {
+        high = mid - 1;
+      }
+    }
+
+    return high;
+  }
+}
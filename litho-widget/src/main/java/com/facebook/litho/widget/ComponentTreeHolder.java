@@ -13,6 +13,7 @@ import android.support.v4.util.Pools;
 import com.facebook.litho.Component;
 import com.facebook.litho.ComponentContext;
 import com.facebook.litho.ComponentTree;
+import com.facebook.litho.ComponentTree.LayoutCalculatedListener;
 import com.facebook.litho.ComponentTree.MeasureListener;
 import com.facebook.litho.LayoutHandler;
 import com.facebook.litho.Size;
@@ -39,12 +40,55 @@ public class ComponentTreeHolder {
   @GuardedBy("this")
   private ComponentTree mComponentTree;
 
+  // The configuration mComponentTree was built with, if it can be recycled in mComponentTreePool.
+  @GuardedBy("this")
+  private @Nullable ComponentTreePool.Configuration mComponentTreeConfiguration;
+
+  @GuardedBy("this")
+  private @Nullable ComponentTreePool mComponentTreePool;
+
   @GuardedBy("this")
   private StateHandler mStateHandler;
 
   @GuardedBy("this")
   private RenderInfo mRenderInfo;
 
+  // Whether the tree of this holder was released because the item went out of range. Reset once
+  // a new layout is computed.
+  @GuardedBy("this")
+  private boolean mHasReleasedLayout;
+
+  // Size of the last layout calculated for mLastLayoutRenderInfo with the given size specs. Unlike
+  // the layout itself, it is kept when the tree is released.
+  @GuardedBy("this")
+  private @Nullable RenderInfo mLastLayoutRenderInfo;
+
+  @GuardedBy("this")
+  private int mLastLayoutWidthSpec;
+
+  @GuardedBy("this")
+  private int mLastLayoutHeightSpec;
+
+  @GuardedBy("this")
+  private final Size mLastLayoutSize = new Size();
+
+  @GuardedBy("this")
+  private @Nullable ItemSizeEstimator mItemSizeEstimator;
+
+  @GuardedBy("this")
+  private @Nullable LayoutCalculatedListener mLayoutCalculatedListener;
+
+  // The size specs mComponentTree was last asked to lay out the current RenderInfo with.
+  @GuardedBy("this")
+  private int mTreeWidthSpec;
+
+  @GuardedBy("this")
+  private int mTreeHeightSpec;
+
+  // Whether mComponentTree is set on a LithoView, so its content may be drawn on the UI thread.
+  @GuardedBy("this")
+  private boolean mIsBound;
+
   private boolean mIsTreeValid;
   private LayoutHandler mLayoutHandler;
   private boolean mCanPrefetchDisplayLists;
@@ -134,9 +178,14 @@ public class ComponentTreeHolder {
     return componentTreeHolder;
   }
 
-  public synchronized void acquireStateHandlerAndReleaseTree() {
-    acquireStateHandler();
-    releaseTree();
+  public void acquireStateHandlerAndReleaseTree() {
+    updateLastLayoutSize();
+
+    synchronized (this) {
+      acquireStateHandler();
+      releaseTree();
+      mHasReleasedLayout = true;
+    }
   }
 
   synchronized void invalidateTree() {
@@ -170,8 +219,12 @@ public class ComponentTreeHolder {
     synchronized (this) {
       if (componentTree == mComponentTree && component == mRenderInfo.getComponent()) {
         mIsTreeValid = true;
+        mHasReleasedLayout = false;
+        mTreeWidthSpec = widthSpec;
+        mTreeHeightSpec = heightSpec;
         if (size != null) {
           mLastMeasuredHeight = size.height;
+          setLastLayoutSize(widthSpec, heightSpec, size.width, size.height);
         }
       }
     }
@@ -199,6 +252,9 @@ public class ComponentTreeHolder {
     synchronized (this) {
       if (mComponentTree == componentTree && component == mRenderInfo.getComponent()) {
         mIsTreeValid = true;
+        mHasReleasedLayout = false;
+        mTreeWidthSpec = widthSpec;
+        mTreeHeightSpec = heightSpec;
       }
     }
   }
@@ -220,6 +276,138 @@ public class ComponentTreeHolder {
     mRenderInfo = renderInfo;
   }
 
+  /**
+   * Released ComponentTrees will be recycled through componentTreePool, and new ones taken from it
+   * when possible.
+   */
+  synchronized void setComponentTreePool(@Nullable ComponentTreePool componentTreePool) {
+    mComponentTreePool = componentTreePool;
+  }
+
+  /** Sizes of the items laid out by this holder will be recorded in itemSizeEstimator. */
+  synchronized void setItemSizeEstimator(@Nullable ItemSizeEstimator itemSizeEstimator) {
+    mItemSizeEstimator = itemSizeEstimator;
+  }
+
+  /** The trees of this holder will report how long their layouts take to layoutCalculatedListener. */
+  synchronized void setLayoutCalculatedListener(
+      @Nullable LayoutCalculatedListener layoutCalculatedListener) {
+    mLayoutCalculatedListener = layoutCalculatedListener;
+    if (mComponentTree != null) {
+      mComponentTree.setLayoutCalculatedListener(layoutCalculatedListener);
+    }
+  }
+
+  /**
+   * Sets in outSize the size of the last layout calculated for the current {@link RenderInfo} with
+   * the given size specs, even if the tree has been released since.
+   *
+   * @return whether such a layout was calculated.
+   */
+  boolean getLastLayoutSize(int widthSpec, int heightSpec, Size outSize) {
+    updateLastLayoutSize();
+
+    synchronized (this) {
+      if (mRenderInfo == null
+          || mLastLayoutRenderInfo != mRenderInfo
+          || mLastLayoutWidthSpec != widthSpec
+          || mLastLayoutHeightSpec != heightSpec) {
+        return false;
+      }
+
+      outSize.width = mLastLayoutSize.width;
+      outSize.height = mLastLayoutSize.height;
+      return true;
+    }
+  }
+
+  /**
+   * @return whether the layout of the current {@link RenderInfo} for the given size specs is done,
+   *     as opposed to not requested or still being calculated in the background.
+   */
+  boolean hasCompletedLayout(int widthSpec, int heightSpec) {
+    synchronized (this) {
+      if (mTreeWidthSpec != widthSpec || mTreeHeightSpec != heightSpec) {
+        return false;
+      }
+    }
+
+    return updateLastLayoutSize();
+  }
+
+  /**
+   * Must not be called while holding the lock of this holder: the measure listener of the tree
+   * takes it while the tree holds its own lock.
+   *
+   * @return whether the tree holds a completed layout for the current RenderInfo.
+   */
+  private boolean updateLastLayoutSize() {
+    final ComponentTree componentTree;
+    final RenderInfo renderInfo;
+    final int widthSpec;
+    final int heightSpec;
+
+    synchronized (this) {
+      if (mComponentTree == null || !mIsTreeValid || mRenderInfo == null) {
+        return false;
+      }
+
+      componentTree = mComponentTree;
+      renderInfo = mRenderInfo;
+      widthSpec = mTreeWidthSpec;
+      heightSpec = mTreeHeightSpec;
+    }
+
+    final Size size = new Size();
+    if (!componentTree.getCompatibleLayoutSize(widthSpec, heightSpec, size)) {
+      return false;
+    }
+
+    synchronized (this) {
+      if (componentTree != mComponentTree
+          || renderInfo != mRenderInfo
+          || widthSpec != mTreeWidthSpec
+          || heightSpec != mTreeHeightSpec) {
+        return false;
+      }
+
+      setLastLayoutSize(widthSpec, heightSpec, size.width, size.height);
+      return true;
+    }
+  }
+
+  @GuardedBy("this")
+  private void setLastLayoutSize(int widthSpec, int heightSpec, int width, int height) {
+    final boolean isNewSize =
+        mLastLayoutRenderInfo != mRenderInfo
+            || mLastLayoutWidthSpec != widthSpec
+            || mLastLayoutHeightSpec != heightSpec;
+
+    mLastLayoutRenderInfo = mRenderInfo;
+    mLastLayoutWidthSpec = widthSpec;
+    mLastLayoutHeightSpec = heightSpec;
+    mLastLayoutSize.width = width;
+    mLastLayoutSize.height = height;
+
+    // Only record each item once so that items laid out repeatedly don't skew the estimates.
+    if (isNewSize && mItemSizeEstimator != null) {
+      mItemSizeEstimator.record(mRenderInfo.getComponent(), width, height);
+    }
+  }
+
+  synchronized boolean hasReleasedLayout() {
+    return mHasReleasedLayout;
+  }
+
+  int getEstimatedLayoutSizeBytes() {
+    final ComponentTree componentTree;
+    synchronized (this) {
+      componentTree = mComponentTree;
+    }
+
+    return componentTree == null ? 0 : componentTree.getEstimatedLayoutSizeBytes();
+  }
+
   synchronized int getMeasuredHeight() {
     return mLastMeasuredHeight;
   }
@@ -228,16 +416,30 @@ public class ComponentTreeHolder {
     mLastMeasuredHeight = height;
   }
 
+  synchronized boolean isBound() {
+    return mIsBound;
+  }
+
+  synchronized void setIsBound(boolean isBound) {
+    mIsBound = isBound;
+  }
+
   public synchronized void release() {
     releaseTree();
     clearStateHandler();
     mRenderInfo = null;
+    mHasReleasedLayout = false;
     mLayoutHandler = null;
     mCanPrefetchDisplayLists = false;
     mCanCacheDrawingDisplayLists = false;
     mPreallocateMountContentHandler = null;
     mShouldPreallocatePerMountSpec = false;
     mCanPreallocateOnDefaultHandler = false;
+    mComponentTreePool = null;
+    mItemSizeEstimator = null;
+    mLayoutCalculatedListener = null;
+    mLastLayoutRenderInfo = null;
+    mIsBound = false;
     sComponentTreeHoldersPool.release(this);
   }
 
@@ -246,6 +448,29 @@ public class ComponentTreeHolder {
     if (mComponentTree == null) {
       final Object clipChildrenAttr = mRenderInfo.getCustomAttribute(RenderInfo.CLIP_CHILDREN);
       final boolean clipChildren = clipChildrenAttr == null ? true : (boolean) clipChildrenAttr;
+
+      // Trees with a measure listener are bound to this holder and can't be shared.
+      mComponentTreeConfiguration =
+          mComponentTreePool == null || mComponentTreeMeasureListenerFactory != null
+              ? null
+              : new ComponentTreePool.Configuration(
+                  mLayoutHandler,
+                  mPreallocateMountContentHandler,
+                  mCanPrefetchDisplayLists,
+                  mCanCacheDrawingDisplayLists,
+                  mCanPreallocateOnDefaultHandler,
+                  mShouldPreallocatePerMountSpec,
+                  clipChildren);
+
+      if (mComponentTreeConfiguration != null) {
+        mComponentTree = mComponentTreePool.acquire(mComponentTreeConfiguration);
+        if (mComponentTree != null) {
+          mComponentTree.reuse(mRenderInfo.getComponent(), mStateHandler);
+          mComponentTree.setLayoutCalculatedListener(mLayoutCalculatedListener);
+          return;
+        }
+      }
+
       mComponentTree =
           ComponentTree.create(context, mRenderInfo.getComponent())
               .layoutThreadHandler(mLayoutHandler)
@@ -261,6 +486,7 @@ public class ComponentTreeHolder {
                       ? null
                       : mComponentTreeMeasureListenerFactory.create(this))
               .build();
+      mComponentTree.setLayoutCalculatedListener(mLayoutCalculatedListener);
     }
   }
 
@@ -268,7 +494,11 @@ public class ComponentTreeHolder {
   private void releaseTree() {
     if (mComponentTree != null) {
       mComponentTree.release();
+      if (mComponentTreeConfiguration != null) {
+        mComponentTreePool.release(mComponentTreeConfiguration, mComponentTree);
+      }
       mComponentTree = null;
+      mComponentTreeConfiguration = null;
     }
 
     mIsTreeValid = false;
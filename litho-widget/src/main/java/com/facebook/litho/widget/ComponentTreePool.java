@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2017-present, Facebook, Inc.
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree. An additional grant
+ * of patent rights can be found in the PATENTS file in the same directory.
+ */
+
+package com.facebook.litho.widget;
+
+import com.facebook.litho.ComponentTree;
+import com.facebook.litho.LayoutHandler;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Pool of released {@link ComponentTree}s that a {@link ComponentTreeHolder} can reuse (see {@link
+ * ComponentTree#reuse}) instead of building a new one every time its item comes back in range.
+ * ComponentTrees are pooled separately for each configuration they were built with, and at most
+ * maxSize of them are kept overall.
+ */
+@ThreadSafe
+class ComponentTreePool {
+
+  private final int mMaxSize;
+
+  @GuardedBy("this")
+  private final Map<Configuration, List<ComponentTree>> mPools = new HashMap<>();
+
+  @GuardedBy("this")
+  private int mSize;
+
+  ComponentTreePool(int maxSize) {
+    mMaxSize = maxSize;
+  }
+
+  @Nullable
+  synchronized ComponentTree acquire(Configuration configuration) {
+    final List<ComponentTree> pool = mPools.get(configuration);
+    if (pool == null) {
+      return null;
+    }
+
+    final ComponentTree componentTree = pool.remove(pool.size() - 1);
+    if (pool.isEmpty()) {
+      mPools.remove(configuration);
+    }
+    mSize--;
+
+    return componentTree;
+  }
+
+  /**
+   * @param componentTree a released ComponentTree, built with the given configuration.
+   * @return whether componentTree was added to the pool.
+   */
+  synchronized boolean release(Configuration configuration, ComponentTree componentTree) {
+    if (mSize >= mMaxSize) {
+      return false;
+    }
+
+    List<ComponentTree> pool = mPools.get(configuration);
+    if (pool == null) {
+      pool = new ArrayList<>();
+      mPools.put(configuration, pool);
+    }
+
+    pool.add(componentTree);
+    mSize++;
+
+    return true;
+  }
+
+  synchronized void clear() {
+    mPools.clear();
+    mSize = 0;
+  }
+
+  /** The options a {@link ComponentTreeHolder} builds its {@link ComponentTree}s with. */
+  static final class Configuration {
+
+    private final @Nullable LayoutHandler mLayoutHandler;
+    private final @Nullable LayoutHandler mPreallocateMountContentHandler;
+    private final boolean mCanPrefetchDisplayLists;
+    private final boolean mCanCacheDrawingDisplayLists;
+    private final boolean mCanPreallocateOnDefaultHandler;
+    private final boolean mShouldPreallocatePerMountSpec;
+    private final boolean mShouldClipChildren;
+
+    Configuration(
+        @Nullable LayoutHandler layoutHandler,
+        @Nullable LayoutHandler preallocateMountContentHandler,
+        boolean canPrefetchDisplayLists,
+        boolean canCacheDrawingDisplayLists,
+        boolean canPreallocateOnDefaultHandler,
+        boolean shouldPreallocatePerMountSpec,
+        boolean shouldClipChildren) {
+      mLayoutHandler = layoutHandler;
+      mPreallocateMountContentHandler = preallocateMountContentHandler;
+      mCanPrefetchDisplayLists = canPrefetchDisplayLists;
+      mCanCacheDrawingDisplayLists = canCacheDrawingDisplayLists;
+      mCanPreallocateOnDefaultHandler = canPreallocateOnDefaultHandler;
+      mShouldPreallocatePerMountSpec = shouldPreallocatePerMountSpec;
+      mShouldClipChildren = shouldClipChildren;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+
+      if (!(o instanceof Configuration)) {
+        return false;
+      }
+
+      final Configuration other = (Configuration) o;
+      // Handlers are compared by identity, trees are only interchangeable on the same threads.
+      return mLayoutHandler == other.mLayoutHandler
+          && mPreallocateMountContentHandler == other.mPreallocateMountContentHandler
+          && mCanPrefetchDisplayLists == other.mCanPrefetchDisplayLists
+          && mCanCacheDrawingDisplayLists == other.mCanCacheDrawingDisplayLists
+          && mCanPreallocateOnDefaultHandler == other.mCanPreallocateOnDefaultHandler
+          && mShouldPreallocatePerMountSpec == other.mShouldPreallocatePerMountSpec
+          && mShouldClipChildren == other.mShouldClipChildren;
+    }
+
+    @Override
+    public int hashCode() {
+      int result = System.identityHashCode(mLayoutHandler);
+      result = 31 * result + System.identityHashCode(mPreallocateMountContentHandler);
+      result = 31 * result + (mCanPrefetchDisplayLists ? 1 : 0);
+      result = 31 * result + (mCanCacheDrawingDisplayLists ? 1 : 0);
+      result = 31 * result + (mCanPreallocateOnDefaultHandler ? 1 : 0);
+      result = 31 * result + (mShouldPreallocatePerMountSpec ? 1 : 0);
+      result = 31 * result + (mShouldClipChildren ? 1 : 0);
+      return result;
+    }
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2017-present, Facebook, Inc.
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree. An additional grant
+ * of patent rights can be found in the PATENTS file in the same directory.
+ */
+
+package com.facebook.litho.widget;
+
+/**
+ * {@link RangePolicy} that lays out the same number of items before and after the viewport,
+ * regardless of how the list is scrolled.
+ */
+public class FixedRangePolicy implements RangePolicy {
+
+  private final float mRangeRatio;
+
+  /**
+   * @param rangeRatio the number of items laid out on each side of the viewport, as a multiple of
+   *     the number of items in the viewport.
+   */
+  public FixedRangePolicy(float rangeRatio) {
+    mRangeRatio = rangeRatio;
+  }
+
+  @Override
+  public void onScrolled(int scrollDelta) {}
+
+  @Override
+  public void onScrollStateChanged(int newState) {}
+
+  @Override
+  public void onItemLayoutCalculated(long durationNanos) {}
+
+  @Override
+  public void computeRange(
+      int firstVisiblePosition, int viewportCount, int itemSize, int[] outRange) {
+    final int extent = (int) (viewportCount * mRangeRatio);
+    outRange[0] = firstVisiblePosition - extent;
+    outRange[1] = firstVisiblePosition + viewportCount + extent;
+  }
+}
@@ -18,10 +18,10 @@ import android.os.Handler;
 import android.os.HandlerThread;
 import android.os.Looper;
 import android.os.Message;
-import android.support.annotation.VisibleForTesting;
 import android.text.Layout;
 import com.facebook.fbui.textlayoutbuilder.util.LayoutMeasureUtil;
 import java.lang.ref.WeakReference;
+import javax.annotation.Nullable;
 
 /**
  * A class that schedules a background draw of a {@link Layout}. Drawing a {@link Layout} in the
@@ -59,7 +59,6 @@ public class GlyphWarmer {
     mHandler = new WarmerHandler(handlerThread.getLooper());
   }
 
-  @VisibleForTesting
   Looper getWarmerLooper() {
     return mHandler.getLooper();
   }
@@ -80,14 +79,7 @@ public class GlyphWarmer {
     private WarmerHandler(Looper looper) {
       super(looper);
 
-      Picture picture;
-      try {
-        picture = new Picture();
-      } catch (RuntimeException e) {
-        picture = null;
-      }
-
-      mPicture = picture;
+      mPicture = createPicture();
     }
 
     @Override
@@ -96,22 +88,37 @@ public class GlyphWarmer {
         return;
       }
 
-      try {
-        final Layout layout = ((WeakReference<Layout>) msg.obj).get();
+      final Layout layout = ((WeakReference<Layout>) msg.obj).get();
+
+      if (layout == null) {
+        return;
+      }
 
-        if (layout == null) {
-          return;
-        }
+      drawLayout(mPicture, layout);
+    }
+  }
 
-        final Canvas canvas = mPicture.beginRecording(
-            layout.getWidth(),
-            LayoutMeasureUtil.getHeight(layout));
+  /** Draws layout into picture, which warms up the Glyph cache for that {@link Layout}. */
+  static void drawLayout(Picture picture, Layout layout) {
+    try {
+      final Canvas canvas = picture.beginRecording(
+          layout.getWidth(),
+          LayoutMeasureUtil.getHeight(layout));
+
+      layout.draw(canvas);
+      picture.endRecording();
+    } catch (Exception e) {
+      // Nothing to do here. This is a best effort. No real problem if it fails.
+    }
+  }
 
-        layout.draw(canvas);
-        mPicture.endRecording();
-      } catch (Exception e) {
-        // Nothing to do here. This is a best effort. No real problem if it fails.
-      }
+  /** @return a {@link Picture} to draw layouts into, or null if none can be created. */
+  @Nullable
+  static Picture createPicture() {
+    try {
+      return new Picture();
+    } catch (RuntimeException e) {
+      return null;
     }
   }
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2017-present, Facebook, Inc.
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree. An additional grant
+ * of patent rights can be found in the PATENTS file in the same directory.
+ */
+
+package com.facebook.litho.widget;
+
+import com.facebook.litho.Component;
+import com.facebook.litho.Size;
+import java.util.HashMap;
+import java.util.Map;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Estimates the size of the items of a {@link RecyclerBinder} that were never laid out, from the
+ * average size of the items rendering the same type of {@link Component} that were. When no item
+ * of that type was laid out yet, the average size of all the items laid out so far is used.
+ */
+@ThreadSafe
+class ItemSizeEstimator {
+
+  @GuardedBy("this")
+  private final Map<Class<?>, Average> mAveragesByType = new HashMap<>();
+
+  @GuardedBy("this")
+  private final Average mAverage = new Average();
+
+  synchronized void record(Component component, int width, int height) {
+    final Class<?> type = component.getClass();
+    Average average = mAveragesByType.get(type);
+    if (average == null) {
+      average = new Average();
+      mAveragesByType.put(type, average);
+    }
+
+    average.add(width, height);
+    mAverage.add(width, height);
+  }
+
+  /** @return whether an estimate is available for component and was set in outSize. */
+  synchronized boolean estimate(Component component, Size outSize) {
+    final Average average = mAveragesByType.get(component.getClass());
+    if (average != null) {
+      average.get(outSize);
+      return true;
+    }
+
+    if (mAverage.mCount > 0) {
+      mAverage.get(outSize);
+      return true;
+    }
+
+    return false;
+  }
+
+  synchronized void clear() {
+    mAveragesByType.clear();
+    mAverage.mCount = 0;
+    mAverage.mTotalWidth = 0;
+    mAverage.mTotalHeight = 0;
+  }
+
+  private static class Average {
+
+    private int mCount;
+    private long mTotalWidth;
+    private long mTotalHeight;
+
+    void add(int width, int height) {
+      mCount++;
+      mTotalWidth += width;
+      mTotalHeight += height;
+    }
+
+    void get(Size outSize) {
+      outSize.width = (int) (mTotalWidth / mCount);
+      outSize.height = (int) (mTotalHeight / mCount);
+    }
+  }
+}
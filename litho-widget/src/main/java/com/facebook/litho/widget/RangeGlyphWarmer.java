@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2017-present, Facebook, Inc.
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree. An additional grant
+ * of patent rights can be found in the PATENTS file in the same directory.
+ */
+
+package com.facebook.litho.widget;
+
+import android.graphics.Picture;
+import android.os.Handler;
+import android.os.Looper;
+import android.text.Layout;
+import com.facebook.litho.Component;
+import com.facebook.litho.ComponentTree;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Warms the glyphs of the {@link Text} layouts of the items a {@link RecyclerBinder} laid out in
+ * its range, on the {@link GlyphWarmer} thread, so that they are cheaper to draw when they scroll
+ * into view. Items closest to the viewport are warmed first and each {@link Layout} is only warmed
+ * once. Every range update warms at most a budget of glyphs, so that items far from the viewport
+ * don't rotate the glyph cache.
+ *
+ * <p>Drawing a {@link Layout} uses its paint, so a layout is never drawn here once its item is
+ * bound to a LithoView, where the UI thread may draw it at the same time.
+ */
+@ThreadSafe
+class RangeGlyphWarmer implements Runnable {
+
+  private final int mGlyphBudget;
+  private final Handler mHandler;
+
+  @GuardedBy("this")
+  private final List<ComponentTreeHolder> mPendingHolders = new ArrayList<>();
+
+  @GuardedBy("this")
+  private boolean mIsPosted;
+
+  // Only accessed on the warmer thread.
+  private final List<ComponentTreeHolder> mHolders = new ArrayList<>();
+  private final List<Component> mComponents = new ArrayList<>();
+  private final Map<Layout, Boolean> mWarmedLayouts = new WeakHashMap<>();
+  private final @Nullable Picture mPicture = GlyphWarmer.createPicture();
+
+  RangeGlyphWarmer(int glyphBudget) {
+    this(glyphBudget, GlyphWarmer.getInstance().getWarmerLooper());
+  }
+
+  RangeGlyphWarmer(int glyphBudget, Looper looper) {
+    mGlyphBudget = glyphBudget;
+    mHandler = new Handler(looper);
+  }
+
+  /**
+   * Schedules the text of the given items to be warmed, replacing the items of the previous range
+   * update that were not warmed yet.
+   *
+   * @param holdersByPriority the items in range, the ones closest to the viewport first.
+   */
+  void onRangeUpdated(List<ComponentTreeHolder> holdersByPriority) {
+    synchronized (this) {
+      mPendingHolders.clear();
+      mPendingHolders.addAll(holdersByPriority);
+
+      if (mIsPosted) {
+        return;
+      }
+      mIsPosted = true;
+    }
+
+    mHandler.post(this);
+  }
+
+  @Override
+  public void run() {
+    synchronized (this) {
+      mIsPosted = false;
+      mHolders.addAll(mPendingHolders);
+      mPendingHolders.clear();
+    }
+
+    if (mPicture == null) {
+      mHolders.clear();
+      return;
+    }
+
+    int remainingGlyphs = mGlyphBudget;
+    for (int i = 0, size = mHolders.size(); i < size && remainingGlyphs > 0; i++) {
+      final ComponentTreeHolder holder = mHolders.get(i);
+      final ComponentTree componentTree = holder.getComponentTree();
+      if (componentTree == null || holder.isBound()) {
+        continue;
+      }
+
+      componentTree.collectMountableComponents(mComponents);
+      for (int j = 0, count = mComponents.size(); j < count && remainingGlyphs > 0; j++) {
+        // Binding the holder waits for the layout being drawn, and stops the ones after it.
+        synchronized (holder) {
+          if (holder.isBound()) {
+            break;
+          }
+          remainingGlyphs -= warmText(mComponents.get(j));
+        }
+      }
+      mComponents.clear();
+    }
+
+    mHolders.clear();
+  }
+
+  /** @return how many glyphs were warmed. */
+  private int warmText(Component component) {
+    if (!(component instanceof Text)) {
+      return 0;
+    }
+
+    final Layout layout = ((Text) component).textLayout;
+    if (layout == null || mWarmedLayouts.containsKey(layout)) {
+      return 0;
+    }
+
+    mWarmedLayouts.put(layout, Boolean.TRUE);
+    GlyphWarmer.drawLayout(mPicture, layout);
+
+    // Text past maxLines is not laid out, only count the characters that are.
+    final int lineCount = layout.getLineCount();
+    return lineCount > 0 ? layout.getLineEnd(lineCount - 1) : 0;
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2017-present, Facebook, Inc.
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree. An additional grant
+ * of patent rights can be found in the PATENTS file in the same directory.
+ */
+
+package com.facebook.litho.widget;
+
+import android.support.v7.widget.RecyclerView;
+
+/**
+ * Decides which items of a {@link RecyclerBinder} are laid out ahead of time, and therefore ready
+ * to be mounted when they get scrolled into view. Items outside of the range are released.
+ */
+public interface RangePolicy {
+
+  /**
+   * Called on the main thread every time the {@link RecyclerView} scrolls.
+   *
+   * @param scrollDelta the distance scrolled along the scroll direction, in pixels. Positive
+   *     values move towards the last item.
+   */
+  void onScrolled(int scrollDelta);
+
+  /** Called on the main thread with the new {@link RecyclerView} scroll state. */
+  void onScrollStateChanged(int newState);
+
+  /** Called, from any thread, with how long it took to lay out an item. */
+  void onItemLayoutCalculated(long durationNanos);
+
+  /**
+   * @param firstVisiblePosition the position of the first visible item.
+   * @param viewportCount the estimated number of items that fit in the viewport.
+   * @param itemSize the estimated size of an item along the scroll direction, 0 if not known.
+   * @param outRange set to the first and the last position, inclusive, of the range.
+   */
+  void computeRange(int firstVisiblePosition, int viewportCount, int itemSize, int[] outRange);
+}
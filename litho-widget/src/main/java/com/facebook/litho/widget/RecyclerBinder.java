@@ -19,6 +19,7 @@ import static com.facebook.litho.widget.RenderInfoViewCreatorController.COMPONEN
 import android.os.Build;
 import android.os.Handler;
 import android.os.Looper;
+import android.os.MessageQueue;
 import android.support.annotation.UiThread;
 import android.support.annotation.VisibleForTesting;
 import android.support.v4.view.ViewCompat;
@@ -29,10 +30,13 @@ import android.support.v7.widget.RecyclerView.LayoutManager;
 import android.util.Log;
 import android.view.View;
 import android.view.ViewGroup;
+import com.facebook.infer.annotation.ThreadConfined;
 import com.facebook.litho.Component;
 import com.facebook.litho.ComponentContext;
 import com.facebook.litho.ComponentTree;
+import com.facebook.litho.ComponentTree.LayoutCalculatedListener;
 import com.facebook.litho.ComponentTree.MeasureListener;
+import com.facebook.litho.ComponentsPools;
 import com.facebook.litho.EventHandler;
 import com.facebook.litho.LayoutHandler;
 import com.facebook.litho.LithoView;
@@ -41,11 +45,15 @@ import com.facebook.litho.Size;
 import com.facebook.litho.SizeSpec;
 import com.facebook.litho.ThreadUtils;
 import com.facebook.litho.config.ComponentsConfiguration;
+import com.facebook.litho.dataflow.ChoreographerCompat;
+import com.facebook.litho.dataflow.ChoreographerCompatImpl;
 import com.facebook.litho.utils.DisplayListUtils;
 import com.facebook.litho.viewcompat.ViewCreator;
 import com.facebook.litho.widget.ComponentTreeHolder.ComponentTreeMeasureListenerFactory;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.GuardedBy;
@@ -79,7 +87,54 @@ public class RecyclerBinder
   // range.
   //TODO t15827349
   private final List<ComponentTreeHolder> mPendingComponentTreeHolders;
-  private final float mRangeRatio;
+
+  // ComponentTreeHolders created (and possibly laid out) by prepareOperations on a background
+  // thread, waiting for applyOperations to insert them.
+  @GuardedBy("this")
+  private final Map<RenderInfo, ComponentTreeHolder> mPreparedComponentTreeHolders =
+      new IdentityHashMap<>();
+  // Incremented every time the prepared holders are discarded, so that a preparation that is still
+  // running at that point releases the holders it creates instead of keeping them.
+  @GuardedBy("this")
+  private int mPreparedOperationsGeneration;
+  @GuardedBy("this")
+  private final StickyPositionIndex mStickyPositions = new StickyPositionIndex();
+  @GuardedBy("this")
+  private final RetainedLayoutsCache mRetainedLayouts;
+  private final @Nullable ComponentTreePool mComponentTreePool;
+  private final ItemSizeEstimator mItemSizeEstimator = new ItemSizeEstimator();
+  private final @Nullable RangeGlyphWarmer mRangeGlyphWarmer;
+  private final boolean mAsyncBindFallback;
+  // Holders bound as a placeholder, mapped to the view holder waiting for their layout.
+  @ThreadConfined(ThreadConfined.UI)
+  private final Map<ComponentTreeHolder, BaseViewHolder> mPlaceholderViewHolders =
+      new IdentityHashMap<>();
+  // Bind layouts of the frame in progress, and of the last complete frame.
+  @ThreadConfined(ThreadConfined.UI)
+  private int mSyncBindLayoutCount;
+  @ThreadConfined(ThreadConfined.UI)
+  private int mAsyncBindLayoutCount;
+  @ThreadConfined(ThreadConfined.UI)
+  private int mLastFrameSyncBindLayoutCount;
+  @ThreadConfined(ThreadConfined.UI)
+  private int mLastFrameAsyncBindLayoutCount;
+  @ThreadConfined(ThreadConfined.UI)
+  private boolean mIsBindLayoutCountsCallbackPosted;
+  private final ChoreographerCompat.FrameCallback mBindLayoutCountsCallback =
+      new ChoreographerCompat.FrameCallback() {
+        @Override
+        public void doFrame(long frameTimeNanos) {
+          onBindLayoutCountsFrame();
+        }
+      };
+  @GuardedBy("this")
+  private int mRetainedLayoutHits;
+  @GuardedBy("this")
+  private int mRetainedLayoutMisses;
+  private final RangePolicy mRangePolicy;
+  // Holds the bounds computed by mRangePolicy, reused to avoid an allocation per computation.
+  @GuardedBy("this")
+  private final int[] mTmpRange = new int[2];
   private final AtomicBoolean mIsMeasured = new AtomicBoolean(false);
   private final AtomicBoolean mRequiresRemeasure = new AtomicBoolean(false);
   private final Runnable mRemeasureRunnable = new Runnable() {
@@ -97,6 +152,25 @@ public class RecyclerBinder
     }
   };
 
+  // Fills the shared LithoView pool while the main thread is idle, one LithoView at a time.
+  private final MessageQueue.IdleHandler mPreallocateLithoViewsIdleHandler =
+      new MessageQueue.IdleHandler() {
+        @Override
+        public boolean queueIdle() {
+          return mMountedView != null
+              && ComponentsPools.maybePreallocateLithoView(mComponentContext);
+        }
+      };
+
+  // Reports the layouts of the items, sync or async, to the range policy.
+  private final LayoutCalculatedListener mLayoutCalculatedListener =
+      new LayoutCalculatedListener() {
+        @Override
+        public void onLayoutCalculated(long durationNanos) {
+          mRangePolicy.onItemLayoutCalculated(durationNanos);
+        }
+      };
+
   private final ComponentTreeMeasureListenerFactory mComponentTreeMeasureListenerFactory =
       new ComponentTreeMeasureListenerFactory() {
         @Override
@@ -212,6 +286,13 @@ public class RecyclerBinder
     private LithoViewFactory lithoViewFactory;
     private boolean isCircular;
     private boolean hasDynamicItemHeight;
+    private int retainedLayoutsCount = ComponentsConfiguration.recyclerBinderRetainedLayoutsCount;
+    private int retainedLayoutsMaxSizeBytes =
+        ComponentsConfiguration.recyclerBinderRetainedLayoutsMaxSizeBytes;
+    private int componentTreePoolSize = ComponentsConfiguration.recyclerBinderComponentTreePoolSize;
+    private boolean asyncBindFallback = ComponentsConfiguration.recyclerBinderAsyncBindFallback;
+    private @Nullable RangePolicy rangePolicy;
+    private int glyphWarmingBudget = ComponentsConfiguration.recyclerBinderGlyphWarmingBudget;
 
     /**
      * @param rangeRatio specifies how big a range this binder should try to compute. The range is
@@ -226,6 +307,16 @@ public class RecyclerBinder
       return this;
     }
 
+    /**
+     * @param rangePolicy decides which items are laid out ahead of time. The range ratio is ignored
+     *     when a policy is set. Defaults to a {@link FixedRangePolicy}, or to an {@link
+     *     AdaptiveRangePolicy} if enabled in {@link ComponentsConfiguration}.
+     */
+    public Builder rangePolicy(RangePolicy rangePolicy) {
+      this.rangePolicy = rangePolicy;
+      return this;
+    }
+
     /**
      * @param layoutInfo an implementation of {@link LayoutInfo} that will expose information about
      * the {@link LayoutManager} this RecyclerBinder will use. If not set, it will default to a
@@ -298,6 +389,52 @@ public class RecyclerBinder
       return this;
     }
 
+    /**
+     * @param retainedLayoutsCount how many layouts of items that just left the range are kept
+     *     around, so that they can be mounted right away when scrolling back. 0 (the default
+     *     unless changed in {@link ComponentsConfiguration}) releases them as soon as they leave
+     *     the range.
+     * @param retainedLayoutsMaxSizeBytes the memory budget, in estimated bytes, for those layouts.
+     *     The least recently retained layouts are released first when going over it.
+     */
+    public Builder retainedLayouts(int retainedLayoutsCount, int retainedLayoutsMaxSizeBytes) {
+      this.retainedLayoutsCount = retainedLayoutsCount;
+      this.retainedLayoutsMaxSizeBytes = retainedLayoutsMaxSizeBytes;
+      return this;
+    }
+
+    /**
+     * @param componentTreePoolSize how many released {@link ComponentTree}s this RecyclerBinder
+     *     keeps to reuse when items come back in range, instead of building new ones. 0 (the
+     *     default unless changed in {@link ComponentsConfiguration}) disables reuse.
+     */
+    public Builder componentTreePoolSize(int componentTreePoolSize) {
+      this.componentTreePoolSize = componentTreePoolSize;
+      return this;
+    }
+
+    /**
+     * @param asyncBindFallback whether items bound before their layout is ready are shown as a
+     *     placeholder of their last known or estimated size while their layout is calculated in the
+     *     background, rather than laid out synchronously on the main thread. Off unless changed in
+     *     {@link ComponentsConfiguration}.
+     */
+    public Builder asyncBindFallback(boolean asyncBindFallback) {
+      this.asyncBindFallback = asyncBindFallback;
+      return this;
+    }
+
+    /**
+     * @param glyphWarmingBudget how many glyphs of the Text layouts of the items in range are
+     *     drawn off-screen in the background each time the range changes, closest items first, so
+     *     that they are cheaper to draw when they scroll into view. 0 (the default unless changed
+     *     in {@link ComponentsConfiguration}) disables it.
+     */
+    public Builder glyphWarmingBudget(int glyphWarmingBudget) {
+      this.glyphWarmingBudget = glyphWarmingBudget;
+      return this;
+    }
+
     /** @param c The {@link ComponentContext} the RecyclerBinder will use. */
     public RecyclerBinder build(ComponentContext c) {
       componentContext = c;
@@ -317,7 +454,13 @@ public class RecyclerBinder
     mPendingComponentTreeHolders = new ArrayList<>();
     mInternalAdapter = new InternalAdapter();
 
-    mRangeRatio = builder.rangeRatio;
+    if (builder.rangePolicy != null) {
+      mRangePolicy = builder.rangePolicy;
+    } else if (ComponentsConfiguration.recyclerBinderUseAdaptiveRange) {
+      mRangePolicy = new AdaptiveRangePolicy(builder.rangeRatio);
+    } else {
+      mRangePolicy = new FixedRangePolicy(builder.rangeRatio);
+    }
     mLayoutInfo = builder.layoutInfo;
     mLayoutHandlerFactory = builder.layoutHandlerFactory;
     mLithoViewFactory = builder.lithoViewFactory;
@@ -325,6 +468,15 @@ public class RecyclerBinder
     mCanCacheDrawingDisplayLists = builder.canCacheDrawingDisplayLists;
 
     mIsCircular = builder.isCircular;
+    mAsyncBindFallback = builder.asyncBindFallback;
+    mRetainedLayouts =
+        new RetainedLayoutsCache(builder.retainedLayoutsCount, builder.retainedLayoutsMaxSizeBytes);
+    mComponentTreePool =
+        builder.componentTreePoolSize > 0
+            ? new ComponentTreePool(builder.componentTreePoolSize)
+            : null;
+    mRangeGlyphWarmer =
+        builder.glyphWarmingBudget > 0 ? new RangeGlyphWarmer(builder.glyphWarmingBudget) : null;
     mHasDynamicItemHeight =
         mLayoutInfo.getScrollDirection() == HORIZONTAL ? builder.hasDynamicItemHeight : false;
 
@@ -454,6 +606,7 @@ public class RecyclerBinder
     final int childrenWidthSpec, childrenHeightSpec;
     synchronized (this) {
       mComponentTreeHolders.add(position, holder);
+      trackInsertedStickiness(position, renderInfo);
 
       mRenderInfoViewCreatorController.maybeTrackViewCreator(renderInfo);
 
@@ -527,6 +680,7 @@ public class RecyclerBinder
         final ComponentTreeHolder holder = createComponentTreeHolder(renderInfo);
 
         mComponentTreeHolders.add(position + i, holder);
+        trackInsertedStickiness(position + i, renderInfo);
         mRenderInfoViewCreatorController.maybeTrackViewCreator(renderInfo);
 
         if (mIsMeasured.get() && holder.getRenderInfo().rendersComponent()) {
@@ -582,6 +736,7 @@ public class RecyclerBinder
 
       mRenderInfoViewCreatorController.maybeTrackViewCreator(renderInfo);
       holder.setRenderInfo(renderInfo);
+      mStickyPositions.setSticky(position, renderInfo.isSticky());
 
       if (mRange == null && mIsMeasured.get() && renderInfo.rendersComponent()) {
         // Range might not have been initialized if all previous items were views and we update
@@ -642,6 +797,7 @@ public class RecyclerBinder
         mRenderInfoViewCreatorController.maybeTrackViewCreator(newRenderInfo);
 
         holder.setRenderInfo(newRenderInfo);
+        mStickyPositions.setSticky(position + i, newRenderInfo.isSticky());
 
         if (mRange == null && mIsMeasured.get() && newRenderInfo.rendersComponent()) {
           // Range might not have been initialized if all previous items were views and we update
@@ -682,10 +838,19 @@ public class RecyclerBinder
     synchronized (this) {
       holder = mComponentTreeHolders.remove(fromPosition);
       mComponentTreeHolders.add(toPosition, holder);
+      mStickyPositions.move(fromPosition, toPosition);
+      mRetainedLayouts.remove(holder);
 
-      isNewPositionInRange = mRangeSize > 0 &&
-          toPosition >= mCurrentFirstVisiblePosition - (mRangeSize * mRangeRatio) &&
-          toPosition <= mCurrentFirstVisiblePosition + mRangeSize + (mRangeSize * mRangeRatio);
+      if (mRangeSize > 0) {
+        mRangePolicy.computeRange(
+            mCurrentFirstVisiblePosition,
+            mRangeSize,
+            getAverageItemSizeInScrollDirection(),
+            mTmpRange);
+        isNewPositionInRange = toPosition >= mTmpRange[0] && toPosition <= mTmpRange[1];
+      } else {
+        isNewPositionInRange = false;
+      }
 
       isNewPositionInVisibleRange = mRangeSize > 0 &&
           toPosition >= mCurrentFirstVisiblePosition &&
@@ -721,6 +886,8 @@ public class RecyclerBinder
     final ComponentTreeHolder holder;
     synchronized (this) {
       holder = mComponentTreeHolders.remove(position);
+      mStickyPositions.remove(position, 1);
+      mRetainedLayouts.remove(holder);
     }
     mInternalAdapter.notifyItemRemoved(position);
 
@@ -742,8 +909,10 @@ public class RecyclerBinder
     synchronized (this) {
       for (int i = 0; i < count; i++) {
         final ComponentTreeHolder holder = mComponentTreeHolders.remove(position);
+        mRetainedLayouts.remove(holder);
         holder.release();
       }
+      mStickyPositions.remove(position, count);
     }
     mInternalAdapter.notifyItemRangeRemoved(position, count);
 
@@ -753,6 +922,435 @@ public class RecyclerBinder
         mViewportManager.isRemoveInVisibleRange(position, count));
   }
 
+  /**
+   * Applies a batch of operations at once. The data of this binder is updated for all the
+   * operations under a single lock acquisition, the range is computed only once after the whole
+   * batch has been applied and the {@link RecyclerView} receives one notification per run of
+   * adjacent operations of the same type. As when they are applied one by one, layouts are computed
+   * synchronously for the inserted, updated and moved items that fall in the visible range, and the
+   * layouts of the items moved out of the range are released. All the other new and updated items
+   * are laid out asynchronously as part of the range computation.
+   */
+  @UiThread
+  public final void applyOperations(List<RecyclerBinderOperation> operations) {
+    ThreadUtils.assertMainThread();
+
+    if (operations.isEmpty()) {
+      return;
+    }
+
+    final boolean doNotifyItemChanged = !ComponentsConfiguration.sectionsNoNotifyItemChanged;
+    final AdapterNotifications notifications = new AdapterNotifications();
+    final List<ComponentTreeHolder> removedHolders = new ArrayList<>();
+    final List<ComponentTreeHolder> visibleInsertedHolders = new ArrayList<>();
+    final List<ComponentTreeHolder> visibleUpdatedHolders = new ArrayList<>();
+    final List<ComponentTreeHolder> visibleMovedHolders = new ArrayList<>();
+    final List<ComponentTreeHolder> outOfRangeMovedHolders = new ArrayList<>();
+    int rangeStart = 0;
+    int rangeEnd = -1;
+    boolean hasComputedRange = false;
+    boolean shouldRequestUpdate = false;
+    boolean isDataChangeVisible = false;
+
+    synchronized (this) {
+      for (int i = 0, size = operations.size(); i < size; i++) {
+        final RecyclerBinderOperation operation = operations.get(i);
+        final int index = operation.getIndex();
+        final int count = operation.getCount();
+
+        switch (operation.getType()) {
+          case RecyclerBinderOperation.INSERT:
+            assertNoInsertOperationIfCircular();
+            final List<RenderInfo> insertedRenderInfos = operation.getRenderInfos();
+            for (int j = 0; j < count; j++) {
+              final RenderInfo renderInfo = insertedRenderInfos.get(j);
+              final ComponentTreeHolder holder = obtainComponentTreeHolder(renderInfo);
+
+              mComponentTreeHolders.add(index + j, holder);
+              trackInsertedStickiness(index + j, renderInfo);
+              mRenderInfoViewCreatorController.maybeTrackViewCreator(renderInfo);
+
+              if (mIsMeasured.get() && renderInfo.rendersComponent()) {
+                if (mRange == null && !mRequiresRemeasure.get()) {
+                  initRange(
+                      mMeasuredSize.width,
+                      mMeasuredSize.height,
+                      index + j,
+                      getActualChildrenWidthSpec(holder),
+                      getActualChildrenHeightSpec(holder),
+                      mLayoutInfo.getScrollDirection());
+                } else if (mRequiresRemeasure.get()) {
+                  shouldRequestUpdate = true;
+                } else if (isInVisibleRange(index + j) && !holder.isTreeValid()) {
+                  visibleInsertedHolders.add(holder);
+                }
+              }
+            }
+
+            notifications.add(RecyclerBinderOperation.INSERT, index, count);
+            isDataChangeVisible |=
+                mViewportManager.isInsertInVisibleRange(
+                    index, count, mRange != null ? mRange.estimatedViewportCount : -1);
+            break;
+
+          case RecyclerBinderOperation.UPDATE:
+            final List<RenderInfo> updatedRenderInfos = operation.getRenderInfos();
+            for (int j = 0; j < count; j++) {
+              final ComponentTreeHolder holder = mComponentTreeHolders.get(index + j);
+              final RenderInfo renderInfo = updatedRenderInfos.get(j);
+
+              // If this item is rendered with a view (or was rendered with a view before now) we
+              // need to notify the RecyclerView's adapter that something changed.
+              final boolean notifyItemChanged =
+                  doNotifyItemChanged
+                      || renderInfo.rendersView()
+                      || holder.getRenderInfo().rendersView();
+              if (notifyItemChanged) {
+                notifications.add(RecyclerBinderOperation.UPDATE, index + j, 1);
+                if (mRange != null && isInVisibleRange(index + j)) {
+                  visibleUpdatedHolders.add(holder);
+                }
+              }
+
+              mRenderInfoViewCreatorController.maybeTrackViewCreator(renderInfo);
+              holder.setRenderInfo(renderInfo);
+              mStickyPositions.setSticky(index + j, renderInfo.isSticky());
+
+              if (mRange == null && mIsMeasured.get() && renderInfo.rendersComponent()) {
+                // Range might not have been initialized if all previous items were views and we
+                // update one of them to be a component.
+                initRange(
+                    mMeasuredSize.width,
+                    mMeasuredSize.height,
+                    index + j,
+                    getActualChildrenWidthSpec(holder),
+                    getActualChildrenHeightSpec(holder),
+                    mLayoutInfo.getScrollDirection());
+              }
+            }
+
+            isDataChangeVisible |= mViewportManager.isUpdateInVisibleRange(index, count);
+            break;
+
+          case RecyclerBinderOperation.REMOVE:
+            assertNoRemoveOperationIfCircular(count);
+            for (int j = 0; j < count; j++) {
+              final ComponentTreeHolder holder = mComponentTreeHolders.remove(index);
+              mRetainedLayouts.remove(holder);
+              removedHolders.add(holder);
+            }
+            mStickyPositions.remove(index, count);
+
+            notifications.add(RecyclerBinderOperation.REMOVE, index, count);
+            isDataChangeVisible |= mViewportManager.isRemoveInVisibleRange(index, count);
+            break;
+
+          case RecyclerBinderOperation.MOVE:
+            final int toIndex = operation.getToIndex();
+            final ComponentTreeHolder movedHolder = mComponentTreeHolders.remove(index);
+            mComponentTreeHolders.add(toIndex, movedHolder);
+            mStickyPositions.move(index, toIndex);
+            mRetainedLayouts.remove(movedHolder);
+
+            if (mRange != null && mRange.estimatedViewportCount > 0) {
+              if (!hasComputedRange) {
+                mRangePolicy.computeRange(
+                    mCurrentFirstVisiblePosition,
+                    mRange.estimatedViewportCount,
+                    getAverageItemSizeInScrollDirection(),
+                    mTmpRange);
+                rangeStart = mTmpRange[0];
+                rangeEnd = mTmpRange[1];
+                hasComputedRange = true;
+              }
+
+              if (toIndex < rangeStart || toIndex > rangeEnd) {
+                outOfRangeMovedHolders.add(movedHolder);
+              } else if (toIndex >= mCurrentFirstVisiblePosition
+                  && toIndex <= mCurrentFirstVisiblePosition + mRange.estimatedViewportCount) {
+                visibleMovedHolders.add(movedHolder);
+              }
+            } else {
+              outOfRangeMovedHolders.add(movedHolder);
+            }
+
+            notifications.add(RecyclerBinderOperation.MOVE, index, toIndex);
+            isDataChangeVisible |=
+                mViewportManager.isMoveInVisibleRange(
+                    index, toIndex, mRange != null ? mRange.estimatedViewportCount : -1);
+            break;
+        }
+      }
+    }
+
+    computeLayoutsSync(visibleInsertedHolders);
+    computeLayoutsSync(visibleUpdatedHolders);
+
+    for (int i = 0, size = outOfRangeMovedHolders.size(); i < size; i++) {
+      final ComponentTreeHolder holder = outOfRangeMovedHolders.get(i);
+      if (holder.isTreeValid()) {
+        holder.acquireStateHandlerAndReleaseTree();
+      }
+    }
+
+    for (int i = visibleMovedHolders.size() - 1; i >= 0; i--) {
+      if (visibleMovedHolders.get(i).isTreeValid()) {
+        visibleMovedHolders.remove(i);
+      }
+    }
+    computeLayoutsSync(visibleMovedHolders);
+
+    notifications.dispatch(mInternalAdapter);
+
+    for (int i = 0, size = removedHolders.size(); i < size; i++) {
+      removedHolders.get(i).release();
+    }
+
+    if (shouldRequestUpdate) {
+      requestUpdate();
+    }
+
+    computeRange(mCurrentFirstVisiblePosition, mCurrentLastVisiblePosition);
+
+    mViewportManager.setDataChangedIsVisible(isDataChangeVisible);
+  }
+
+  private void computeLayoutsSync(List<ComponentTreeHolder> holders) {
+    for (int i = 0, size = holders.size(); i < size; i++) {
+      final ComponentTreeHolder holder = holders.get(i);
+      final int childrenWidthSpec, childrenHeightSpec;
+      synchronized (this) {
+        childrenWidthSpec = getActualChildrenWidthSpec(holder);
+        childrenHeightSpec = getActualChildrenHeightSpec(holder);
+      }
+
+      holder.computeLayoutSync(mComponentContext, childrenWidthSpec, childrenHeightSpec, null);
+    }
+  }
+
+  /**
+   * Prepares the items inserted by operations ahead of {@link #applyOperations(List)}: their
+   * {@link ComponentTreeHolder}s are created and, for the items that will fall in the current
+   * layout range, their layouts are computed on the calling thread. This way applying the same
+   * operations on the main thread only has to update the adapter and lay out what is visible and
+   * was not prepared yet.
+   *
+   * <p>This can be called from any thread. The operations should be applied after it completes,
+   * otherwise the holders it creates are only released by {@link #discardPreparedOperations()}.
+   */
+  public final void prepareOperations(List<RecyclerBinderOperation> operations) {
+    final int rangeStart;
+    final int rangeEnd;
+    final int generation;
+
+    synchronized (this) {
+      generation = mPreparedOperationsGeneration;
+      if (!mIsMeasured.get() || mRequiresRemeasure.get() || mRange == null) {
+        return;
+      }
+
+      int firstVisible = mCurrentFirstVisiblePosition;
+      int lastVisible = mCurrentLastVisiblePosition;
+      if (firstVisible == RecyclerView.NO_POSITION || lastVisible == RecyclerView.NO_POSITION) {
+        firstVisible = lastVisible = 0;
+      }
+
+      computeRangeBounds(firstVisible, lastVisible, mTmpRange);
+      rangeStart = mTmpRange[0];
+      rangeEnd = mTmpRange[1];
+    }
+
+    for (int i = 0, size = operations.size(); i < size; i++) {
+      final RecyclerBinderOperation operation = operations.get(i);
+      if (operation.getType() != RecyclerBinderOperation.INSERT) {
+        continue;
+      }
+
+      final List<RenderInfo> renderInfos = operation.getRenderInfos();
+      for (int j = 0, count = operation.getCount(); j < count; j++) {
+        final RenderInfo renderInfo = renderInfos.get(j);
+        final int position = operation.getIndex() + j;
+        if (!renderInfo.rendersComponent()
+            || (!mIsCircular && (position < rangeStart || position > rangeEnd))) {
+          continue;
+        }
+
+        final ComponentTreeHolder holder = createComponentTreeHolder(renderInfo);
+        final int childrenWidthSpec, childrenHeightSpec;
+        synchronized (this) {
+          childrenWidthSpec = getActualChildrenWidthSpec(holder);
+          childrenHeightSpec = getActualChildrenHeightSpec(holder);
+        }
+
+        holder.computeLayoutSync(mComponentContext, childrenWidthSpec, childrenHeightSpec, null);
+
+        final boolean isDiscarded;
+        synchronized (this) {
+          isDiscarded = generation != mPreparedOperationsGeneration;
+          if (!isDiscarded) {
+            mPreparedComponentTreeHolders.put(renderInfo, holder);
+          }
+        }
+
+        if (isDiscarded) {
+          holder.release();
+          return;
+        }
+      }
+    }
+  }
+
+  /**
+   * Releases the {@link ComponentTreeHolder}s created by {@link #prepareOperations(List)} that
+   * haven't been inserted yet. Call it when the prepared operations are not going to be applied, a
+   * preparation that is still running releases the holders it creates from now on.
+   */
+  public final void discardPreparedOperations() {
+    final List<ComponentTreeHolder> preparedHolders;
+    synchronized (this) {
+      mPreparedOperationsGeneration++;
+      if (mPreparedComponentTreeHolders.isEmpty()) {
+        return;
+      }
+
+      preparedHolders = new ArrayList<>(mPreparedComponentTreeHolders.values());
+      mPreparedComponentTreeHolders.clear();
+    }
+
+    for (int i = 0, size = preparedHolders.size(); i < size; i++) {
+      preparedHolders.get(i).release();
+    }
+  }
+
+  @GuardedBy("this")
+  private void trackInsertedStickiness(int position, RenderInfo renderInfo) {
+    mStickyPositions.insert(position, 1);
+    if (renderInfo.isSticky()) {
+      mStickyPositions.setSticky(position, true);
+    }
+  }
+
+  @GuardedBy("this")
+  private ComponentTreeHolder obtainComponentTreeHolder(RenderInfo renderInfo) {
+    final ComponentTreeHolder preparedHolder = mPreparedComponentTreeHolders.isEmpty()
+        ? null
+        : mPreparedComponentTreeHolders.remove(renderInfo);
+
+    return preparedHolder != null ? preparedHolder : createComponentTreeHolder(renderInfo);
+  }
+
+  @GuardedBy("this")
+  private boolean isInVisibleRange(int position) {
+    final int firstVisiblePosition = Math.max(mCurrentFirstVisiblePosition, 0);
+    return position >= firstVisiblePosition
+        && position < firstVisiblePosition + mRange.estimatedViewportCount;
+  }
+
+  /**
+   * Collects the adapter notifications for a batch of operations, merging each notification with
+   * the previous one when they touch adjacent positions and have the same type.
+   */
+  private static class AdapterNotifications {
+
+    // Each notification is stored as three ints: type, position and count (or toPosition for
+    // moves).
+    private int[] mNotifications = new int[3 * 4];
+    private int mSize;
+
+    void add(@RecyclerBinderOperation.Type int type, int position, int countOrToPosition) {
+      if (mSize > 0
+          && mNotifications[mSize - 3] == type
+          && merge(type, position, countOrToPosition)) {
+        return;
+      }
+
+      if (mSize + 3 > mNotifications.length) {
+        final int[] notifications = new int[mNotifications.length * 2];
+        System.arraycopy(mNotifications, 0, notifications, 0, mSize);
+        mNotifications = notifications;
+      }
+
+      mNotifications[mSize++] = type;
+      mNotifications[mSize++] = position;
+      mNotifications[mSize++] = countOrToPosition;
+    }
+
+    private boolean merge(int type, int position, int count) {
+      final int lastPosition = mNotifications[mSize - 2];
+      final int lastCount = mNotifications[mSize - 1];
+
+      switch (type) {
+        case RecyclerBinderOperation.INSERT:
+          if (position >= lastPosition && position <= lastPosition + lastCount) {
+            mNotifications[mSize - 1] = lastCount + count;
+            return true;
+          }
+          return false;
+
+        case RecyclerBinderOperation.REMOVE:
+          if (position == lastPosition) {
+            mNotifications[mSize - 1] = lastCount + count;
+            return true;
+          } else if (position + count == lastPosition) {
+            mNotifications[mSize - 2] = position;
+            mNotifications[mSize - 1] = lastCount + count;
+            return true;
+          }
+          return false;
+
+        case RecyclerBinderOperation.UPDATE:
+          if (position >= lastPosition && position + count <= lastPosition + lastCount) {
+            return true;
+          } else if (position == lastPosition + lastCount) {
+            mNotifications[mSize - 1] = lastCount + count;
+            return true;
+          } else if (position + count == lastPosition) {
+            mNotifications[mSize - 2] = position;
+            mNotifications[mSize - 1] = lastCount + count;
+            return true;
+          }
+          return false;
+
+        default:
+          return false;
+      }
+    }
+
+    void dispatch(RecyclerView.Adapter adapter) {
+      for (int i = 0; i < mSize; i += 3) {
+        final int position = mNotifications[i + 1];
+        final int countOrToPosition = mNotifications[i + 2];
+
+        switch (mNotifications[i]) {
+          case RecyclerBinderOperation.INSERT:
+            if (countOrToPosition == 1) {
+              adapter.notifyItemInserted(position);
+            } else {
+              adapter.notifyItemRangeInserted(position, countOrToPosition);
+            }
+            break;
+          case RecyclerBinderOperation.UPDATE:
+            if (countOrToPosition == 1) {
+              adapter.notifyItemChanged(position);
+            } else {
+              adapter.notifyItemRangeChanged(position, countOrToPosition);
+            }
+            break;
+          case RecyclerBinderOperation.REMOVE:
+            if (countOrToPosition == 1) {
+              adapter.notifyItemRemoved(position);
+            } else {
+              adapter.notifyItemRangeRemoved(position, countOrToPosition);
+            }
+            break;
+          case RecyclerBinderOperation.MOVE:
+            adapter.notifyItemMoved(position, countOrToPosition);
+            break;
+        }
+      }
+    }
+  }
+
   /**
    * Returns the {@link ComponentTree} for the item at index position. TODO 16212132 remove
    * getComponentAt from binder
@@ -990,6 +1588,19 @@ public class RecyclerBinder
       mComponentTreeHolders.get(i).invalidateTree();
     }
 
+    for (ComponentTreeHolder holder : mPreparedComponentTreeHolders.values()) {
+      holder.invalidateTree();
+    }
+
+    mItemSizeEstimator.clear();
+
+    // The retained layouts were computed for the old size, there is no point in keeping them.
+    final List<ComponentTreeHolder> evictedHolders = new ArrayList<>();
+    mRetainedLayouts.evictAll(evictedHolders);
+    for (int i = 0, size = evictedHolders.size(); i < size; i++) {
+      evictedHolders.get(i).acquireStateHandlerAndReleaseTree();
+    }
+
     // We need to call this as we want to make sure everything is re-bound since we need new sizes
     // on all rows.
     if (Looper.myLooper() == Looper.getMainLooper()) {
@@ -1105,6 +1716,10 @@ public class RecyclerBinder
     final LayoutManager layoutManager = mLayoutInfo.getLayoutManager();
 
     view.setLayoutManager(layoutManager);
+    if (usesSharedLithoViewPool()) {
+      view.setRecycledViewPool(new SharedLithoViewRecycledViewPool(mComponentContext));
+      Looper.myQueue().addIdleHandler(mPreallocateLithoViewsIdleHandler);
+    }
     view.setAdapter(mInternalAdapter);
     view.addOnScrollListener(mRangeScrollListener);
     view.addOnScrollListener(mViewportManager.getScrollListener());
@@ -1181,6 +1796,11 @@ public class RecyclerBinder
     view.removeOnScrollListener(mViewportManager.getScrollListener());
     view.setAdapter(null);
     view.setLayoutManager(null);
+    if (view.getRecycledViewPool() instanceof SharedLithoViewRecycledViewPool) {
+      // The LithoViews went back to the shared pool with the adapter, drop the RecyclerView's own.
+      view.setRecycledViewPool(null);
+      Looper.myQueue().removeIdleHandler(mPreallocateLithoViewsIdleHandler);
+    }
 
     mViewportManager.removeViewportChangedListener(mViewportChangedListener);
 
@@ -1196,6 +1816,14 @@ public class RecyclerBinder
     }
 
     mLayoutInfo.setRenderInfoCollection(null);
+
+    // Don't keep the layouts prepared for items that aren't inserted yet while detached, if they
+    // are inserted later on they are simply created again.
+    discardPreparedOperations();
+
+    if (mComponentTreePool != null) {
+      mComponentTreePool.clear();
+    }
   }
 
   @UiThread
@@ -1271,6 +1899,18 @@ public class RecyclerBinder
     return mComponentTreeHolders.get(position).getRenderInfo().isSticky();
   }
 
+  @Override
+  @UiThread
+  public synchronized int findStickyHeaderPosition(int position) {
+    return mStickyPositions.floor(position);
+  }
+
+  @Override
+  @UiThread
+  public synchronized int findNextStickyHeaderPosition(int position) {
+    return mStickyPositions.ceiling(position);
+  }
+
   @Override
   @UiThread
   @GuardedBy("this")
@@ -1309,7 +1949,6 @@ public class RecyclerBinder
   }
 
   private void computeRange(int firstVisible, int lastVisible) {
-    final int rangeSize;
     final int rangeStart;
     final int rangeEnd;
     final int treeHoldersSize;
@@ -1322,13 +1961,79 @@ public class RecyclerBinder
       if (firstVisible == RecyclerView.NO_POSITION || lastVisible == RecyclerView.NO_POSITION) {
         firstVisible = lastVisible = 0;
       }
-      rangeSize = Math.max(mRange.estimatedViewportCount, lastVisible - firstVisible);
-      rangeStart = firstVisible - (int) (rangeSize * mRangeRatio);
-      rangeEnd = firstVisible + rangeSize + (int) (rangeSize * mRangeRatio);
+      computeRangeBounds(firstVisible, lastVisible, mTmpRange);
+      rangeStart = mTmpRange[0];
+      rangeEnd = mTmpRange[1];
       treeHoldersSize = mComponentTreeHolders.size();
     }
 
     computeRangeLayout(treeHoldersSize, rangeStart, rangeEnd, mIsCircular);
+
+    if (mRangeGlyphWarmer != null) {
+      warmRangeGlyphs(firstVisible, lastVisible, rangeStart, rangeEnd);
+    }
+  }
+
+  /**
+   * Hands the items in range but outside of the viewport to the {@link RangeGlyphWarmer}, in order
+   * of distance from the viewport. Visible items were already drawn, so their glyphs are cached.
+   */
+  private void warmRangeGlyphs(int firstVisible, int lastVisible, int rangeStart, int rangeEnd) {
+    final List<ComponentTreeHolder> holdersByPriority = new ArrayList<>();
+
+    synchronized (this) {
+      final int start = Math.max(0, rangeStart);
+      final int end = Math.min(mComponentTreeHolders.size() - 1, rangeEnd);
+      if (start > end) {
+        return;
+      }
+
+      final int visibleStart = Math.min(end, Math.max(start, firstVisible));
+      final int visibleEnd = Math.min(end, Math.max(visibleStart, lastVisible));
+
+      for (int distance = 1;
+          visibleEnd + distance <= end || visibleStart - distance >= start;
+          distance++) {
+        if (visibleEnd + distance <= end) {
+          addHolderToWarm(mComponentTreeHolders.get(visibleEnd + distance), holdersByPriority);
+        }
+        if (visibleStart - distance >= start) {
+          addHolderToWarm(mComponentTreeHolders.get(visibleStart - distance), holdersByPriority);
+        }
+      }
+    }
+
+    mRangeGlyphWarmer.onRangeUpdated(holdersByPriority);
+  }
+
+  private static void addHolderToWarm(
+      ComponentTreeHolder holder, List<ComponentTreeHolder> holdersByPriority) {
+    // Items bound to a LithoView, like the ones in the RecyclerView cache, may be drawn at any time.
+    if (!holder.getRenderInfo().rendersView() && !holder.isBound()) {
+      holdersByPriority.add(holder);
+    }
+  }
+
+  @GuardedBy("this")
+  private void computeRangeBounds(int firstVisible, int lastVisible, int[] outRange) {
+    final int rangeSize = Math.max(mRange.estimatedViewportCount, lastVisible - firstVisible);
+    mRangePolicy.computeRange(
+        firstVisible, rangeSize, getAverageItemSizeInScrollDirection(), outRange);
+  }
+
+  /**
+   * @return the average size of an item along the scroll direction, estimated from the number of
+   *     items that fit in the viewport. 0 if the binder wasn't measured yet.
+   */
+  @GuardedBy("this")
+  private int getAverageItemSizeInScrollDirection() {
+    if (mRange == null || mMeasuredSize == null || mRange.estimatedViewportCount <= 0) {
+      return 0;
+    }
+
+    final int viewportSize =
+        mLayoutInfo.getScrollDirection() == VERTICAL ? mMeasuredSize.height : mMeasuredSize.width;
+    return viewportSize / mRange.estimatedViewportCount;
   }
 
   private void computeRangeLayout(
@@ -1337,6 +2042,7 @@ public class RecyclerBinder
     for (int i = 0; i < treeHoldersSize; i++) {
       final ComponentTreeHolder holder;
       final int childrenWidthSpec, childrenHeightSpec;
+      final boolean isInRange = ignoreRange || (i >= rangeStart && i <= rangeEnd);
 
       synchronized (this) {
         // Someone modified the ComponentsTreeHolders while we were computing this range. We
@@ -1351,24 +2057,108 @@ public class RecyclerBinder
           continue;
         }
 
+        if (isInRange) {
+          if (mRetainedLayouts.remove(holder)) {
+            mRetainedLayoutHits++;
+          } else if (holder.hasReleasedLayout() && !holder.isTreeValid()) {
+            mRetainedLayoutMisses++;
+          }
+        }
+
         childrenWidthSpec = getActualChildrenWidthSpec(holder);
         childrenHeightSpec = getActualChildrenHeightSpec(holder);
       }
 
-      if (ignoreRange) {
+      if (isInRange) {
         if (!holder.isTreeValid()) {
           holder.computeLayoutAsync(mComponentContext, childrenWidthSpec, childrenHeightSpec);
         }
-      } else {
-        if (i >= rangeStart && i <= rangeEnd) {
-          if (!holder.isTreeValid()) {
-            holder.computeLayoutAsync(mComponentContext, childrenWidthSpec, childrenHeightSpec);
-          }
-        } else if (holder.isTreeValid() && !holder.getRenderInfo().isSticky()) {
-          holder.acquireStateHandlerAndReleaseTree();
-        }
+      } else if (holder.isTreeValid() && !holder.getRenderInfo().isSticky()) {
+        releaseOrRetainLayout(holder);
+      }
+    }
+  }
+
+  private void releaseOrRetainLayout(ComponentTreeHolder holder) {
+    final boolean retainLayouts;
+    synchronized (this) {
+      if (mRetainedLayouts.contains(holder)) {
+        return;
+      }
+      retainLayouts = mRetainedLayouts.isEnabled();
+    }
+
+    if (!retainLayouts) {
+      holder.acquireStateHandlerAndReleaseTree();
+      return;
+    }
+
+    final int sizeBytes = holder.getEstimatedLayoutSizeBytes();
+    final List<ComponentTreeHolder> evictedHolders = new ArrayList<>();
+    synchronized (this) {
+      mRetainedLayouts.retain(holder, sizeBytes, evictedHolders);
+    }
+
+    for (int i = 0, size = evictedHolders.size(); i < size; i++) {
+      evictedHolders.get(i).acquireStateHandlerAndReleaseTree();
+    }
+  }
+
+  /**
+   * @return how many times an item came back in range while its layout was still retained, see
+   *     {@link Builder#retainedLayouts(int, int)}.
+   */
+  public synchronized int getRetainedLayoutHitCount() {
+    return mRetainedLayoutHits;
+  }
+
+  /**
+   * @return how many times an item came back in range after its layout had been released, and had
+   *     to be laid out again.
+   */
+  public synchronized int getRetainedLayoutMissCount() {
+    return mRetainedLayoutMisses;
+  }
+
+  /**
+   * Sets in outSize the size of the item at position: the size of its last layout, which is known
+   * even after the item left the range, or else an estimate based on the items rendering the same
+   * type of component that were laid out so far.
+   *
+   * @return whether the size of the item is known or could be estimated. Items rendering views are
+   *     never estimated.
+   */
+  public boolean getEstimatedItemSize(int position, Size outSize) {
+    final ComponentTreeHolder holder;
+    final int childrenWidthSpec, childrenHeightSpec;
+    synchronized (this) {
+      if (!mIsMeasured.get() || !isValidPosition(position)) {
+        return false;
       }
+
+      holder = mComponentTreeHolders.get(position);
+      childrenWidthSpec = getActualChildrenWidthSpec(holder);
+      childrenHeightSpec = getActualChildrenHeightSpec(holder);
     }
+
+    return getEstimatedItemSize(holder, childrenWidthSpec, childrenHeightSpec, outSize);
+  }
+
+  /**
+   * Not called while holding the lock of the binder, since querying the size of the last layout of
+   * the holder takes the lock of its ComponentTree, whose measure listener takes the lock of the
+   * binder.
+   */
+  private boolean getEstimatedItemSize(
+      ComponentTreeHolder holder, int childrenWidthSpec, int childrenHeightSpec, Size outSize) {
+    // The holder may have been released since it was taken from the binder.
+    final RenderInfo renderInfo = holder.getRenderInfo();
+    if (renderInfo == null || !renderInfo.rendersComponent()) {
+      return false;
+    }
+
+    return holder.getLastLayoutSize(childrenWidthSpec, childrenHeightSpec, outSize)
+        || mItemSizeEstimator.estimate(renderInfo.getComponent(), outSize);
   }
 
   @VisibleForTesting
@@ -1410,12 +2200,29 @@ public class RecyclerBinder
       if (mCanPrefetchDisplayLists) {
         DisplayListUtils.prefetchDisplayLists(recyclerView);
       }
+
+      int scrollDelta = mLayoutInfo.getScrollDirection() == VERTICAL ? dy : dx;
+      final RecyclerView.LayoutManager layoutManager = recyclerView.getLayoutManager();
+      if (layoutManager instanceof LinearLayoutManager
+          && ((LinearLayoutManager) layoutManager).getReverseLayout()) {
+        scrollDelta = -scrollDelta;
+      }
+      mRangePolicy.onScrolled(scrollDelta);
+    }
+
+    @Override
+    public void onScrollStateChanged(RecyclerView recyclerView, int newState) {
+      mRangePolicy.onScrollStateChanged(newState);
     }
   }
 
   private class BaseViewHolder extends RecyclerView.ViewHolder {
 
     private final boolean isLithoViewType;
+    // The holder this view shows a placeholder for, until its layout is ready.
+    private @Nullable ComponentTreeHolder placeholderFor;
+    // The holder whose ComponentTree is set on this view.
+    private @Nullable ComponentTreeHolder boundTo;
 
     public BaseViewHolder(View view, boolean isLithoViewType) {
       super(view);
@@ -1440,10 +2247,16 @@ public class RecyclerBinder
         view.setLayoutParams(layoutParams);
         return new BaseViewHolder(view, false);
       } else {
-        final LithoView lithoView =
-            mLithoViewFactory == null
-                ? new LithoView(mComponentContext, null)
-                : mLithoViewFactory.createLithoView(mComponentContext);
+        LithoView lithoView = null;
+        if (mLithoViewFactory != null) {
+          lithoView = mLithoViewFactory.createLithoView(mComponentContext);
+        } else if (usesSharedLithoViewPool()) {
+          lithoView = ComponentsPools.acquireLithoView(mComponentContext);
+        }
+
+        if (lithoView == null) {
+          lithoView = new LithoView(mComponentContext, null);
+        }
 
         return new BaseViewHolder(lithoView, true);
       }
@@ -1457,44 +2270,32 @@ public class RecyclerBinder
       // This read only happens on the UiThread as well and we are never writing this here.
       final ComponentTreeHolder componentTreeHolder = mComponentTreeHolders.get(position);
 
+      clearPlaceholder(holder);
+
       final RenderInfo renderInfo = componentTreeHolder.getRenderInfo();
       if (renderInfo.rendersComponent()) {
-        final LithoView lithoView = (LithoView) holder.itemView;
         final int childrenWidthSpec = getActualChildrenWidthSpec(componentTreeHolder);
         final int childrenHeightSpec = getActualChildrenHeightSpec(componentTreeHolder);
+
+        if (mAsyncBindFallback
+            && !componentTreeHolder.hasCompletedLayout(childrenWidthSpec, childrenHeightSpec)) {
+          if (!componentTreeHolder.isTreeValid()) {
+            componentTreeHolder.computeLayoutAsync(
+                mComponentContext, childrenWidthSpec, childrenHeightSpec);
+          }
+          bindPlaceholder(
+              holder, componentTreeHolder, position, childrenWidthSpec, childrenHeightSpec);
+          return;
+        }
+
         if (!componentTreeHolder.isTreeValid()) {
+          mSyncBindLayoutCount++;
+          maybePostBindLayoutCountsCallback();
           componentTreeHolder.computeLayoutSync(
               mComponentContext, childrenWidthSpec, childrenHeightSpec, null);
         }
-        final boolean isOrientationVertical =
-            mLayoutInfo.getScrollDirection() == OrientationHelper.VERTICAL;
-
-        final int width;
-        final int height;
-        if (SizeSpec.getMode(childrenWidthSpec) == SizeSpec.EXACTLY) {
-          width = SizeSpec.getSize(childrenWidthSpec);
-        } else if (isOrientationVertical) {
-          width = MATCH_PARENT;
-        } else {
-          width = WRAP_CONTENT;
-        }
 
-        if (SizeSpec.getMode(childrenHeightSpec) == SizeSpec.EXACTLY) {
-          height = SizeSpec.getSize(childrenHeightSpec);
-        } else if (isOrientationVertical) {
-          height = WRAP_CONTENT;
-        } else {
-          height = MATCH_PARENT;
-        }
-
-        lithoView.setLayoutParams(new RecyclerView.LayoutParams(width, height));
-
-        final RecyclerViewLayoutManagerOverrideParams layoutParams =
-            new RecyclerViewLayoutManagerOverrideParams(
-                width, height, childrenWidthSpec, childrenHeightSpec);
-
-        lithoView.setLayoutParams(layoutParams);
-        lithoView.setComponentTree(componentTreeHolder.getComponentTree());
+        bindComponentTree(holder, componentTreeHolder, childrenWidthSpec, childrenHeightSpec);
       } else {
         renderInfo.getViewBinder().bind(holder.itemView);
       }
@@ -1524,11 +2325,248 @@ public class RecyclerBinder
 
     @Override
     public void onViewRecycled(BaseViewHolder holder) {
+      clearPlaceholder(holder);
       if (holder.isLithoViewType) {
         final LithoView lithoView = (LithoView) holder.itemView;
         lithoView.setComponentTree(null);
+        unbindComponentTree(holder);
+      }
+    }
+  }
+
+  @UiThread
+  private void bindComponentTree(
+      BaseViewHolder viewHolder,
+      ComponentTreeHolder componentTreeHolder,
+      int childrenWidthSpec,
+      int childrenHeightSpec) {
+    final LithoView lithoView = (LithoView) viewHolder.itemView;
+    final boolean isOrientationVertical =
+        mLayoutInfo.getScrollDirection() == OrientationHelper.VERTICAL;
+
+    final int width;
+    final int height;
+    if (SizeSpec.getMode(childrenWidthSpec) == SizeSpec.EXACTLY) {
+      width = SizeSpec.getSize(childrenWidthSpec);
+    } else if (isOrientationVertical) {
+      width = MATCH_PARENT;
+    } else {
+      width = WRAP_CONTENT;
+    }
+
+    if (SizeSpec.getMode(childrenHeightSpec) == SizeSpec.EXACTLY) {
+      height = SizeSpec.getSize(childrenHeightSpec);
+    } else if (isOrientationVertical) {
+      height = WRAP_CONTENT;
+    } else {
+      height = MATCH_PARENT;
+    }
+
+    lithoView.setLayoutParams(new RecyclerView.LayoutParams(width, height));
+
+    final RecyclerViewLayoutManagerOverrideParams layoutParams =
+        new RecyclerViewLayoutManagerOverrideParams(
+            width, height, childrenWidthSpec, childrenHeightSpec);
+
+    lithoView.setLayoutParams(layoutParams);
+
+    unbindComponentTree(viewHolder);
+    // Marked before the tree is set so that the RangeGlyphWarmer stops drawing its text first.
+    componentTreeHolder.setIsBound(true);
+    viewHolder.boundTo = componentTreeHolder;
+    lithoView.setComponentTree(componentTreeHolder.getComponentTree());
+  }
+
+  @UiThread
+  private static void unbindComponentTree(BaseViewHolder viewHolder) {
+    if (viewHolder.boundTo != null) {
+      viewHolder.boundTo.setIsBound(false);
+      viewHolder.boundTo = null;
+    }
+  }
+
+  /**
+   * Binds an empty LithoView with the last known or estimated size of the item while its layout is
+   * calculated in the background. The ComponentTree is bound once the layout is ready, see {@link
+   * #onPlaceholderLayoutReady}.
+   */
+  @UiThread
+  private void bindPlaceholder(
+      BaseViewHolder viewHolder,
+      final ComponentTreeHolder componentTreeHolder,
+      int position,
+      int childrenWidthSpec,
+      int childrenHeightSpec) {
+    final LithoView lithoView = (LithoView) viewHolder.itemView;
+    final Size size = new Size();
+    final boolean isOrientationVertical =
+        mLayoutInfo.getScrollDirection() == OrientationHelper.VERTICAL;
+    if (!getEstimatedItemSize(position, size)) {
+      synchronized (this) {
+        // mRange.measuredSize is the size of the first item across the scroll direction.
+        final int scrollSize = getAverageItemSizeInScrollDirection();
+        final int crossSize = mRange != null ? mRange.measuredSize : 0;
+        size.width = isOrientationVertical ? crossSize : scrollSize;
+        size.height = isOrientationVertical ? scrollSize : crossSize;
       }
     }
+
+    // Only the size in the scroll direction is estimated, the other one comes from the specs.
+    final int widthSpec =
+        isOrientationVertical && SizeSpec.getMode(childrenWidthSpec) == SizeSpec.EXACTLY
+            ? childrenWidthSpec
+            : SizeSpec.makeSizeSpec(size.width, SizeSpec.EXACTLY);
+    final int heightSpec =
+        !isOrientationVertical && SizeSpec.getMode(childrenHeightSpec) == SizeSpec.EXACTLY
+            ? childrenHeightSpec
+            : SizeSpec.makeSizeSpec(size.height, SizeSpec.EXACTLY);
+
+    lithoView.setComponentTree(null);
+    unbindComponentTree(viewHolder);
+    lithoView.setLayoutParams(
+        new RecyclerViewLayoutManagerOverrideParams(
+            SizeSpec.getSize(widthSpec), SizeSpec.getSize(heightSpec), widthSpec, heightSpec));
+
+    viewHolder.placeholderFor = componentTreeHolder;
+    mPlaceholderViewHolders.put(componentTreeHolder, viewHolder);
+
+    final ComponentTree componentTree = componentTreeHolder.getComponentTree();
+    if (componentTree != null) {
+      componentTree.setNewLayoutStateReadyListener(
+          new ComponentTree.NewLayoutStateReadyListener() {
+            @Override
+            public void onNewLayoutStateReady(ComponentTree readyComponentTree) {
+              onPlaceholderLayoutReady(componentTreeHolder, readyComponentTree);
+            }
+          });
+    }
+  }
+
+  @UiThread
+  private void onPlaceholderLayoutReady(
+      ComponentTreeHolder componentTreeHolder, ComponentTree componentTree) {
+    final BaseViewHolder viewHolder = mPlaceholderViewHolders.get(componentTreeHolder);
+    if (viewHolder == null || componentTreeHolder.getComponentTree() != componentTree) {
+      componentTree.setNewLayoutStateReadyListener(null);
+      return;
+    }
+
+    final int childrenWidthSpec;
+    final int childrenHeightSpec;
+    synchronized (this) {
+      childrenWidthSpec = getActualChildrenWidthSpec(componentTreeHolder);
+      childrenHeightSpec = getActualChildrenHeightSpec(componentTreeHolder);
+    }
+
+    // The layout may have been calculated for a previous size or RenderInfo, keep waiting.
+    if (!componentTreeHolder.hasCompletedLayout(childrenWidthSpec, childrenHeightSpec)) {
+      return;
+    }
+
+    clearPlaceholder(viewHolder);
+    mAsyncBindLayoutCount++;
+    maybePostBindLayoutCountsCallback();
+    bindComponentTree(viewHolder, componentTreeHolder, childrenWidthSpec, childrenHeightSpec);
+  }
+
+  @UiThread
+  private void clearPlaceholder(BaseViewHolder viewHolder) {
+    final ComponentTreeHolder componentTreeHolder = viewHolder.placeholderFor;
+    if (componentTreeHolder == null) {
+      return;
+    }
+
+    viewHolder.placeholderFor = null;
+    if (mPlaceholderViewHolders.get(componentTreeHolder) != viewHolder) {
+      // Another view holder is now showing the placeholder for this item.
+      return;
+    }
+
+    mPlaceholderViewHolders.remove(componentTreeHolder);
+
+    final ComponentTree componentTree = componentTreeHolder.getComponentTree();
+    if (componentTree != null) {
+      componentTree.setNewLayoutStateReadyListener(null);
+    }
+  }
+
+  /**
+   * @return how many items had to be laid out synchronously on the main thread during the last
+   *     frame, because they were bound before their layout was calculated.
+   */
+  @UiThread
+  public int getSyncBindLayoutCount() {
+    return mLastFrameSyncBindLayoutCount;
+  }
+
+  /**
+   * @return how many items bound as a placeholder had their content swapped in during the last
+   *     frame, once their layout completed in the background. Only used when {@link
+   *     Builder#asyncBindFallback} is enabled.
+   */
+  @UiThread
+  public int getAsyncBindLayoutCount() {
+    return mLastFrameAsyncBindLayoutCount;
+  }
+
+  @UiThread
+  private void maybePostBindLayoutCountsCallback() {
+    if (!mIsBindLayoutCountsCallbackPosted) {
+      mIsBindLayoutCountsCallbackPosted = true;
+      ChoreographerCompatImpl.getInstance().postFrameCallback(mBindLayoutCountsCallback);
+    }
+  }
+
+  /**
+   * Runs at the start of the frame that follows the bind layouts, and moves the counts of the frame
+   * that just ended to the last frame ones. Keeps running until a frame without bind layouts, so
+   * that the last frame counts go back to 0.
+   */
+  @UiThread
+  private void onBindLayoutCountsFrame() {
+    mLastFrameSyncBindLayoutCount = mSyncBindLayoutCount;
+    mLastFrameAsyncBindLayoutCount = mAsyncBindLayoutCount;
+    mSyncBindLayoutCount = 0;
+    mAsyncBindLayoutCount = 0;
+    mIsBindLayoutCountsCallbackPosted = false;
+
+    if (mLastFrameSyncBindLayoutCount > 0 || mLastFrameAsyncBindLayoutCount > 0) {
+      maybePostBindLayoutCountsCallback();
+    }
+  }
+
+  /**
+   * LithoViews created by a {@link LithoViewFactory} may be of a custom type and are never shared
+   * with other RecyclerBinders.
+   */
+  private boolean usesSharedLithoViewPool() {
+    return ComponentsConfiguration.lithoViewPoolSize > 0 && mLithoViewFactory == null;
+  }
+
+  /**
+   * Hands the LithoViews recycled by a RecyclerView to the pool shared by all the RecyclerBinders
+   * (see {@link ComponentsPools#acquireLithoView}), rather than keeping them for this RecyclerView
+   * only. Other views are recycled as usual.
+   */
+  private static class SharedLithoViewRecycledViewPool extends RecyclerView.RecycledViewPool {
+
+    private final ComponentContext mComponentContext;
+
+    SharedLithoViewRecycledViewPool(ComponentContext componentContext) {
+      mComponentContext = componentContext;
+    }
+
+    @Override
+    public void putRecycledView(RecyclerView.ViewHolder scrap) {
+      if (scrap.getItemViewType() != COMPONENT_VIEW_TYPE
+          || !(scrap.itemView instanceof LithoView)
+          || scrap.itemView.getParent() != null) {
+        super.putRecycledView(scrap);
+        return;
+      }
+
+      ComponentsPools.release(mComponentContext, (LithoView) scrap.itemView);
+    }
   }
 
   /**
@@ -1565,13 +2603,22 @@ public class RecyclerBinder
   }
 
   private ComponentTreeHolder createComponentTreeHolder(RenderInfo renderInfo) {
-    return mComponentTreeHolderFactory.create(
-        renderInfo,
-        mLayoutHandlerFactory != null
-            ? mLayoutHandlerFactory.createLayoutCalculationHandler(renderInfo)
-            : null,
-        mCanPrefetchDisplayLists,
-        mCanCacheDrawingDisplayLists,
-        mHasDynamicItemHeight ? mComponentTreeMeasureListenerFactory : null);
+    final ComponentTreeHolder holder =
+        mComponentTreeHolderFactory.create(
+            renderInfo,
+            mLayoutHandlerFactory != null
+                ? mLayoutHandlerFactory.createLayoutCalculationHandler(renderInfo)
+                : null,
+            mCanPrefetchDisplayLists,
+            mCanCacheDrawingDisplayLists,
+            mHasDynamicItemHeight ? mComponentTreeMeasureListenerFactory : null);
+
+    if (mComponentTreePool != null) {
+      holder.setComponentTreePool(mComponentTreePool);
+    }
+    holder.setItemSizeEstimator(mItemSizeEstimator);
+    holder.setLayoutCalculatedListener(mLayoutCalculatedListener);
+
+    return holder;
   }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2017-present, Facebook, Inc.
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree. An additional grant
+ * of patent rights can be found in the PATENTS file in the same directory.
+ */
+
+package com.facebook.litho.widget;
+
+import android.support.annotation.IntDef;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Collections;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/**
+ * A single insert/update/remove/move operation to be applied as part of a batch through {@link
+ * RecyclerBinder#applyOperations(List)}. Range operations keep their items together so that a batch
+ * costs one object per operation rather than one per item.
+ */
+public final class RecyclerBinderOperation {
+
+  @IntDef({INSERT, UPDATE, REMOVE, MOVE})
+  @Retention(RetentionPolicy.SOURCE)
+  public @interface Type {}
+
+  public static final int INSERT = 0;
+  public static final int UPDATE = 1;
+  public static final int REMOVE = 2;
+  public static final int MOVE = 3;
+
+  private final @Type int mType;
+  private final int mIndex;
+  private final int mToIndex;
+  private final int mCount;
+  private final @Nullable List<RenderInfo> mRenderInfos;
+
+  private RecyclerBinderOperation(
+      @Type int type,
+      int index,
+      int toIndex,
+      int count,
+      @Nullable List<RenderInfo> renderInfos) {
+    mType = type;
+    mIndex = index;
+    mToIndex = toIndex;
+    mCount = count;
+    mRenderInfos = renderInfos;
+  }
+
+  public static RecyclerBinderOperation insert(int index, RenderInfo renderInfo) {
+    return insertRange(index, Collections.singletonList(renderInfo));
+  }
+
+  public static RecyclerBinderOperation insertRange(int index, List<RenderInfo> renderInfos) {
+    return new RecyclerBinderOperation(INSERT, index, -1, renderInfos.size(), renderInfos);
+  }
+
+  public static RecyclerBinderOperation update(int index, RenderInfo renderInfo) {
+    return updateRange(index, Collections.singletonList(renderInfo));
+  }
+
+  public static RecyclerBinderOperation updateRange(int index, List<RenderInfo> renderInfos) {
+    return new RecyclerBinderOperation(UPDATE, index, -1, renderInfos.size(), renderInfos);
+  }
+
+  public static RecyclerBinderOperation remove(int index) {
+    return removeRange(index, 1);
+  }
+
+  public static RecyclerBinderOperation removeRange(int index, int count) {
+    return new RecyclerBinderOperation(REMOVE, index, -1, count, null);
+  }
+
+  public static RecyclerBinderOperation move(int fromPosition, int toPosition) {
+    return new RecyclerBinderOperation(MOVE, fromPosition, toPosition, 1, null);
+  }
+
+  public @Type int getType() {
+    return mType;
+  }
+
+  public int getIndex() {
+    return mIndex;
+  }
+
+  /** @return the destination of a {@link #MOVE} operation, -1 for any other type. */
+  public int getToIndex() {
+    return mToIndex;
+  }
+
+  public int getCount() {
+    return mCount;
+  }
+
+  /** @return the items of an {@link #INSERT} or {@link #UPDATE}, null for any other type. */
+  @Nullable
+  public List<RenderInfo> getRenderInfos() {
+    return mRenderInfos;
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2017-present, Facebook, Inc.
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree. An additional grant
+ * of patent rights can be found in the PATENTS file in the same directory.
+ */
+
+package com.facebook.litho.widget;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the layouts of the items of a {@link RecyclerBinder} that recently left the layout range,
+ * so that they can be mounted right away if they come back in range. Layouts are evicted in least
+ * recently retained order once either the number of retained layouts or their total estimated size
+ * goes over budget. This class is not thread safe, accesses are guarded by the owning {@link
+ * RecyclerBinder}.
+ */
+class RetainedLayoutsCache {
+
+  private final int mMaxCount;
+  private final int mMaxSizeBytes;
+  private final LinkedHashMap<ComponentTreeHolder, Integer> mRetainedLayouts =
+      new LinkedHashMap<>();
+  private int mSizeBytes;
+
+  RetainedLayoutsCache(int maxCount, int maxSizeBytes) {
+    mMaxCount = maxCount;
+    mMaxSizeBytes = maxSizeBytes;
+  }
+
+  boolean isEnabled() {
+    return mMaxCount > 0 && mMaxSizeBytes > 0;
+  }
+
+  boolean contains(ComponentTreeHolder holder) {
+    return mRetainedLayouts.containsKey(holder);
+  }
+
+  /**
+   * Retains the layout of holder, adding to outEvicted the holders whose layouts don't fit in the
+   * budget anymore and should be released. holder itself is evicted right away if its layout alone
+   * is over budget.
+   */
+  void retain(ComponentTreeHolder holder, int sizeBytes, List<ComponentTreeHolder> outEvicted) {
+    if (sizeBytes > mMaxSizeBytes) {
+      outEvicted.add(holder);
+      return;
+    }
+
+    final Integer previousSizeBytes = mRetainedLayouts.put(holder, sizeBytes);
+    mSizeBytes += sizeBytes - (previousSizeBytes == null ? 0 : previousSizeBytes);
+
+    final Iterator<Map.Entry<ComponentTreeHolder, Integer>> iterator =
+        mRetainedLayouts.entrySet().iterator();
+    while ((mRetainedLayouts.size() > mMaxCount || mSizeBytes > mMaxSizeBytes)
+        && iterator.hasNext()) {
+      final Map.Entry<ComponentTreeHolder, Integer> eldest = iterator.next();
+      mSizeBytes -= eldest.getValue();
+      outEvicted.add(eldest.getKey());
+      iterator.remove();
+    }
+  }
+
+  /** @return whether the layout of holder was retained. */
+  boolean remove(ComponentTreeHolder holder) {
+    final Integer sizeBytes = mRetainedLayouts.remove(holder);
+    if (sizeBytes == null) {
+      return false;
+    }
+
+    mSizeBytes -= sizeBytes;
+    return true;
+  }
+
+  void evictAll(List<ComponentTreeHolder> outEvicted) {
+    outEvicted.addAll(mRetainedLayouts.keySet());
+    mRetainedLayouts.clear();
+    mSizeBytes = 0;
+  }
+
+  int getSizeBytes() {
+    return mSizeBytes;
+  }
+}
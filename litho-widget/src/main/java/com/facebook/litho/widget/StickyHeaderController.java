@@ -38,6 +38,9 @@ class StickyHeaderController extends RecyclerView.OnScrollListener {
   private RecyclerView.LayoutManager mLayoutManager;
   private View lastTranslatedView;
   private int previousStickyHeaderPosition = RecyclerView.NO_POSITION;
+  // Last translation applied, so that frames in which it doesn't change do no work.
+  private float lastTranslationY = Float.NaN;
+  private int lastStickyHeaderVerticalOffset = Integer.MIN_VALUE;
 
   StickyHeaderController(HasStickyHeader hasStickyHeader) {
     mHasStickyHeader = hasStickyHeader;
@@ -70,6 +73,10 @@ class StickyHeaderController extends RecyclerView.OnScrollListener {
     mRecyclerViewWrapper.getRecyclerView().removeOnScrollListener(this);
     mLayoutManager = null;
     mRecyclerViewWrapper = null;
+    lastTranslatedView = null;
+    lastTranslationY = Float.NaN;
+    lastStickyHeaderVerticalOffset = Integer.MIN_VALUE;
+    previousStickyHeaderPosition = RecyclerView.NO_POSITION;
   }
 
   @Override
@@ -90,12 +97,12 @@ class StickyHeaderController extends RecyclerView.OnScrollListener {
       // Reset previously modified view
       lastTranslatedView.setTranslationY(0);
       lastTranslatedView = null;
+      lastTranslationY = Float.NaN;
     }
 
     if (stickyHeaderPosition == RecyclerView.NO_POSITION || firstVisibleItemComponentTree == null) {
       // no sticky header above first visible position, reset the state
-      mRecyclerViewWrapper.hideStickyHeader();
-      previousStickyHeaderPosition = RecyclerView.NO_POSITION;
+      hideStickyHeader();
       return;
     }
 
@@ -110,38 +117,55 @@ class StickyHeaderController extends RecyclerView.OnScrollListener {
       // the first one which is undesirable.
       if (!mHasStickyHeader.isValidPosition(stickyHeaderPosition + 1) ||
           !mHasStickyHeader.isSticky(stickyHeaderPosition + 1)) {
-        firstVisibleView.setTranslationY(-firstVisibleView.getTop());
+        final float translationY = -firstVisibleView.getTop();
+        if (firstVisibleView != lastTranslatedView || translationY != lastTranslationY) {
+          firstVisibleView.setTranslationY(translationY);
+          lastTranslationY = translationY;
+        }
       }
 
       lastTranslatedView = firstVisibleView;
-      mRecyclerViewWrapper.hideStickyHeader();
-      previousStickyHeaderPosition = RecyclerView.NO_POSITION;
+      hideStickyHeader();
     } else {
 
       if (mRecyclerViewWrapper.isStickyHeaderHidden()
           || stickyHeaderPosition != previousStickyHeaderPosition) {
         initStickyHeader(stickyHeaderPosition);
         mRecyclerViewWrapper.showStickyHeader();
+        lastStickyHeaderVerticalOffset = Integer.MIN_VALUE;
       }
 
       // Translate sticky header
       final int lastVisiblePosition = mHasStickyHeader.findLastVisibleItemPosition();
+      final int nextStickyHeaderPosition =
+          mHasStickyHeader.findNextStickyHeaderPosition(firstVisiblePosition);
       int translationY = 0;
-      for (int i = firstVisiblePosition; i <= lastVisiblePosition; i++) {
-        if (mHasStickyHeader.isSticky(i)) {
-          final View nextStickyHeader = mLayoutManager.findViewByPosition(i);
-          final int offsetBetweenStickyHeaders = nextStickyHeader.getTop()
-              - mRecyclerViewWrapper.getStickyHeader().getBottom()
-              + mRecyclerViewWrapper.getPaddingTop();
-          translationY = Math.min(offsetBetweenStickyHeaders, 0);
-          break;
-        }
+      if (nextStickyHeaderPosition != RecyclerView.NO_POSITION
+          && nextStickyHeaderPosition <= lastVisiblePosition) {
+        final View nextStickyHeader = mLayoutManager.findViewByPosition(nextStickyHeaderPosition);
+        final int offsetBetweenStickyHeaders = nextStickyHeader.getTop()
+            - mRecyclerViewWrapper.getStickyHeader().getBottom()
+            + mRecyclerViewWrapper.getPaddingTop();
+        translationY = Math.min(offsetBetweenStickyHeaders, 0);
+      }
+
+      if (translationY != lastStickyHeaderVerticalOffset) {
+        mRecyclerViewWrapper.setStickyHeaderVerticalOffset(translationY);
+        lastStickyHeaderVerticalOffset = translationY;
       }
-      mRecyclerViewWrapper.setStickyHeaderVerticalOffset(translationY);
       previousStickyHeaderPosition = stickyHeaderPosition;
     }
   }
 
+  private void hideStickyHeader() {
+    if (previousStickyHeaderPosition != RecyclerView.NO_POSITION
+        || !mRecyclerViewWrapper.isStickyHeaderHidden()) {
+      mRecyclerViewWrapper.hideStickyHeader();
+    }
+    previousStickyHeaderPosition = RecyclerView.NO_POSITION;
+    lastStickyHeaderVerticalOffset = Integer.MIN_VALUE;
+  }
+
   private void initStickyHeader(int stickyHeaderPosition) {
     final ComponentTree componentTree = mHasStickyHeader.getComponentAt(stickyHeaderPosition);
     // RecyclerView might not have yet detached the view that this componentTree bound to,
@@ -164,11 +188,6 @@ class StickyHeaderController extends RecyclerView.OnScrollListener {
 
   @VisibleForTesting(otherwise = VisibleForTesting.PRIVATE)
   int findStickyHeaderPosition(int currentFirstVisiblePosition) {
-    for (int i = currentFirstVisiblePosition; i >= 0; i--) {
-      if (mHasStickyHeader.isSticky(i)) {
-        return i;
-      }
-    }
-    return RecyclerView.NO_POSITION;
+    return mHasStickyHeader.findStickyHeaderPosition(currentFirstVisiblePosition);
   }
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2017-present, Facebook, Inc.
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree. An additional grant
+ * of patent rights can be found in the PATENTS file in the same directory.
+ */
+
+package com.facebook.litho.widget;
+
+import android.support.v7.widget.RecyclerView;
+import java.util.Arrays;
+
+/**
+ * Sorted set of the positions of the sticky items of a {@link RecyclerBinder}. It is kept up to
+ * date as items are inserted, removed, moved and updated so that the closest sticky item to a
+ * position can be found with a binary search instead of visiting every item in between. This class
+ * is not thread safe, accesses are guarded by the owning {@link RecyclerBinder}.
+ */
+class StickyPositionIndex {
+
+  private int[] mPositions = new int[8];
+  private int mSize;
+
+  /** Shifts the positions at or after position to make room for count new non-sticky items. */
+  void insert(int position, int count) {
+    for (int i = ceilingIndex(position); i < mSize; i++) {
+      mPositions[i] += count;
+    }
+  }
+
+  /** Forgets the count items starting at position and shifts the following positions back. */
+  void remove(int position, int count) {
+    final int start = ceilingIndex(position);
+    final int end = ceilingIndex(position + count);
+
+    System.arraycopy(mPositions, end, mPositions, start, mSize - end);
+    mSize -= end - start;
+
+    for (int i = start; i < mSize; i++) {
+      mPositions[i] -= count;
+    }
+  }
+
+  void move(int fromPosition, int toPosition) {
+    final boolean wasSticky = isSticky(fromPosition);
+    remove(fromPosition, 1);
+    insert(toPosition, 1);
+    if (wasSticky) {
+      setSticky(toPosition, true);
+    }
+  }
+
+  void setSticky(int position, boolean isSticky) {
+    final int index = Arrays.binarySearch(mPositions, 0, mSize, position);
+    if (isSticky == index >= 0) {
+      return;
+    }
+
+    if (isSticky) {
+      final int insertionIndex = -(index + 1);
+      if (mSize == mPositions.length) {
+        mPositions = Arrays.copyOf(mPositions, mSize * 2);
+      }
+      System.arraycopy(
+          mPositions, insertionIndex, mPositions, insertionIndex + 1, mSize - insertionIndex);
+      mPositions[insertionIndex] = position;
+      mSize++;
+    } else {
+      System.arraycopy(mPositions, index + 1, mPositions, index, mSize - index - 1);
+      mSize--;
+    }
+  }
+
+  boolean isSticky(int position) {
+    return Arrays.binarySearch(mPositions, 0, mSize, position) >= 0;
+  }
+
+  /**
+   * @return the greatest sticky position that is less than or equal to position, or {@link
+   *     RecyclerView#NO_POSITION} if there is none.
+   */
+  int floor(int position) {
+    final int index = ceilingIndex(position + 1) - 1;
+    return index >= 0 ? mPositions[index] : RecyclerView.NO_POSITION;
+  }
+
+  /**
+   * @return the smallest sticky position that is greater than or equal to position, or {@link
+   *     RecyclerView#NO_POSITION} if there is none.
+   */
+  int ceiling(int position) {
+    final int index = ceilingIndex(position);
+    return index < mSize ? mPositions[index] : RecyclerView.NO_POSITION;
+  }
+
+  /** @return the index of the first stored position that is greater than or equal to position. */
+  private int ceilingIndex(int position) {
+    final int index = Arrays.binarySearch(mPositions, 0, mSize, position);
+    return index >= 0 ? index : -(index + 1);
+  }
+}
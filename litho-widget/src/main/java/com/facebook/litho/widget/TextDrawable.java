@@ -55,6 +55,7 @@ public class TextDrawable extends Drawable implements Touchable, TextContent, Dr
   private int mUserColor;
   private int mHighlightColor;
   private ClickableSpan[] mClickableSpans;
+  private @Nullable ClickableSpanIndex mClickableSpanIndex;
   private ImageSpan[] mImageSpans;
 
   private int mSelectionStart;
@@ -272,10 +273,45 @@ public class TextDrawable extends Drawable implements Touchable, TextContent, Dr
       int highlightStartOffset,
       int highlightEndOffset,
       float clickableSpanExpandedOffset) {
+    mount(
+        text,
+        layout,
+        layoutTranslationY,
+        colorStateList,
+        userColor,
+        highlightColor,
+        clickableSpans,
+        null,
+        imageSpans,
+        textOffsetOnTouchListener,
+        highlightStartOffset,
+        highlightEndOffset,
+        clickableSpanExpandedOffset);
+  }
+
+  /**
+   * @param clickableSpanIndex an index of clickableSpans in layout, used to resolve touches on
+   *     them. When null, touches are resolved against the layout and the spans of text.
+   */
+  public void mount(
+      CharSequence text,
+      Layout layout,
+      float layoutTranslationY,
+      ColorStateList colorStateList,
+      int userColor,
+      int highlightColor,
+      ClickableSpan[] clickableSpans,
+      @Nullable ClickableSpanIndex clickableSpanIndex,
+      ImageSpan[] imageSpans,
+      TextOffsetOnTouchListener textOffsetOnTouchListener,
+      int highlightStartOffset,
+      int highlightEndOffset,
+      float clickableSpanExpandedOffset) {
     mLayout = layout;
     mLayoutTranslationY = layoutTranslationY;
     mText = text;
     mClickableSpans = clickableSpans;
+    mClickableSpanIndex = clickableSpanIndex;
     if (mLongClickHandler == null && containsLongClickableSpan(clickableSpans)) {
       mLongClickHandler = new Handler();
     }
@@ -312,6 +348,26 @@ public class TextDrawable extends Drawable implements Touchable, TextContent, Dr
     invalidateSelf();
   }
 
+  /**
+   * Updates the highlighted range of the mounted text and the color it's highlighted with, as
+   * {@link #mount} would.
+   */
+  public void setHighlight(int highlightColor, int highlightStartOffset, int highlightEndOffset) {
+    if (mHighlightColor != highlightColor) {
+      mHighlightColor = highlightColor;
+      if (mHighlightPaint != null) {
+        mHighlightPaint.setColor(highlightColor);
+      }
+      invalidateSelf();
+    }
+
+    if (highlightOffsetsValid(mText, highlightStartOffset, highlightEndOffset)) {
+      setSelection(highlightStartOffset, highlightEndOffset);
+    } else {
+      clearSelection();
+    }
+  }
+
   private static boolean containsLongClickableSpan(@Nullable ClickableSpan[] clickableSpans) {
     if (clickableSpans == null) {
       return false;
@@ -335,6 +391,7 @@ public class TextDrawable extends Drawable implements Touchable, TextContent, Dr
     mLayoutTranslationY = 0;
     mText = null;
     mClickableSpans = null;
+    mClickableSpanIndex = null;
     mShouldHandleTouch = false;
     mHighlightColor = 0;
     mTextOffsetOnTouchListener = null;
@@ -389,6 +446,10 @@ public class TextDrawable extends Drawable implements Touchable, TextContent, Dr
    */
   @Nullable
   private ClickableSpan getClickableSpanInCoords(int x, int y) {
+    if (mClickableSpanIndex != null) {
+      return mClickableSpanIndex.getClickableSpanAt(x, y);
+    }
+
     final int offset = getTextOffsetAt(x, y);
     if (offset < 0) {
       return null;
@@ -437,6 +498,10 @@ public class TextDrawable extends Drawable implements Touchable, TextContent, Dr
       float x,
       float y,
       float tapRadius) {
+    if (mClickableSpanIndex != null) {
+      return mClickableSpanIndex.getClickableSpanInProximity(x, y, tapRadius);
+    }
+
     final Region touchAreaRegion = new Region();
     final Region clipBoundsRegion = new Region();
 
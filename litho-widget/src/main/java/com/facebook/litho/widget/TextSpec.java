@@ -71,6 +71,7 @@ import com.facebook.litho.annotations.OnMount;
 import com.facebook.litho.annotations.OnPopulateAccessibilityNode;
 import com.facebook.litho.annotations.OnPopulateExtraAccessibilityNode;
 import com.facebook.litho.annotations.OnUnmount;
+import com.facebook.litho.annotations.OnUpdateProps;
 import com.facebook.litho.annotations.Prop;
 import com.facebook.litho.annotations.PropDefault;
 import com.facebook.litho.annotations.ResType;
@@ -720,12 +721,14 @@ class TextSpec {
       @Prop(optional = true) int hyphenationFrequency,
       @Prop(optional = true) boolean glyphWarming,
       @Prop(optional = true) TextDirectionHeuristicCompat textDirection,
+      @Prop(optional = true, resType = ResType.DIMEN_TEXT) float clickableSpanExpandedOffset,
       @FromMeasure Layout measureLayout,
       @FromMeasure Integer measuredWidth,
       @FromMeasure Integer measuredHeight,
       Output<Layout> textLayout,
       Output<Float> textLayoutTranslationY,
       Output<ClickableSpan[]> clickableSpans,
+      Output<ClickableSpanIndex> clickableSpanIndex,
       Output<ImageSpan[]> imageSpans) {
 
     if (TextUtils.isEmpty(text)) {
@@ -801,6 +804,11 @@ class TextSpec {
     if (text instanceof Spanned) {
       Spanned spanned = (Spanned) text;
       clickableSpans.set(spanned.getSpans(0, text.length(), ClickableSpan.class));
+      // Exact touches are cheap to resolve from the Layout, only proximity needs the index.
+      if (clickableSpanExpandedOffset > 0 && clickableSpans.get().length > 0) {
+        clickableSpanIndex.set(
+            ClickableSpanIndex.create(textLayout.get(), spanned, clickableSpans.get()));
+      }
       imageSpans.set(spanned.getSpans(0, text.length(), ImageSpan.class));
     }
   }
@@ -825,6 +833,7 @@ class TextSpec {
       @FromBoundsDefined Layout textLayout,
       @FromBoundsDefined Float textLayoutTranslationY,
       @FromBoundsDefined ClickableSpan[] clickableSpans,
+      @FromBoundsDefined ClickableSpanIndex clickableSpanIndex,
       @FromBoundsDefined ImageSpan[] imageSpans) {
 
     TextDrawable.TextOffsetOnTouchListener textOffsetOnTouchListener = null;
@@ -845,6 +854,7 @@ class TextSpec {
         textColor,
         highlightColor,
         clickableSpans,
+        clickableSpanIndex,
         imageSpans,
         textOffsetOnTouchListener,
         highlightStartOffset,
@@ -868,6 +878,16 @@ class TextSpec {
     }
   }
 
+  @OnUpdateProps
+  static void onUpdateProps(
+      ComponentContext c,
+      TextDrawable textDrawable,
+      @Prop(optional = true, resType = ResType.COLOR) int highlightColor,
+      @Prop(optional = true) int highlightStartOffset,
+      @Prop(optional = true) int highlightEndOffset) {
+    textDrawable.setHighlight(highlightColor, highlightStartOffset, highlightEndOffset);
+  }
+
   @OnPopulateAccessibilityNode
   static void onPopulateAccessibilityNode(
       AccessibilityNodeInfoCompat node,